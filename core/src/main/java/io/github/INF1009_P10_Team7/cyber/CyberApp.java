@@ -4,9 +4,12 @@ import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 
+import io.github.INF1009_P10_Team7.cyber.level.TileMap;
 import io.github.INF1009_P10_Team7.cyber.scenes.SettingsScene;
 import io.github.INF1009_P10_Team7.engine.core.GameEngine;
 import io.github.INF1009_P10_Team7.engine.collision.ICollisionSystem;
+import io.github.INF1009_P10_Team7.engine.collision.SpatialHashBroadPhase;
+import io.github.INF1009_P10_Team7.engine.collision.SweptCircleCollisionDetection;
 import io.github.INF1009_P10_Team7.engine.entity.IEntityQuery;
 import io.github.INF1009_P10_Team7.engine.entity.IEntitySystem;
 import io.github.INF1009_P10_Team7.engine.inputoutput.IAudioController;
@@ -24,6 +27,8 @@ import io.github.INF1009_P10_Team7.engine.scene.SceneNavigator;
  */
 public class CyberApp extends ApplicationAdapter {
 
+    private static final float SIMULATION_HZ = 60f;
+
     private GameEngine engine;
 
     @Override
@@ -31,6 +36,8 @@ public class CyberApp extends ApplicationAdapter {
         Gdx.app.log("CyberMazeEscape", "CyberApp starting...");
 
         engine = new GameEngine();
+        // Simulate at a steady 60 Hz whatever the refresh rate; rendering interpolates
+        engine.setFixedTimestep(SIMULATION_HZ, GameEngine.DEFAULT_MAX_STEPS_PER_FRAME);
 
         IInputController   input           = engine.getInput();
         IAudioController   audio           = engine.getAudio();
@@ -40,6 +47,38 @@ public class CyberApp extends ApplicationAdapter {
         ICollisionSystem   collisionSystem = engine.getCollisionSystem();
         IMovementSystem    movementSystem  = engine.getMovementSystem();
 
+        configureEngine(engine);
+
+        // Scene factory wiring
+        // Settings scene lives under cyber.scenes to avoid simulation coupling.
+        final CyberSceneFactory[] factoryRef = new CyberSceneFactory[1];
+        factoryRef[0] = new CyberSceneFactory(
+            input, audio, nav, entityQuery,
+            entitySystem, collisionSystem, movementSystem,
+            engine.getSteeringSystem(), engine.getRandom(),
+            () -> new SettingsScene(input, audio, nav, factoryRef[0])
+        );
+        CyberSceneFactory factory = factoryRef[0];
+
+        nav.setScene(factory.createBootScene());
+        Gdx.app.log("CyberMazeEscape", "Engine initialised. Launching boot scene.");
+    }
+
+    /**
+     * Applies the game's collision setup and key bindings to an engine.
+     * Shared with headless runs so they simulate exactly what players get.
+     *
+     * @param engine a windowed or headless engine
+     */
+    public static void configureEngine(GameEngine engine) {
+        IInputController input           = engine.getInput();
+        ICollisionSystem collisionSystem = engine.getCollisionSystem();
+
+        // Broad phase: two-tile cells cover the largest trigger radii in a few cells
+        collisionSystem.setBroadPhase(new SpatialHashBroadPhase(TileMap.TILE_SIZE * 2f));
+        // Swept detection so fast chasing drones cannot tunnel through the player
+        collisionSystem.setDetector(new SweptCircleCollisionDetection());
+
         // Key bindings: deviceID 0 = Keyboard, deviceID 1 = Mouse
         input.bindInput("START_GAME",   0, Input.Keys.SPACE);
         input.bindInput("BOOT_SKIP",    1, Input.Buttons.LEFT);
@@ -51,24 +90,12 @@ public class CyberApp extends ApplicationAdapter {
         input.bindInput("DOWN",         0, Input.Keys.S);
         input.bindInput("INTERACT",     0, Input.Keys.E);
         input.bindInput("HELP",         0, Input.Keys.H);
+        input.bindInput("DEBUG_COLLISION", 0, Input.Keys.F3);
 
         input.bindInput("MENU_LEFT",    0, Input.Keys.LEFT);
         input.bindInput("MENU_RIGHT",   0, Input.Keys.RIGHT);
         input.bindInput("MENU_CONFIRM", 0, Input.Keys.ENTER);
         input.bindInput("MENU_BACK",    0, Input.Keys.ESCAPE);
-
-        // Scene factory wiring
-        // Settings scene lives under cyber.scenes to avoid simulation coupling.
-        final CyberSceneFactory[] factoryRef = new CyberSceneFactory[1];
-        factoryRef[0] = new CyberSceneFactory(
-            input, audio, nav, entityQuery,
-            entitySystem, collisionSystem, movementSystem,
-            () -> new SettingsScene(input, audio, nav, factoryRef[0])
-        );
-        CyberSceneFactory factory = factoryRef[0];
-
-        nav.setScene(factory.createBootScene());
-        Gdx.app.log("CyberMazeEscape", "Engine initialised. Launching boot scene.");
     }
 
     @Override
@@ -5,6 +5,7 @@ import java.util.Map;
 import java.util.function.Supplier;
 
 import io.github.INF1009_P10_Team7.engine.collision.ICollisionSystem;
+import io.github.INF1009_P10_Team7.engine.core.IRandomService;
 import io.github.INF1009_P10_Team7.engine.entity.IEntityQuery;
 import io.github.INF1009_P10_Team7.engine.entity.IEntitySystem;
 import io.github.INF1009_P10_Team7.engine.inputoutput.IAudioController;
@@ -12,6 +13,7 @@ import io.github.INF1009_P10_Team7.engine.inputoutput.IInputController;
 import io.github.INF1009_P10_Team7.engine.map.ILevelMapRuntime;
 import io.github.INF1009_P10_Team7.engine.map.tiled.TiledLevelMapRuntime;
 import io.github.INF1009_P10_Team7.engine.movement.IMovementSystem;
+import io.github.INF1009_P10_Team7.engine.movement.ISteeringSystem;
 import io.github.INF1009_P10_Team7.engine.scene.Scene;
 import io.github.INF1009_P10_Team7.engine.scene.SceneFactory;
 import io.github.INF1009_P10_Team7.engine.scene.SceneNavigator;
@@ -61,7 +63,10 @@ public class CyberSceneFactory implements SceneFactory {
     private final IEntitySystem     entitySystem;
     private final ICollisionSystem  collisionSystem;
     private final IMovementSystem   movementSystem;
+    private final ISteeringSystem   steeringSystem;
+    private final IRandomService    random;
     private final Supplier<Scene>   settingsSceneSupplier;
+    private boolean                 headless;
 
     /**
      * Registry of level number → LevelConfig supplier (OCP).
@@ -74,6 +79,8 @@ public class CyberSceneFactory implements SceneFactory {
                               IEntitySystem entitySystem,
                               ICollisionSystem collisionSystem,
                               IMovementSystem movementSystem,
+                              ISteeringSystem steeringSystem,
+                              IRandomService random,
                               Supplier<Scene> settingsSceneSupplier) {
         this.input                 = input;
         this.audio                 = audio;
@@ -82,6 +89,8 @@ public class CyberSceneFactory implements SceneFactory {
         this.entitySystem          = entitySystem;
         this.collisionSystem       = collisionSystem;
         this.movementSystem        = movementSystem;
+        this.steeringSystem        = steeringSystem;
+        this.random                = random;
         this.settingsSceneSupplier = settingsSceneSupplier;
 
         // Register all available levels, add new levels here only (OCP)
@@ -89,6 +98,14 @@ public class CyberSceneFactory implements SceneFactory {
         levelConfigs.put(2, Level2Config::new);
     }
 
+    /**
+     * Makes game scenes created from now on skip sprites and rendering, for
+     * runs on an engine from {@code GameEngine.headless}.
+     */
+    public void setHeadless(boolean headless) {
+        this.headless = headless;
+    }
+
     public Scene createBootScene() {
         return new LinuxBootScene(input, audio, nav, this);
     }
@@ -129,7 +146,7 @@ public class CyberSceneFactory implements SceneFactory {
             TileMap.TILE_SIZE
         );
         return new CyberGameScene(input, audio, nav,
-            entitySystem, collisionSystem, movementSystem, this, config, mapRuntime);
+            entityQuery, entitySystem, collisionSystem, movementSystem, steeringSystem, random, this, config, mapRuntime, headless);
     }
 
     public Scene createCutsceneScene(int level) {
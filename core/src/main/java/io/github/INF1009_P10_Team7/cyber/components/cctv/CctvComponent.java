@@ -27,4 +27,5 @@ public class CctvComponent implements IComponent {
     @Override public void onAdded(Entity owner) { }
     @Override public void onRemoved(Entity owner) { }
     @Override public void update(float deltaTime) { }
+    @Override public boolean isThreadSafe() { return true; }
 }
@@ -1,9 +1,9 @@
 package io.github.INF1009_P10_Team7.cyber.components.cctv;
 
-import java.util.List;
-
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
-import io.github.INF1009_P10_Team7.engine.entity.GameEntity;
+import io.github.INF1009_P10_Team7.engine.entity.Archetype;
+import io.github.INF1009_P10_Team7.engine.entity.ComponentType;
+import io.github.INF1009_P10_Team7.engine.entity.EntityQuery;
 import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
@@ -12,8 +12,11 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
  */
 public class CctvDetectionSystem {
 
+    private static final ComponentType<CctvComponent> CCTV = ComponentType.of(CctvComponent.class);
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+
     public boolean updateAlerts(
-        List<GameEntity> cctvEntities,
+        EntityQuery cctvQuery,
         boolean[] cctvAlerted,
         Vector2 playerPos,
         IWorldCollisionQuery mapCollision,
@@ -24,38 +27,54 @@ public class CctvDetectionSystem {
         float coneLen = tileSize * 2.6f;
         float halfFov = 28f;
 
-        for (GameEntity cameraEntity : cctvEntities) {
-            CctvComponent cctv = cameraEntity.getComponent(CctvComponent.class);
-            TransformComponent transform = cameraEntity.getComponent(TransformComponent.class);
-            if (cctv == null || transform == null) continue;
-            int ci = cctv.getCameraIndex();
-            if (ci < 0 || ci >= cctvAlerted.length) continue;
-
-            float cx = transform.getPosition().x;
-            float cy = transform.getPosition().y;
-            float phase = ci * 1.3f;
-            float panAng = (float) Math.sin(stateTime * 0.7f + phase) * 40f;
-            float totalAng = cctv.getBaseAngle() + panAng;
-
-            float pdx = playerPos.x - cx;
-            float pdy = playerPos.y - cy;
-            float pDist = (float) Math.sqrt(pdx * pdx + pdy * pdy);
-            if (pDist > coneLen) { cctvAlerted[ci] = false; continue; }
-
-            float angleToPlayer = (float) Math.toDegrees(Math.atan2(pdy, pdx));
-            float angleDiff = angleToPlayer - totalAng;
-            while (angleDiff > 180f) angleDiff -= 360f;
-            while (angleDiff < -180f) angleDiff += 360f;
-            if (Math.abs(angleDiff) > halfFov) { cctvAlerted[ci] = false; continue; }
-
-            if (!mapCollision.hasLineOfSight(cx, cy, playerPos.x, playerPos.y)) {
-                cctvAlerted[ci] = false;
-                continue;
+        for (int a = 0; a < cctvQuery.getArchetypeCount(); a++) {
+            Archetype archetype = cctvQuery.getArchetype(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                if (updateCamera(archetype.get(row, CCTV), archetype.get(row, TRANSFORM),
+                        cctvAlerted, playerPos, mapCollision, coneLen, halfFov, stateTime)) {
+                    anyVisible = true;
+                }
             }
-
-            cctvAlerted[ci] = true;
-            anyVisible = true;
         }
         return anyVisible;
     }
+
+    private boolean updateCamera(
+        CctvComponent cctv,
+        TransformComponent transform,
+        boolean[] cctvAlerted,
+        Vector2 playerPos,
+        IWorldCollisionQuery mapCollision,
+        float coneLen,
+        float halfFov,
+        float stateTime
+    ) {
+        int ci = cctv.getCameraIndex();
+        if (ci < 0 || ci >= cctvAlerted.length) return false;
+
+        float cx = transform.getPosition().x;
+        float cy = transform.getPosition().y;
+        float phase = ci * 1.3f;
+        float panAng = (float) Math.sin(stateTime * 0.7f + phase) * 40f;
+        float totalAng = cctv.getBaseAngle() + panAng;
+
+        float pdx = playerPos.x - cx;
+        float pdy = playerPos.y - cy;
+        float pDist = (float) Math.sqrt(pdx * pdx + pdy * pdy);
+        if (pDist > coneLen) { cctvAlerted[ci] = false; return false; }
+
+        float angleToPlayer = (float) Math.toDegrees(Math.atan2(pdy, pdx));
+        float angleDiff = angleToPlayer - totalAng;
+        while (angleDiff > 180f) angleDiff -= 360f;
+        while (angleDiff < -180f) angleDiff += 360f;
+        if (Math.abs(angleDiff) > halfFov) { cctvAlerted[ci] = false; return false; }
+
+        if (!mapCollision.hasLineOfSight(cx, cy, playerPos.x, playerPos.y)) {
+            cctvAlerted[ci] = false;
+            return false;
+        }
+
+        cctvAlerted[ci] = true;
+        return true;
+    }
 }
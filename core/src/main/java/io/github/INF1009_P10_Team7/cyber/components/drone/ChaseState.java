@@ -1,5 +1,6 @@
 package io.github.INF1009_P10_Team7.cyber.components.drone;
 
+import io.github.INF1009_P10_Team7.engine.collision.CircleMoveResult;
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
@@ -21,6 +22,10 @@ public class ChaseState implements DroneState {
      */
     private static final float CHASE_LEASH_MULTIPLIER = 1.0f;
 
+    // Steered velocity, reused every frame
+    private final Vector2 velocity = new Vector2();
+    private final CircleMoveResult move = new CircleMoveResult();
+
     @Override
     public void enter(DroneAI ai) {
         ai.setAlertLevel(1f);
@@ -57,56 +62,25 @@ public class ChaseState implements DroneState {
         }
 
         float speed = ai.getChaseSpeed() * 0.78f;
-        float nextX = pos.x + dirX * speed * dt;
-        float nextY = pos.y + dirY * speed * dt;
-
-        float[] resolved = map.resolveCircleVsWalls(nextX, nextY, ai.getRadius());
-        float moved = Math.abs(resolved[0] - pos.x) + Math.abs(resolved[1] - pos.y);
+        ai.steer(dirX * speed, dirY * speed, map, velocity);
+        // Slides along walls on its own; only a dead stop needs the side-step
+        map.moveCircle(pos.x, pos.y, ai.getRadius(), velocity.x * dt, velocity.y * dt, move);
 
         float minMove = speed * dt * 0.01f;
-        if (moved < minMove) {
-            // if stuck use x only first then y only (if and only if stuck)
-            float[] slideX = map.resolveCircleVsWalls(
-                pos.x + dirX * speed * dt, pos.y, ai.getRadius());
-            float movedX = Math.abs(slideX[0] - pos.x) + Math.abs(slideX[1] - pos.y);
-
-            float[] slideY = map.resolveCircleVsWalls(
-                pos.x, pos.y + dirY * speed * dt, ai.getRadius());
-            float movedY = Math.abs(slideY[0] - pos.x) + Math.abs(slideY[1] - pos.y);
-
-            if (movedX >= movedY && movedX > moved) {
-                pos.x = slideX[0]; pos.y = slideX[1];
-            } else if (movedY > moved) {
-                pos.x = slideY[0]; pos.y = slideY[1];
-            } else {
-                // 45 degree walk last attempt
-                float sideX = -dirY;
-                float sideY = dirX;
-
-                float[] sideA = map.resolveCircleVsWalls(
-                    pos.x + sideX * speed * 0.82f * dt,
-                    pos.y + sideY * speed * 0.82f * dt,
-                    ai.getRadius());
-                float movedA = Math.abs(sideA[0] - pos.x) + Math.abs(sideA[1] - pos.y);
-
-                float[] sideB = map.resolveCircleVsWalls(
-                    pos.x - sideX * speed * 0.82f * dt,
-                    pos.y - sideY * speed * 0.82f * dt,
-                    ai.getRadius());
-                float movedB = Math.abs(sideB[0] - pos.x) + Math.abs(sideB[1] - pos.y);
-
-                if (movedA >= movedB && movedA > moved) {
-                    pos.x = sideA[0]; pos.y = sideA[1];
-                } else if (movedB > moved) {
-                    pos.x = sideB[0]; pos.y = sideB[1];
-                } else {
-                    lostSightTimer += dt;
-                }
+        if (move.getDistance() < minMove) {
+            // 45 degree walk last attempt
+            float sideX = -dirY * speed * 0.82f * dt;
+            float sideY = dirX * speed * 0.82f * dt;
+            map.moveCircle(pos.x, pos.y, ai.getRadius(), sideX, sideY, move);
+            if (move.getDistance() < minMove) {
+                map.moveCircle(pos.x, pos.y, ai.getRadius(), -sideX, -sideY, move);
+            }
+            if (move.getDistance() < minMove) {
+                lostSightTimer += dt;
             }
-        } else {
-            pos.x = resolved[0];
-            pos.y = resolved[1];
         }
+        pos.x = move.getX();
+        pos.y = move.getY();
 
         boolean canSee = map.hasLineOfSight(pos.x, pos.y, playerPos.x, playerPos.y)
                          && dist < ai.getSightRange() * CHASE_LEASH_MULTIPLIER;
@@ -1,6 +1,10 @@
 package io.github.INF1009_P10_Team7.cyber.components.drone;
 
+import java.util.Random;
+
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
+import io.github.INF1009_P10_Team7.engine.movement.ISteeringSystem;
+import io.github.INF1009_P10_Team7.engine.movement.SteeringAgent;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
 /**
@@ -27,6 +31,11 @@ public class DroneAI {
     private final float[][] patrolWaypoints;
 
     private DroneState currentState;
+    // Source of patrol variation; replaced by a seeded stream for reproducible runs
+    private Random random = new Random();
+    // Optional crowd steering; without it drones head straight for their target
+    private ISteeringSystem steering;
+    private SteeringAgent steeringAgent;
     private float alertLevel = 0f;
     private float stateTime  = 0f;
     /*
@@ -70,6 +79,42 @@ public class DroneAI {
         this(startX, startY, null, 48f, 84f, 110f, 65f);
     }
 
+    /*
+     * Uses the given stream for all random choices from now on, and restarts
+     * the patrol so even the initial choices come from it. Call before the
+     * first update.
+     */
+    public void setRandom(Random random) {
+        this.random = random;
+        transitionTo(new PatrolState(patrolWaypoints));
+    }
+
+    public Random getRandom() { return random; }
+
+    /*
+     * Joins the steering system as an agent, so chasing and searching drones
+     * keep apart from each other and turn away from walls ahead.
+     */
+    public void setSteering(ISteeringSystem steering) {
+        if (this.steering != null && steeringAgent != null) {
+            this.steering.removeAgent(steeringAgent);
+        }
+        this.steering = steering;
+        this.steeringAgent = steering != null ? steering.addAgent(position, radius) : null;
+    }
+
+    /*
+     * Turns a desired velocity into the one to move with: unchanged without
+     * steering, otherwise adjusted for nearby drones and walls.
+     */
+    public void steer(float desiredX, float desiredY, IWorldCollisionQuery map, Vector2 out) {
+        if (steering == null) {
+            out.set(desiredX, desiredY);
+        } else {
+            steering.steer(steeringAgent, desiredX, desiredY, map, out);
+        }
+    }
+
     public void update(IWorldCollisionQuery map, Vector2 playerPos, float dt) {
         stateTime  += dt;
         rotorAngle += dt * (currentState.getName().equals("CHASE") ? 900f : 400f);
@@ -4,6 +4,7 @@ import java.util.List;
 
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
 import io.github.INF1009_P10_Team7.engine.entity.Entity;
+import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
 import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
 import io.github.INF1009_P10_Team7.engine.movement.MovementBehaviour;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
@@ -14,9 +15,20 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
  *
  * <p>The drone's state machine still decides behaviour, but the engine
  * calls this behaviour each frame and updates the entity Transform.</p>
+ *
+ * <p>If the entity has a {@link PhysicComponent}, its velocity is set to
+ * the displacement the drone actually made this frame, so swept collision
+ * detection can see how fast the drone is moving.</p>
+ *
+ * <p>Dormant drones are moved with one long delta every few frames. That
+ * delta is split into steps of at most {@link #MAX_STEP} so wall sliding,
+ * stuck detection and waypoint arrival behave as they do at full rate.</p>
  */
 public class DroneAIMovementBehaviour implements MovementBehaviour {
 
+    /** Longest single state-machine step, in seconds. */
+    static final float MAX_STEP = 1f / 20f;
+
     private final IWorldCollisionQuery mapCollision;
     private final Vector2 playerPosSnapshot;
     private final List<DroneAI> newlyChasingOut;
@@ -41,8 +53,16 @@ public class DroneAIMovementBehaviour implements MovementBehaviour {
         DroneAI drone = droneComponent.getDrone();
         if (drone == null) { return; }
 
+        float startX = drone.getPosition().x;
+        float startY = drone.getPosition().y;
+
         boolean wasChasing = "CHASE".equals(drone.getStateName());
-        drone.update(mapCollision, playerPosSnapshot, deltaTime);
+        float remaining = deltaTime;
+        do {
+            float step = Math.min(remaining, MAX_STEP);
+            drone.update(mapCollision, playerPosSnapshot, step);
+            remaining -= step;
+        } while (remaining > 1e-6f);
         boolean nowChasing = "CHASE".equals(drone.getStateName());
 
         if (newlyChasingOut != null && !wasChasing && nowChasing) {
@@ -54,5 +74,17 @@ public class DroneAIMovementBehaviour implements MovementBehaviour {
         if (tc != null) {
             tc.getPosition().set(drone.getPosition().x, drone.getPosition().y);
         }
+
+        // Report the frame's displacement as velocity for swept collision.
+        PhysicComponent pc = entity.getComponent(PhysicComponent.class);
+        if (pc != null) {
+            if (deltaTime > 0f) {
+                pc.getVelocity().set(
+                    (drone.getPosition().x - startX) / deltaTime,
+                    (drone.getPosition().y - startY) / deltaTime);
+            } else {
+                pc.getVelocity().set(0f, 0f);
+            }
+        }
     }
 }
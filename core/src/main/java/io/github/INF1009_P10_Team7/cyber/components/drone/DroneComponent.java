@@ -2,17 +2,23 @@ package io.github.INF1009_P10_Team7.cyber.components.drone;
 
 import io.github.INF1009_P10_Team7.engine.entity.Entity;
 import io.github.INF1009_P10_Team7.engine.entity.IComponent;
+import io.github.INF1009_P10_Team7.engine.entity.IPoolable;
 import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
 
 /**
  * Entity component that attaches a DroneAI instance to an engine entity.
  * Keeps the entity transform synced to the drone position for render/query use.
+ * Poolable: the drone reference is cleared on reset and set again after obtain.
  */
-public class DroneComponent implements IComponent {
+public class DroneComponent implements IComponent, IPoolable {
 
-    private final DroneAI drone;
+    private DroneAI drone;
     private Entity owner;
 
+    public DroneComponent() {
+        this(null);
+    }
+
     public DroneComponent(DroneAI drone) {
         this.drone = drone;
     }
@@ -21,6 +27,17 @@ public class DroneComponent implements IComponent {
         return drone;
     }
 
+    public void setDrone(DroneAI drone) {
+        this.drone = drone;
+        syncTransform();
+    }
+
+    @Override
+    public void reset() {
+        drone = null;
+        owner = null;
+    }
+
     @Override
     public void onAdded(Entity owner) {
         this.owner = owner;
@@ -37,6 +54,12 @@ public class DroneComponent implements IComponent {
         syncTransform();
     }
 
+    // Only copies this entity's own drone position into its own transform.
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     private void syncTransform() {
         if (owner == null || drone == null) return;
         TransformComponent tc = owner.getComponent(TransformComponent.class);
@@ -1,6 +1,9 @@
 package io.github.INF1009_P10_Team7.cyber.components.drone;
 
+import java.util.Random;
+
 import io.github.INF1009_P10_Team7.cyber.level.TileMap;
+import io.github.INF1009_P10_Team7.engine.collision.CircleMoveResult;
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
@@ -41,6 +44,9 @@ public class PatrolState implements DroneState {
     private static final float STUCK_TIMEOUT   = 0.35f;
     private static final float STUCK_THRESHOLD = 1.2f;
 
+    // Result of the wall-sliding move, reused every frame
+    private final CircleMoveResult move = new CircleMoveResult();
+
     // Waypoint dwell, random pause at each waypoint
     private float waypointPauseTimer = 0f;
     private static final float PAUSE_MIN = 3f;
@@ -64,6 +70,9 @@ public class PatrolState implements DroneState {
     private static final float GLANCE_WAIT_MAX = 3.5f;
     private static final float GLANCE_MAX_DEG  = 55f;
 
+    // The drone's seeded stream, picked up in enter()
+    private Random random;
+
     private static final float ROT_SWEEP_DEG_S = 30f;
     private static final float ROT_SNAP_DEG_S  = 80f;
     private static final float ROT_MOVE_DEG_S  = 120f;
@@ -80,6 +89,7 @@ public class PatrolState implements DroneState {
 
     @Override
     public void enter(DroneAI ai) {
+        random = ai.getRandom();
         waypoints = new float[patrolTiles.length][2];
         for (int i = 0; i < patrolTiles.length; i++) {
             waypoints[i][0] = TileMap.tileCentreX((int) patrolTiles[i][0]);
@@ -88,7 +98,7 @@ public class PatrolState implements DroneState {
 
         // 20% chance to reverse the circuit so drones with identical waypoints
         // can orbit in opposite directions, preventing synchronised movement
-        reverseOrder = (Math.random() < 0.20);
+        reverseOrder = (random.nextFloat() < 0.20f);
 
         // Pick nearest waypoint as start
         float bestDist = Float.MAX_VALUE;
@@ -119,7 +129,7 @@ public class PatrolState implements DroneState {
         // Apply periodic speed perturbation for natural movement variation
         speedChangeTimer -= dt;
         if (speedChangeTimer <= 0f) {
-            speedMult        = 1.0f + (float)(Math.random() * 2.0 - 1.0) * SPEED_JITTER;
+            speedMult        = 1.0f + (random.nextFloat() * 2f - 1f) * SPEED_JITTER;
             speedMult        = Math.max(0.72f, Math.min(1.28f, speedMult));
             speedChangeTimer = randomBetween(SPEED_CHANGE * 0.6f, SPEED_CHANGE * 1.4f);
         }
@@ -139,32 +149,12 @@ public class PatrolState implements DroneState {
             resetGlanceWait();
         } else {
             // Moving toward current waypoint
-            float speed = ai.getPatrolSpeed() * speedMult;
-            float nextX = pos.x + (dx / dist) * speed * dt;
-            float nextY = pos.y + (dy / dist) * speed * dt;
-
-            float[] resolved = map.resolveCircleVsWalls(nextX, nextY, ai.getRadius());
-            float moved = Math.abs(resolved[0] - pos.x) + Math.abs(resolved[1] - pos.y);
-
-            if (moved < 0.5f) {
-                float[] slideX = map.resolveCircleVsWalls(
-                    pos.x + (dx / dist) * speed * dt, pos.y, ai.getRadius());
-                float[] slideY = map.resolveCircleVsWalls(
-                    pos.x, pos.y + (dy / dist) * speed * dt, ai.getRadius());
-                float movedX = Math.abs(slideX[0] - pos.x) + Math.abs(slideX[1] - pos.y);
-                float movedY = Math.abs(slideY[0] - pos.x) + Math.abs(slideY[1] - pos.y);
-
-                if (movedX > movedY && movedX > moved) {
-                    pos.x = slideX[0]; pos.y = slideX[1];
-                } else if (movedY > moved) {
-                    pos.x = slideY[0]; pos.y = slideY[1];
-                } else {
-                    pos.x = resolved[0]; pos.y = resolved[1];
-                }
-            } else {
-                pos.x = resolved[0];
-                pos.y = resolved[1];
-            }
+            // Never step past the waypoint, even on a long (dormant) tick
+            float step = Math.min(ai.getPatrolSpeed() * speedMult * dt, dist);
+            map.moveCircle(pos.x, pos.y, ai.getRadius(),
+                (dx / dist) * step, (dy / dist) * step, move);
+            pos.x = move.getX();
+            pos.y = move.getY();
 
             // Smooth turn toward waypoint
             float targetAngle = (float) Math.toDegrees(Math.atan2(dy, dx));
@@ -289,7 +279,7 @@ public class PatrolState implements DroneState {
     }
 
     private float randomBetween(float min, float max) {
-        return min + (float)(Math.random() * (max - min));
+        return min + random.nextFloat() * (max - min);
     }
 
     private float angleDiff(float a, float b) {
@@ -1,7 +1,9 @@
 package io.github.INF1009_P10_Team7.cyber.components.drone;
 
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+import io.github.INF1009_P10_Team7.engine.collision.CircleMoveResult;
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
+import io.github.INF1009_P10_Team7.engine.movement.Steering;
 
 /**
  * SearchState, drone AI state for investigating a last-known player position.
@@ -31,6 +33,12 @@ public class SearchState implements DroneState {
     private static final float STUCK_TIMEOUT   = 0.6f;
     private static final float STUCK_THRESHOLD = 1.0f;
 
+    // Drones slow down inside this distance, so a dispatched group spreads
+    // around the target instead of piling onto it
+    private static final float ARRIVE_RADIUS = 40f;
+    private final Vector2 velocity = new Vector2();
+    private final CircleMoveResult move = new CircleMoveResult();
+
     public SearchState(float targetX, float targetY) {
         this(targetX, targetY, 1.2f);
     }
@@ -60,11 +68,11 @@ public class SearchState implements DroneState {
 
         if (dist > 6f) {
             float speed = ai.getPatrolSpeed() * 0.95f;
-            float nextX = pos.x + (dx / dist) * speed * dt;
-            float nextY = pos.y + (dy / dist) * speed * dt;
-            float[] resolved = map.resolveCircleVsWalls(nextX, nextY, ai.getRadius());
-            pos.x = resolved[0];
-            pos.y = resolved[1];
+            Steering.arrive(pos.x, pos.y, targetX, targetY, speed, ARRIVE_RADIUS, velocity);
+            ai.steer(velocity.x, velocity.y, map, velocity);
+            map.moveCircle(pos.x, pos.y, ai.getRadius(), velocity.x * dt, velocity.y * dt, move);
+            pos.x = move.getX();
+            pos.y = move.getY();
             // Smooth turn toward last known position (150 deg/s max)
             float targetAngle = (float)Math.toDegrees(Math.atan2(dy, dx));
             float aDiff = angleDiff(targetAngle, ai.getFacingAngle());
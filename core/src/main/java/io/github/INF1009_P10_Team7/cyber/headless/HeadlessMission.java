@@ -0,0 +1,138 @@
+package io.github.INF1009_P10_Team7.cyber.headless;
+
+import io.github.INF1009_P10_Team7.cyber.CyberApp;
+import io.github.INF1009_P10_Team7.cyber.CyberSceneFactory;
+import io.github.INF1009_P10_Team7.cyber.scenes.CyberGameScene;
+import io.github.INF1009_P10_Team7.engine.core.GameEngine;
+import io.github.INF1009_P10_Team7.engine.inputoutput.IRawInputSink;
+import io.github.INF1009_P10_Team7.engine.inputoutput.ScriptedInputDevice;
+
+/**
+ * HeadlessMission, runs one level of the game without a window.
+ *
+ * <p>Builds a {@link GameEngine#headless headless engine} with the same
+ * collision setup and key bindings as {@link CyberApp}, loads a
+ * {@link CyberGameScene} without sprites or renderer, and ticks it with a
+ * fixed delta as fast as possible. Each tick an {@link IInputScript} decides
+ * which keys are held, which makes automated playtests and bulk mission
+ * statistics possible.</p>
+ *
+ * <p>The level map is still read through {@code Gdx.files}, so a LibGDX
+ * backend must be initialised (the {@code headless} launcher module uses
+ * LibGDX's headless backend). Missions share no state and can run on
+ * separate threads. The settings menu is not available: a script must not
+ * press the SETTINGS key.</p>
+ *
+ * <p>With the same seed, script and step a run is fully reproducible, which
+ * also makes {@link #getEngine()}'s input recording usable from here.</p>
+ */
+public final class HeadlessMission {
+
+    /** Decides the input for each tick. */
+    public interface IInputScript {
+        /**
+         * @param tick ticks run so far
+         * @param keyboard held keys for this tick; state persists until changed
+         * @param rawInput typed characters and key-down events, e.g. for terminals
+         * @param scene the running level, for reading its state
+         */
+        void apply(int tick, ScriptedInputDevice keyboard, IRawInputSink rawInput, CyberGameScene scene);
+    }
+
+    /** Outcome of one run. */
+    public static final class Result {
+        public final boolean victory;
+        public final boolean gameOver;
+        public final int ticks;
+        public final float missionSeconds;
+        public final int keysCollected;
+        public final int respawnsUsed;
+
+        Result(CyberGameScene scene, int ticks) {
+            this.victory = scene.isVictory();
+            this.gameOver = scene.isGameOver();
+            this.ticks = ticks;
+            this.missionSeconds = scene.getMissionElapsed();
+            this.keysCollected = scene.getKeysCollected();
+            this.respawnsUsed = scene.getRespawnsUsed();
+        }
+
+        @Override
+        public String toString() {
+            String outcome = victory ? "VICTORY" : gameOver ? "GAME_OVER" : "TIMEOUT";
+            return outcome + " ticks=" + ticks + " time=" + missionSeconds
+                + "s keys=" + keysCollected + " respawns=" + respawnsUsed;
+        }
+    }
+
+    private final ScriptedInputDevice keyboard = ScriptedInputDevice.keyboard();
+    private final ScriptedInputDevice mouse = ScriptedInputDevice.mouse();
+    private final GameEngine engine;
+    private final CyberGameScene scene;
+    private final float step;
+
+    /**
+     * @param level level number, as in {@link CyberSceneFactory#createGameScene(int)}
+     * @param step simulated seconds per tick, e.g. {@code 1f / 60f}
+     */
+    public HeadlessMission(int level, float step) {
+        this(level, step, System.nanoTime());
+    }
+
+    /**
+     * @param level level number, as in {@link CyberSceneFactory#createGameScene(int)}
+     * @param step simulated seconds per tick, e.g. {@code 1f / 60f}
+     * @param seed master seed for drones, CCTV dispatch and mini-games
+     */
+    public HeadlessMission(int level, float step, long seed) {
+        if (!(step > 0f)) {
+            throw new IllegalArgumentException("step must be > 0");
+        }
+        this.step = step;
+        engine = GameEngine.headless(keyboard, mouse);
+        CyberApp.configureEngine(engine);
+        engine.setSeed(seed);
+
+        CyberSceneFactory factory = new CyberSceneFactory(
+            engine.getInput(), engine.getAudio(), engine.getNavigator(), engine.getEntityQuery(),
+            engine.getEntitySystem(), engine.getCollisionSystem(), engine.getMovementSystem(),
+            engine.getSteeringSystem(), engine.getRandom(),
+            () -> { throw new IllegalStateException("Settings are not available in a headless run"); });
+        factory.setHeadless(true);
+        scene = (CyberGameScene) factory.createGameScene(level);
+        engine.getNavigator().setScene(scene);
+    }
+
+    /**
+     * Ticks the level until it is won or lost, or {@code maxTicks} run out.
+     *
+     * @param maxTicks upper bound on ticks
+     * @param script input for each tick; {@code null} leaves the player idle
+     * @return the outcome
+     */
+    public Result run(int maxTicks, IInputScript script) {
+        int tick = 0;
+        while (tick < maxTicks) {
+            if (script != null) {
+                script.apply(tick, keyboard, engine.getRawInput(), scene);
+            }
+            engine.update(step);
+            tick++;
+            if (scene.isMissionOver()) break;
+        }
+        return new Result(scene, tick);
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    public CyberGameScene getScene() {
+        return scene;
+    }
+
+    /** Releases the level and the engine. */
+    public void dispose() {
+        engine.dispose();
+    }
+}
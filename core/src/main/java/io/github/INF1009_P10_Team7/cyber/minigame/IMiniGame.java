@@ -1,5 +1,7 @@
 package io.github.INF1009_P10_Team7.cyber.minigame;
 
+import java.util.Random;
+
 import io.github.INF1009_P10_Team7.engine.inputoutput.IInputController;
 import io.github.INF1009_P10_Team7.engine.render.MiniGameRenderContext;
 
@@ -56,4 +58,13 @@ public interface IMiniGame extends IInputController.ITextInputListener {
      * drone detection (panic exit) rather than a normal exit
      */
     boolean wasPanicked();
+
+    /**
+     * Supplies the stream for any random choices, e.g. which puzzle variant
+     * to show, so recorded runs replay the same puzzles. Mini-games without
+     * randomness ignore it.
+     *
+     * @param random a seeded stream
+     */
+    default void setRandom(Random random) { }
 }
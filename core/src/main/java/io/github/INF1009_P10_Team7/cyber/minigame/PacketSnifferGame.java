@@ -81,7 +81,12 @@ public class PacketSnifferGame implements IMiniGame {
     private float stateTime = 0f, wrongFlash = 0f, solveTimer = 0f;
     private int packetIdx = 0;
     private final StringBuilder inputBuf = new StringBuilder();
-    private final Random rng = new Random();
+    private Random rng = new Random();
+
+    @Override
+    public void setRandom(Random random) {
+        this.rng = random;
+    }
 
     @Override
     public void open() {
@@ -20,6 +20,7 @@ import io.github.INF1009_P10_Team7.cyber.player.PlayerState;
 import io.github.INF1009_P10_Team7.cyber.minigame.IMiniGame;
 import io.github.INF1009_P10_Team7.cyber.scenes.CyberWorldRenderer;
 
+import io.github.INF1009_P10_Team7.engine.collision.CollisionStats;
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
 import io.github.INF1009_P10_Team7.engine.entity.GameEntity;
 import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
@@ -32,6 +33,7 @@ import io.github.INF1009_P10_Team7.engine.inputoutput.IInputController;
 import io.github.INF1009_P10_Team7.engine.render.IShapeDraw;
 import io.github.INF1009_P10_Team7.engine.render.ISpriteDraw;
 import io.github.INF1009_P10_Team7.engine.render.ITextDraw;
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
 /**
  * CyberGameRenderer, owns all LibGDX rendering objects for CyberGameScene.
@@ -181,8 +183,10 @@ public class CyberGameRenderer {
         boolean[] cctvAlerted,
         int[][] cameraPositions,
         DroneAI[] drones,
+        float[] droneDrawPos,
         GameEntity playerEntity,
         TransformComponent playerTc,
+        Vector2 playerDrawPos,
         IWorldCollisionQuery collisionMgr,
         float[] pX,
         float[] pY,
@@ -194,7 +198,8 @@ public class CyberGameRenderer {
         float frameDelta,
         IMiniGame activeChallenge,
         int nearbyIdx,
-        String[] challengeTitles
+        String[] challengeTitles,
+        CollisionStats collisionDebug
     ) {
         if (sr == null || batch == null) return;
 
@@ -209,7 +214,7 @@ public class CyberGameRenderer {
         mapRuntime.render(camera);
 
         renderExitDoorFromMap(tmxExitX, tmxExitY, exitUnlocked);
-        worldRenderer.renderRoomProps(cameraPositions, drones, cctvAlerted,
+        worldRenderer.renderRoomProps(cameraPositions, drones, droneDrawPos, cctvAlerted,
             playerEntity, collisionMgr, stateTime);
 
         worldRenderer.renderCheckpointBeacon(stateTime, checkpointX, checkpointY);
@@ -222,8 +227,9 @@ public class CyberGameRenderer {
         worldRenderer.renderExitGuidance(stateTime, exitUnlocked,
             playerEntity, tmxExitX, tmxExitY);
 
-        renderPlayer(playerEntity, playerTc, frameDelta);
+        renderPlayer(playerEntity, playerDrawPos, frameDelta);
         renderParticles(pX, pY, pR, pG, pB, pLife, particleCount);
+        hudRenderer.renderCollisionDebugWorld(collisionDebug);
 
         // Mini-game pass
         if (activeChallenge != null && activeChallenge.isOpen()) {
@@ -260,6 +266,7 @@ public class CyberGameRenderer {
             drones, stateTime);
 
         hudRenderer.renderThreatIndicator(playerTc, drones, stateTime);
+        hudRenderer.renderCollisionStats(collisionDebug);
         hudRenderer.renderChaseWarning(stateTime, chaseWarningTimer);
 
         if (bannerTimer > 0f && (activeChallenge == null || !activeChallenge.isOpen())) {
@@ -295,10 +302,10 @@ public class CyberGameRenderer {
         batch.end();
     }
 
-    private void renderPlayer(GameEntity playerEntity, TransformComponent tc, float frameDelta) {
-        if (playerEntity == null || tc == null) return;
-        float px = tc.getPosition().x;
-        float py = tc.getPosition().y;
+    private void renderPlayer(GameEntity playerEntity, Vector2 drawPos, float frameDelta) {
+        if (playerEntity == null || drawPos == null) return;
+        float px = drawPos.x;
+        float py = drawPos.y;
         float r = PLAYER_RADIUS;
 
         if (playerAnimator != null) {
@@ -6,6 +6,7 @@ import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.utils.Align;
 
+import io.github.INF1009_P10_Team7.engine.collision.CollisionStats;
 import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
 import io.github.INF1009_P10_Team7.engine.render.IShapeDraw;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
@@ -442,6 +443,74 @@ public class CyberHudRenderer {
         batch.end();
     }
 
+    /**
+     * Debug overlay, world pass: broad-phase cells under each body, body
+     * circles (green awake, grey asleep, blue static) and contact normals.
+     * Must be called with the world camera's projection.
+     */
+    public void renderCollisionDebugWorld(CollisionStats stats) {
+        if (stats == null || !stats.isCaptureShapes()) return;
+        float cell = stats.getCellSize();
+
+        sr.beginLine();
+        if (cell > 0f) {
+            sr.setColor(0.95f, 0.85f, 0.20f, 0.22f);
+            for (int i = 0; i < stats.getBodyCount(); i++) {
+                float x = stats.getBodyX(i), y = stats.getBodyY(i), r = stats.getBodyRadius(i);
+                int x0 = (int) Math.floor((x - r) / cell), x1 = (int) Math.floor((x + r) / cell);
+                int y0 = (int) Math.floor((y - r) / cell), y1 = (int) Math.floor((y + r) / cell);
+                for (int cy = y0; cy <= y1; cy++) {
+                    for (int cx = x0; cx <= x1; cx++) {
+                        sr.rect(cx * cell, cy * cell, cell, cell);
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < stats.getBodyCount(); i++) {
+            byte kind = stats.getBodyKind(i);
+            if (kind == CollisionStats.BODY_STATIC)        sr.setColor(0.30f, 0.60f, 1f, 0.75f);
+            else if (kind == CollisionStats.BODY_SLEEPING) sr.setColor(0.55f, 0.55f, 0.60f, 0.75f);
+            else                                           sr.setColor(0.30f, 1f, 0.45f, 0.85f);
+            sr.circle(stats.getBodyX(i), stats.getBodyY(i), stats.getBodyRadius(i), 20);
+        }
+
+        sr.setColor(1f, 0.25f, 0.85f, 1f);
+        for (int i = 0; i < stats.getContactCount(); i++) {
+            float x = stats.getContactX(i), y = stats.getContactY(i);
+            sr.line(x, y, x + stats.getContactNormalX(i) * 16f, y + stats.getContactNormalY(i) * 16f);
+        }
+        sr.end();
+    }
+
+    /** Debug overlay, HUD pass: per-frame collision counters and timings. */
+    public void renderCollisionStats(CollisionStats stats) {
+        if (stats == null) return;
+        float x = 8f, y = 168f, w = 236f, h = 132f;
+
+        sr.beginFilled();
+        sr.setColor(0.02f, 0.03f, 0.06f, 0.80f);
+        sr.rect(x, y - h, w, h);
+        sr.setColor(1f, 0.25f, 0.85f, 0.65f);
+        sr.rect(x, y - h, 2f, h);
+        sr.end();
+
+        batch.begin();
+        float lx = x + 10f, line = 14f, rowY = y - 8f;
+        hudSmallFont.setColor(1f, 0.55f, 0.90f, 1f);
+        hudSmallFont.draw(batch, "COLLISION // DEBUG" + (stats.isParallel() ? "  [MT]" : ""), lx, rowY);
+        hudSmallFont.setColor(0.85f, 0.90f, 0.95f, 0.95f);
+        hudSmallFont.draw(batch, "bodies  " + stats.getDynamicBodies() + " dyn / "
+            + stats.getSleepingBodies() + " zzz / " + stats.getStaticBodies() + " static", lx, rowY - line);
+        hudSmallFont.draw(batch, "culled  " + stats.getPairsCulled() + " of " + stats.getPotentialPairs(), lx, rowY - line * 2f);
+        hudSmallFont.draw(batch, "tested  " + stats.getPairsTested() + "  (filtered " + stats.getPairsFiltered() + ")", lx, rowY - line * 3f);
+        hudSmallFont.draw(batch, "contacts " + stats.getContacts() + "  (carried " + stats.getCarriedContacts() + ")", lx, rowY - line * 4f);
+        hudSmallFont.draw(batch, "events  " + stats.getEvents() + "   allocs " + stats.getAllocations(), lx, rowY - line * 5f);
+        hudSmallFont.draw(batch, String.format("detect %.3f ms  dispatch %.3f ms",
+            stats.getDetectNanos() / 1e6f, stats.getDispatchNanos() / 1e6f), lx, rowY - line * 6f);
+        batch.end();
+    }
+
     /**
      * Renders the victory or game-over overlay directly on the HUD layer.
      * Shown when {@code gameOver} or {@code victory} is {@code true}.
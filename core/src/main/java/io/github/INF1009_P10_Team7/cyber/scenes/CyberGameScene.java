@@ -1,16 +1,29 @@
 package io.github.INF1009_P10_Team7.cyber.scenes;
 
-import io.github.INF1009_P10_Team7.engine.collision.CollisionInfo;
-import io.github.INF1009_P10_Team7.engine.collision.IContinuousCollisionResponse;
+import java.util.Random;
+
+import io.github.INF1009_P10_Team7.engine.collision.CircleMoveResult;
+import io.github.INF1009_P10_Team7.engine.collision.CollisionEventBuffer;
+import io.github.INF1009_P10_Team7.engine.collision.CollisionEventType;
+import io.github.INF1009_P10_Team7.engine.collision.CollisionResolution;
+import io.github.INF1009_P10_Team7.engine.collision.ICollidable;
+import io.github.INF1009_P10_Team7.engine.collision.ICollisionListener;
 import io.github.INF1009_P10_Team7.engine.collision.ICollisionSystem;
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
+import io.github.INF1009_P10_Team7.engine.core.IRandomService;
+import io.github.INF1009_P10_Team7.engine.entity.Archetype;
+import io.github.INF1009_P10_Team7.engine.entity.ComponentType;
+import io.github.INF1009_P10_Team7.engine.entity.EntityPool;
+import io.github.INF1009_P10_Team7.engine.entity.EntityQuery;
 import io.github.INF1009_P10_Team7.engine.entity.GameEntity;
+import io.github.INF1009_P10_Team7.engine.entity.IEntityQuery;
 import io.github.INF1009_P10_Team7.engine.entity.IEntitySystem;
 import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
 import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
 import io.github.INF1009_P10_Team7.engine.inputoutput.IAudioController;
 import io.github.INF1009_P10_Team7.engine.inputoutput.IInputController;
 import io.github.INF1009_P10_Team7.engine.movement.IMovementSystem;
+import io.github.INF1009_P10_Team7.engine.movement.ISteeringSystem;
 import io.github.INF1009_P10_Team7.engine.movement.InputDrivenMovement;
 import io.github.INF1009_P10_Team7.engine.map.ILevelMapRuntime;
 import io.github.INF1009_P10_Team7.engine.scene.Scene;
@@ -52,15 +65,31 @@ import io.github.INF1009_P10_Team7.cyber.observer.GameEventSystem;
  */
 public class CyberGameScene extends Scene {
 
+    private static final ComponentType<DroneComponent> DRONE = ComponentType.of(DroneComponent.class);
+    private static final ComponentType<TerminalComponent> TERMINAL = ComponentType.of(TerminalComponent.class);
+    private static final ComponentType<CctvComponent> CCTV = ComponentType.of(CctvComponent.class);
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+    private static final ComponentType<PhysicComponent> PHYSIC = ComponentType.of(PhysicComponent.class);
+
     private final IEntitySystem    entitySystem;
+    // Level entities come from the pool and are recycled when the level is cleared
+    private final EntityPool       entityPool;
     private final ICollisionSystem collisionSystem;
     private final IMovementSystem  movementSystem;
+    // Keeps converging drones apart (CCTV dispatch, chases)
+    private final ISteeringSystem  steeringSystem;
     private final CyberSceneFactory factory;
     private final LevelConfig config;
     private final ILevelMapRuntime mapRuntime;
+    // Seeded streams, so a recorded mission replays the same dispatches and particles
+    private final IRandomService random;
+    private final Random cctvRandom;
+    private final Random fxRandom;
 
     private final CyberSprites sprites = new CyberSprites();
     private CyberGameRenderer renderer;
+    // Headless runs simulate the level without loading sprites or the renderer
+    private final boolean headless;
 
     // Map runtime support
     private IWorldCollisionQuery collisionMgr;
@@ -68,16 +97,36 @@ public class CyberGameScene extends Scene {
     private float   stateTime  = 0f;
 
     private GameEntity playerEntity;
+    // Collision debug overlay (toggled with DEBUG_COLLISION)
+    private boolean collisionDebug = false;
     private static final float PLAYER_RADIUS = 10f;
+    // Drones beyond this distance from the player tick at a reduced rate.
+    // Covers the 640x352 camera view plus a few tiles of margin.
+    private static final float ACTIVE_RADIUS = TileMap.TILE_SIZE * 15f;
+
+    // Collision layers: only player-vs-something pairs matter to this scene
+    private static final int LAYER_PLAYER   = 1;
+    private static final int LAYER_DRONE    = 1 << 1;
+    private static final int LAYER_TERMINAL = 1 << 2;
+    private static final int LAYER_CLUE     = 1 << 3;
+    private static final int LAYER_EXIT     = 1 << 4;
 
     private int[][]    terminalTiles;
     private boolean[]  terminalSolved;
     private IMiniGame[] challenges;
     private int        KEYS_REQUIRED;
-    private final java.util.List<GameEntity> droneEntities = new java.util.ArrayList<>();
     private final java.util.List<DroneAI> newlyChasingDrones = new java.util.ArrayList<>();
-    private final java.util.List<GameEntity> terminalEntities = new java.util.ArrayList<>();
-    private final java.util.List<GameEntity> cctvEntities = new java.util.ArrayList<>();
+    // Cached entity views; they track spawns and removals on their own
+    private final EntityQuery droneQuery;
+    private final EntityQuery terminalQuery;
+    private final EntityQuery cctvQuery;
+    // Reused snapshots handed to the renderer, reallocated only when the count changes
+    private DroneAI[] droneSnapshot = new DroneAI[0];
+    private int[][] cameraSnapshot = new int[0][3];
+    // Interpolated draw positions for the current frame, reused every frame
+    private float[] droneDrawPositions = new float[0];
+    private final Vector2 playerDrawPos = new Vector2();
+    private final Vector2 drawPos = new Vector2();
     private final CctvDetectionSystem cctvDetectionSystem = new CctvDetectionSystem();
     private int[]      playerStartTile;
 
@@ -99,6 +148,8 @@ public class CyberGameScene extends Scene {
 
     // Snapshot used by drone movement behaviours (MovementSystem runs after onUpdate).
     private final Vector2 playerPosSnapshot = new Vector2(0f, 0f);
+    // Scratch result for wall clamps of the player and spawn points
+    private final CircleMoveResult playerMove = new CircleMoveResult();
     private boolean pendingDroneCatch = false;
     private boolean interactPressedThisFrame = false;
 
@@ -118,54 +169,23 @@ public class CyberGameScene extends Scene {
     private int respawnsRemaining;
     private int respawnsUsed = 0;
     private float protectionTimer = 0f;
-    // Continuous response: keeps proximity state fresh every frame while overlapping.
-    private final IContinuousCollisionResponse cyberCollisionResponse = new IContinuousCollisionResponse() {
+    // Collision listener: rebuilds proximity state once per frame from the
+    // batched ENTER/STAY events. Every collidable here is a PASS_THROUGH sensor.
+    private final ICollisionListener proximityListener = new ICollisionListener() {
         @Override
-        public void resolve(io.github.INF1009_P10_Team7.engine.collision.ICollidable obj1,
-                            io.github.INF1009_P10_Team7.engine.collision.ICollidable obj2,
-                            CollisionInfo info) {
+        public void onCollisionEvents(CollisionEventBuffer events) {
             if (playerEntity == null) return;
 
-            boolean aIsPlayer = obj1 == playerEntity;
-            boolean bIsPlayer = obj2 == playerEntity;
-            if (!aIsPlayer && !bIsPlayer) return;
-
-            io.github.INF1009_P10_Team7.engine.collision.ICollidable other = aIsPlayer ? obj2 : obj1;
-            if (!(other instanceof GameEntity)) return;
-            GameEntity otherEntity = (GameEntity) other;
-
-            // Drone catch
-            if (protectionTimer <= 0f && otherEntity.getComponent(DroneComponent.class) != null) {
-                pendingDroneCatch = true;
-                return;
-            }
+            for (int i = 0; i < events.size(); i++) {
+                if (events.getType(i) == CollisionEventType.EXIT) continue;
 
-            // Terminal proximity
-            TerminalComponent terminalComponent = otherEntity.getComponent(TerminalComponent.class);
-            if (terminalComponent != null) {
-                TransformComponent pt = playerEntity.getComponent(TransformComponent.class);
-                TransformComponent tt = otherEntity.getComponent(TransformComponent.class);
-                if (pt != null && tt != null) {
-                    float dx = pt.getPosition().x - tt.getPosition().x;
-                    float dy = pt.getPosition().y - tt.getPosition().y;
-                    float d2 = dx * dx + dy * dy;
-                    if (d2 < nearbyTerminalDist2) {
-                        nearbyTerminalDist2 = d2;
-                        nearbyTerminalIdx = terminalComponent.getTerminalIndex();
-                    }
+                ICollidable a = events.getFirst(i);
+                ICollidable b = events.getSecond(i);
+                if (a == playerEntity) {
+                    onPlayerContact(b);
+                } else if (b == playerEntity) {
+                    onPlayerContact(a);
                 }
-                return;
-            }
-
-            // Clue proximity
-            if (clueByEntity.containsKey(otherEntity)) {
-                nearbyClueEntity = otherEntity;
-                return;
-            }
-
-            // Exit trigger proximity
-            if (otherEntity == exitTriggerEntity) {
-                overlappingExit = true;
             }
         }
     };
@@ -205,19 +225,33 @@ public class CyberGameScene extends Scene {
 
     public CyberGameScene(IInputController input, IAudioController audio,
                           SceneNavigator nav,
+                          IEntityQuery entityQuery,
                           IEntitySystem entitySystem,
                           ICollisionSystem collisionSystem,
                           IMovementSystem movementSystem,
+                          ISteeringSystem steeringSystem,
+                          IRandomService random,
                           CyberSceneFactory factory,
                           LevelConfig config,
-                          ILevelMapRuntime mapRuntime) {
+                          ILevelMapRuntime mapRuntime,
+                          boolean headless) {
         super(input, audio, nav);
+        this.headless        = headless;
         this.entitySystem    = entitySystem;
         this.collisionSystem = collisionSystem;
         this.movementSystem  = movementSystem;
+        this.steeringSystem  = steeringSystem;
         this.factory         = factory;
         this.config          = config;
         this.mapRuntime      = mapRuntime;
+        this.random          = random;
+        this.cctvRandom      = random.stream("cctv");
+        this.fxRandom        = random.stream("fx");
+        this.entityPool      = entitySystem.getPool();
+        this.entityPool.register(DRONE, DroneComponent::new);
+        this.droneQuery      = entityQuery.query(DRONE, TRANSFORM);
+        this.terminalQuery   = entityQuery.query(TERMINAL);
+        this.cctvQuery       = entityQuery.query(CCTV, TRANSFORM);
     }
 
     // =========================================================================
@@ -229,12 +263,15 @@ public class CyberGameScene extends Scene {
         tmxExitX = mapRuntime.getExitX();
         tmxExitY = mapRuntime.getExitY();
 
-        sprites.load();
-
-        renderer = new CyberGameRenderer(input, mapRuntime, config, sprites);
-        renderer.load();
+        if (!headless) {
+            sprites.load();
+            renderer = new CyberGameRenderer(input, mapRuntime, config, sprites);
+            renderer.load();
+        }
 
         eventSystem.addObserver(inventory);
+        collisionSystem.addCollisionListener(proximityListener);
+        entitySystem.getActivityRegion().setRadius(ACTIVE_RADIUS);
         initLevelConfig();
         createPlayer();
         createExitTrigger();
@@ -247,11 +284,54 @@ public class CyberGameScene extends Scene {
 
     private void createExitTrigger() {
         // Trigger volume at the extraction point; victory is handled in onLateUpdate.
-        exitTriggerEntity = new GameEntity("ExitTrigger");
-        exitTriggerEntity.addComponent(new TransformComponent(tmxExitX, tmxExitY));
+        exitTriggerEntity = entityPool.obtain("ExitTrigger");
+        exitTriggerEntity.addComponent(obtainTransform(tmxExitX, tmxExitY));
         exitTriggerEntity.setCollisionRadius(TileMap.TILE_SIZE * 1.5f);
+        exitTriggerEntity.setCollisionLayer(LAYER_EXIT);
+        exitTriggerEntity.setCollisionMask(LAYER_PLAYER);
+        exitTriggerEntity.setStaticCollider(true);
         entitySystem.addEntity(exitTriggerEntity);
-        collisionSystem.registerCollidable(exitTriggerEntity, cyberCollisionResponse);
+        collisionSystem.registerCollidable(exitTriggerEntity, CollisionResolution.PASS_THROUGH);
+    }
+
+    /** Applies one player overlap to this frame's catch/proximity state. */
+    private void onPlayerContact(ICollidable other) {
+        if (!(other instanceof GameEntity)) return;
+        GameEntity otherEntity = (GameEntity) other;
+
+        // Drone catch
+        if (protectionTimer <= 0f && otherEntity.getComponent(DroneComponent.class) != null) {
+            pendingDroneCatch = true;
+            return;
+        }
+
+        // Terminal proximity
+        TerminalComponent terminalComponent = otherEntity.getComponent(TerminalComponent.class);
+        if (terminalComponent != null) {
+            TransformComponent pt = playerEntity.getComponent(TransformComponent.class);
+            TransformComponent tt = otherEntity.getComponent(TransformComponent.class);
+            if (pt != null && tt != null) {
+                float dx = pt.getPosition().x - tt.getPosition().x;
+                float dy = pt.getPosition().y - tt.getPosition().y;
+                float d2 = dx * dx + dy * dy;
+                if (d2 < nearbyTerminalDist2) {
+                    nearbyTerminalDist2 = d2;
+                    nearbyTerminalIdx = terminalComponent.getTerminalIndex();
+                }
+            }
+            return;
+        }
+
+        // Clue proximity
+        if (clueByEntity.containsKey(otherEntity)) {
+            nearbyClueEntity = otherEntity;
+            return;
+        }
+
+        // Exit trigger proximity
+        if (otherEntity == exitTriggerEntity) {
+            overlappingExit = true;
+        }
     }
 
     private IWorldCollisionQuery getMapCollision() {
@@ -260,15 +340,21 @@ public class CyberGameScene extends Scene {
 
     private int[][] getLightPositions()  { return config.getLightPositions(); }
     private int[][] getCameraPositions() {
-        int[][] cameraPositions = new int[cctvEntities.size()][3];
-        for (GameEntity cctvEntity : cctvEntities) {
-            CctvComponent cctv = cctvEntity.getComponent(CctvComponent.class);
-            if (cctv == null) continue;
-            int i = cctv.getCameraIndex();
-            if (i < 0 || i >= cameraPositions.length) continue;
-            cameraPositions[i][0] = cctv.getTileCol();
-            cameraPositions[i][1] = cctv.getTileRow();
-            cameraPositions[i][2] = (int) cctv.getBaseAngle();
+        int count = cctvQuery.size();
+        if (cameraSnapshot.length != count) {
+            cameraSnapshot = new int[count][3];
+        }
+        int[][] cameraPositions = cameraSnapshot;
+        for (int a = 0; a < cctvQuery.getArchetypeCount(); a++) {
+            Archetype archetype = cctvQuery.getArchetype(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                CctvComponent cctv = archetype.get(row, CCTV);
+                int i = cctv.getCameraIndex();
+                if (i < 0 || i >= cameraPositions.length) continue;
+                cameraPositions[i][0] = cctv.getTileCol();
+                cameraPositions[i][1] = cctv.getTileRow();
+                cameraPositions[i][2] = (int) cctv.getBaseAngle();
+            }
         }
         return cameraPositions;
     }
@@ -289,6 +375,10 @@ public class CyberGameScene extends Scene {
 
     private void initLevelConfig() {
         challenges      = config.createChallenges(terminal);
+        Random minigameRandom = random.stream("minigames");
+        for (IMiniGame challenge : challenges) {
+            if (challenge != null) challenge.setRandom(minigameRandom);
+        }
         KEYS_REQUIRED   = config.getKeysRequired();
         timeRemaining   = config.getTimeLimit();
         spawnDroneEntities(config.createDrones());
@@ -299,29 +389,34 @@ public class CyberGameScene extends Scene {
     }
 
     private void spawnDroneEntities(DroneAI[] sourceDrones) {
-        droneEntities.clear();
         if (sourceDrones == null || sourceDrones.length == 0) return;
 
         for (int i = 0; i < sourceDrones.length; i++) {
             DroneAI drone = sourceDrones[i];
             if (drone == null) continue;
+            drone.setRandom(random.stream("drones"));
+            drone.setSteering(steeringSystem);
 
-            GameEntity droneEntity = new GameEntity("Drone-" + i);
-            droneEntity.addComponent(new TransformComponent(
+            GameEntity droneEntity = entityPool.obtain("Drone-" + i);
+            droneEntity.addComponent(obtainTransform(
                 drone.getPosition().x, drone.getPosition().y));
-            droneEntity.addComponent(new DroneComponent(drone));
+            DroneComponent droneComponent = entityPool.obtain(DRONE);
+            droneComponent.setDrone(drone);
+            droneEntity.addComponent(droneComponent);
+            // Velocity is filled in by DroneAIMovementBehaviour for swept collision
+            droneEntity.addComponent(entityPool.obtain(PHYSIC));
             droneEntity.setCollisionRadius(drone.getRadius());
+            droneEntity.setCollisionLayer(LAYER_DRONE);
+            droneEntity.setCollisionMask(LAYER_PLAYER);
             entitySystem.addEntity(droneEntity);
-            collisionSystem.registerCollidable(droneEntity, cyberCollisionResponse);
+            collisionSystem.registerCollidable(droneEntity, CollisionResolution.PASS_THROUGH);
             movementSystem.addEntity(droneEntity,
                 new DroneAIMovementBehaviour(getMapCollision(),
                     playerPosSnapshot, newlyChasingDrones));
-            droneEntities.add(droneEntity);
         }
     }
 
     private void spawnTerminalEntities() {
-        terminalEntities.clear();
         if (terminalTiles == null || terminalTiles.length == 0) return;
 
         for (int i = 0; i < terminalTiles.length; i++) {
@@ -330,19 +425,20 @@ public class CyberGameScene extends Scene {
             float worldX = TileMap.tileCentreX(tileCol);
             float worldY = TileMap.tileCentreY(tileRow);
 
-            GameEntity terminalEntity = new GameEntity("Terminal-" + i);
-            terminalEntity.addComponent(new TransformComponent(worldX, worldY));
+            GameEntity terminalEntity = entityPool.obtain("Terminal-" + i);
+            terminalEntity.addComponent(obtainTransform(worldX, worldY));
             terminalEntity.addComponent(new TerminalComponent(i, tileCol, tileRow));
             terminalEntity.setCollisionRadius(TileMap.TILE_SIZE * 1.6f);
+            terminalEntity.setCollisionLayer(LAYER_TERMINAL);
+            terminalEntity.setCollisionMask(LAYER_PLAYER);
+            terminalEntity.setStaticCollider(true);
             entitySystem.addEntity(terminalEntity);
-            terminalEntities.add(terminalEntity);
 
-            collisionSystem.registerCollidable(terminalEntity, cyberCollisionResponse);
+            collisionSystem.registerCollidable(terminalEntity, CollisionResolution.PASS_THROUGH);
         }
     }
 
     private void spawnCctvEntities(int[][] cameraPositions) {
-        cctvEntities.clear();
         if (cameraPositions == null || cameraPositions.length == 0) return;
 
         for (int i = 0; i < cameraPositions.length; i++) {
@@ -352,43 +448,113 @@ public class CyberGameScene extends Scene {
             int tileRow = cam[1];
             float baseAngle = cam[2];
 
-            GameEntity cctvEntity = new GameEntity("CCTV-" + i);
-            cctvEntity.addComponent(new TransformComponent(
+            GameEntity cctvEntity = entityPool.obtain("CCTV-" + i);
+            cctvEntity.addComponent(obtainTransform(
                 TileMap.tileCentreX(tileCol), TileMap.tileCentreY(tileRow)));
             cctvEntity.addComponent(new CctvComponent(i, tileCol, tileRow, baseAngle));
             entitySystem.addEntity(cctvEntity);
-            cctvEntities.add(cctvEntity);
         }
     }
 
-    private java.util.List<DroneAI> getDrones() {
-        java.util.List<DroneAI> drones = new java.util.ArrayList<>(droneEntities.size());
-        for (GameEntity droneEntity : droneEntities) {
-            DroneComponent droneComponent = droneEntity.getComponent(DroneComponent.class);
-            if (droneComponent == null || droneComponent.getDrone() == null) continue;
-            drones.add(droneComponent.getDrone());
+    /**
+     * Interleaved x,y draw positions of the drones, in {@link #getDrones()}
+     * order, blended between the last two simulation steps.
+     */
+    private float[] getDroneDrawPositions(float alpha) {
+        int n = 0;
+        for (int a = 0; a < droneQuery.getArchetypeCount(); a++) {
+            Archetype archetype = droneQuery.getArchetype(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                if (archetype.get(row, DRONE).getDrone() == null) continue;
+                if (n + 2 > droneDrawPositions.length) {
+                    droneDrawPositions = java.util.Arrays.copyOf(droneDrawPositions, Math.max(8, n * 2));
+                }
+                archetype.get(row, TRANSFORM).getInterpolatedPosition(alpha, drawPos);
+                droneDrawPositions[n++] = drawPos.x;
+                droneDrawPositions[n++] = drawPos.y;
+            }
+        }
+        return droneDrawPositions;
+    }
+
+    /**
+     * Returns every live drone, read from the drone query into a reused array.
+     * The array is only reallocated when the number of drones changes, so
+     * callers must not keep it across frames.
+     */
+    private DroneAI[] getDrones() {
+        int count = 0;
+        for (int a = 0; a < droneQuery.getArchetypeCount(); a++) {
+            Archetype archetype = droneQuery.getArchetype(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                if (archetype.get(row, DRONE).getDrone() != null) count++;
+            }
+        }
+        if (droneSnapshot.length != count) {
+            droneSnapshot = new DroneAI[count];
+        }
+
+        int n = 0;
+        for (int a = 0; a < droneQuery.getArchetypeCount(); a++) {
+            Archetype archetype = droneQuery.getArchetype(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                DroneAI drone = archetype.get(row, DRONE).getDrone();
+                if (drone != null) droneSnapshot[n++] = drone;
+            }
+        }
+        return droneSnapshot;
+    }
+
+    /**
+     * Drones that are chasing or searching always tick at full rate, even
+     * far from the player, so an alarm-driven approach is never choppy.
+     */
+    private void keepAlertDronesAwake() {
+        for (int a = 0; a < droneQuery.getArchetypeCount(); a++) {
+            Archetype archetype = droneQuery.getArchetype(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                DroneAI drone = archetype.get(row, DRONE).getDrone();
+                if (drone != null && !"PATROL".equals(drone.getStateName())) {
+                    entitySystem.getActivityRegion().wake(archetype.getEntity(row), 0.5f);
+                }
+            }
         }
-        return drones;
     }
 
-    private DroneAI[] getDroneArray() {
-        java.util.List<DroneAI> drones = getDrones();
-        return drones.toArray(new DroneAI[0]);
+    /** Returns a pooled transform placed at the given world position. */
+    private TransformComponent obtainTransform(float x, float y) {
+        TransformComponent transform = entityPool.obtain(TRANSFORM);
+        transform.setPosition(x, y);
+        return transform;
+    }
+
+    /** Finds the terminal component with the given index, or null. */
+    private TerminalComponent findTerminal(int terminalIndex) {
+        for (int a = 0; a < terminalQuery.getArchetypeCount(); a++) {
+            Archetype archetype = terminalQuery.getArchetype(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                TerminalComponent terminalComponent = archetype.get(row, TERMINAL);
+                if (terminalComponent.getTerminalIndex() == terminalIndex) return terminalComponent;
+            }
+        }
+        return null;
     }
 
     private void createPlayer() {
-        playerEntity = new GameEntity("CyberPlayer");
+        playerEntity = entityPool.obtain("CyberPlayer");
         float startX = TileMap.tileCentreX(playerStartTile[0]);
         float startY = TileMap.tileCentreY(playerStartTile[1]);
-        float[] safeStart = getMapCollision().resolveCircleVsWalls(startX, startY, PLAYER_RADIUS);
-        startX = safeStart[0];
-        startY = safeStart[1];
-        playerEntity.addComponent(new TransformComponent(startX, startY));
-        playerEntity.addComponent(new PhysicComponent(new Vector2(0f, 0f), 1.0f));
+        getMapCollision().moveCircle(startX, startY, PLAYER_RADIUS, 0f, 0f, playerMove);
+        startX = playerMove.getX();
+        startY = playerMove.getY();
+        playerEntity.addComponent(obtainTransform(startX, startY));
+        playerEntity.addComponent(entityPool.obtain(PHYSIC));
         playerEntity.setCollisionRadius(PLAYER_RADIUS);
+        playerEntity.setCollisionLayer(LAYER_PLAYER);
+        playerEntity.setCollisionMask(LAYER_DRONE | LAYER_TERMINAL | LAYER_CLUE | LAYER_EXIT);
 
         entitySystem.addEntity(playerEntity);
-        collisionSystem.registerCollidable(playerEntity, cyberCollisionResponse);
+        collisionSystem.registerCollidable(playerEntity, CollisionResolution.PASS_THROUGH);
         movementSystem.addEntity(playerEntity,
             new InputDrivenMovement(new CyberPlayerMovement(), input));
     }
@@ -400,7 +566,7 @@ public class CyberGameScene extends Scene {
         respawnsRemaining = maxRespawns;
         signalPingsRemaining = 4;
         protectionTimer = 2.6f;
-        cctvAlerted = new boolean[cctvEntities.size()];
+        cctvAlerted = new boolean[cctvQuery.size()];
         resetDroneAwareness(2.6f);
         setupClueObjects();
         showBanner(config.getLevelName(), config.getIntroSubtitle(), 5.8f);
@@ -453,14 +619,17 @@ public class CyberGameScene extends Scene {
         // Build collision trigger entities for each clue object so interactions are driven
         // by the CollisionSystem rather than manual distance checks.
         for (ClueSystem.ClueObject clueObj : clueSystem.getClueObjects()) {
-            GameEntity clueEntity = new GameEntity("Clue-" + clueObj.clueId);
-            clueEntity.addComponent(new TransformComponent(
+            GameEntity clueEntity = entityPool.obtain("Clue-" + clueObj.clueId);
+            clueEntity.addComponent(obtainTransform(
                 TileMap.tileCentreX(clueObj.tileCol),
                 TileMap.tileCentreY(clueObj.tileRow)
             ));
             clueEntity.setCollisionRadius(TileMap.TILE_SIZE * 2.0f);
+            clueEntity.setCollisionLayer(LAYER_CLUE);
+            clueEntity.setCollisionMask(LAYER_PLAYER);
+            clueEntity.setStaticCollider(true);
             entitySystem.addEntity(clueEntity);
-            collisionSystem.registerCollidable(clueEntity, cyberCollisionResponse);
+            collisionSystem.registerCollidable(clueEntity, CollisionResolution.PASS_THROUGH);
             clueEntities.add(clueEntity);
             clueByEntity.put(clueEntity, clueObj);
         }
@@ -475,8 +644,8 @@ public class CyberGameScene extends Scene {
         for (int[] cam : getCameraPositions()) {
             if (cam.length >= 2) anchors.add(new int[] { cam[0], cam[1] });
         }
-        java.util.List<DroneAI> drones = getDrones();
-        if (!drones.isEmpty()) {
+        DroneAI[] drones = getDrones();
+        if (drones.length > 0) {
             for (DroneAI drone : drones) {
                 int col = Math.max(1, Math.min(TileMap.COLS - 2, (int)(drone.getSpawnX() / TileMap.TILE_SIZE)));
                 int row = Math.max(1, Math.min(TileMap.ROWS - 2, (int)(drone.getSpawnY() / TileMap.TILE_SIZE)));
@@ -675,8 +844,9 @@ public class CyberGameScene extends Scene {
         checkpointY = safePoint[1];
 
         tc.getPosition().set(checkpointX, checkpointY);
-        float[] resolved = getMapCollision().resolveCircleVsWalls(tc.getPosition().x, tc.getPosition().y, PLAYER_RADIUS);
-        tc.getPosition().set(resolved[0], resolved[1]);
+        getMapCollision().moveCircle(checkpointX, checkpointY, PLAYER_RADIUS, 0f, 0f, playerMove);
+        tc.getPosition().set(playerMove.getX(), playerMove.getY());
+        tc.snapshot();
 
         PhysicComponent phys = playerEntity.getComponent(PhysicComponent.class);
         if (phys != null) phys.getVelocity().set(0f, 0f);
@@ -698,32 +868,34 @@ public class CyberGameScene extends Scene {
                 for (int col = Math.max(0, startCol - radius); col <= Math.min(TileMap.COLS - 1, startCol + radius); col++) {
                     if (getMapCollision().isWall(col, row)) continue;
                     boolean terminalTile = false;
-                    for (GameEntity terminalEntity : terminalEntities) {
-                        TerminalComponent terminalComponent = terminalEntity.getComponent(TerminalComponent.class);
-                        if (terminalComponent != null
-                            && terminalComponent.getTileCol() == col
-                            && terminalComponent.getTileRow() == row) {
-                            terminalTile = true;
-                            break;
+                    for (int a = 0; a < terminalQuery.getArchetypeCount() && !terminalTile; a++) {
+                        Archetype archetype = terminalQuery.getArchetype(a);
+                        for (int r = 0; r < archetype.size(); r++) {
+                            TerminalComponent terminalComponent = archetype.get(r, TERMINAL);
+                            if (terminalComponent.getTileCol() == col
+                                && terminalComponent.getTileRow() == row) {
+                                terminalTile = true;
+                                break;
+                            }
                         }
                     }
                     if (terminalTile) continue;
 
                     float worldX = TileMap.tileCentreX(col);
                     float worldY = TileMap.tileCentreY(row);
-                    float[] resolved = getMapCollision().resolveCircleVsWalls(worldX, worldY, PLAYER_RADIUS);
-                    if (Math.abs(resolved[0] - worldX) > 0.75f || Math.abs(resolved[1] - worldY) > 0.75f) continue;
+                    getMapCollision().moveCircle(worldX, worldY, PLAYER_RADIUS, 0f, 0f, playerMove);
+                    if (Math.abs(playerMove.getX() - worldX) > 0.75f || Math.abs(playerMove.getY() - worldY) > 0.75f) continue;
 
                     float droneSeparation = Float.MAX_VALUE;
                     float losPenalty = 0f;
-                    java.util.List<DroneAI> drones = getDrones();
+                    DroneAI[] drones = getDrones();
                     for (DroneAI drone : drones) {
                         droneSeparation = Math.min(droneSeparation, dist(worldX, worldY, drone.getPosition().x, drone.getPosition().y));
                         if (getMapCollision().hasLineOfSight(worldX, worldY, drone.getPosition().x, drone.getPosition().y)) {
                             losPenalty += 90f;
                         }
                     }
-                    if (drones.isEmpty()) droneSeparation = 9999f;
+                    if (drones.length == 0) droneSeparation = 9999f;
 
                     float centerPenalty = Math.abs(col - startCol) + Math.abs(row - startRow);
                     float score = droneSeparation - centerPenalty * 18f - losPenalty;
@@ -772,7 +944,8 @@ public class CyberGameScene extends Scene {
         pendingDroneCatch = false;
         interactPressedThisFrame = input.isActionJustPressed("INTERACT");
         // Reset collision-driven proximity state for this frame. It will be
-        // repopulated during the CollisionSystem step before onLateUpdate.
+        // repopulated by proximityListener during the CollisionSystem step
+        // before onLateUpdate.
         nearbyTerminalIdx = -1;
         nearbyTerminalDist2 = Float.POSITIVE_INFINITY;
         nearbyClueEntity = null;
@@ -822,11 +995,8 @@ public class CyberGameScene extends Scene {
                 
                 if (activeChallenge.isSolved()) {
                     terminalSolved[activeChallengeIdx] = true;
-                    if (activeChallengeIdx >= 0 && activeChallengeIdx < terminalEntities.size()) {
-                        TerminalComponent terminalComponent =
-                            terminalEntities.get(activeChallengeIdx).getComponent(TerminalComponent.class);
-                        if (terminalComponent != null) terminalComponent.setSolved(true);
-                    }
+                    TerminalComponent terminalComponent = findTerminal(activeChallengeIdx);
+                    if (terminalComponent != null) terminalComponent.setSolved(true);
                     keysCollected++;
                     eventSystem.notifyKeyCollected(keysCollected, KEYS_REQUIRED);
                     // Particle burst: green sparks
@@ -861,12 +1031,17 @@ public class CyberGameScene extends Scene {
         if (input.isActionJustPressed("HELP")) {
             triggerSignalPing();
         }
+        if (input.isActionJustPressed("DEBUG_COLLISION")) {
+            collisionDebug = !collisionDebug;
+            collisionSystem.getStats().setCaptureShapes(collisionDebug);
+        }
 
         TransformComponent tc = playerEntity.getComponent(TransformComponent.class);
         if (tc != null) {
-            float[] resolved = getMapCollision().resolveCircleVsWalls(
-                tc.getPosition().x, tc.getPosition().y, PLAYER_RADIUS);
-            tc.getPosition().set(resolved[0], resolved[1]);
+            // Zero move: only push the player back out of any wall
+            getMapCollision().moveCircle(
+                tc.getPosition().x, tc.getPosition().y, PLAYER_RADIUS, 0f, 0f, playerMove);
+            tc.getPosition().set(playerMove.getX(), playerMove.getY());
         }
 
         // Player state tracking
@@ -895,17 +1070,18 @@ public class CyberGameScene extends Scene {
             // MovementSystem updates *after* this onUpdate, so this must reflect
             // the player's pre-movement position for frame parity.
             playerPosSnapshot.set(tc.getPosition().x, tc.getPosition().y);
+            entitySystem.getActivityRegion().setFocus(tc.getPosition().x, tc.getPosition().y);
 
             // CCTV detection: camera entities spot the player and attract drones
             cctvAlertCooldown = Math.max(0f, cctvAlertCooldown - delta);
             boolean anyCameraVisible = cctvDetectionSystem.updateAlerts(
-                cctvEntities, cctvAlerted, tc.getPosition(), getMapCollision(),
+                cctvQuery, cctvAlerted, tc.getPosition(), getMapCollision(),
                 TileMap.TILE_SIZE, stateTime);
             if (anyCameraVisible && cctvAlertCooldown <= 0f) {
                 boolean anyDispatched = false;
                 for (DroneAI d : getDrones()) {
-                    float offsetX = (float) (Math.random() * 128 - 64);
-                    float offsetY = (float) (Math.random() * 128 - 64);
+                    float offsetX = cctvRandom.nextFloat() * 128 - 64;
+                    float offsetY = cctvRandom.nextFloat() * 128 - 64;
                     d.transitionTo(new SearchState(
                         tc.getPosition().x + offsetX,
                         tc.getPosition().y + offsetY,
@@ -920,13 +1096,11 @@ public class CyberGameScene extends Scene {
                         2.2f);
                 }
             }
+            keepAlertDronesAwake();
         }
 
         // Exit trigger handled in onLateUpdate (collision-driven)
 
-        if (tc != null && renderer != null) {
-            renderer.followCamera(tc.getPosition().x, tc.getPosition().y);
-        }
     }
 
     // =========================================================================
@@ -939,7 +1113,14 @@ public class CyberGameScene extends Scene {
         TransformComponent tc = playerEntity != null
             ? playerEntity.getComponent(TransformComponent.class) : null;
 
-        DroneAI[] currentDrones = getDroneArray();
+        float alpha = getRenderAlpha();
+        DroneAI[] currentDrones = getDrones();
+        float[] droneDraw = getDroneDrawPositions(alpha);
+        Vector2 playerDraw = null;
+        if (tc != null) {
+            playerDraw = tc.getInterpolatedPosition(alpha, playerDrawPos);
+            renderer.followCamera(playerDraw.x, playerDraw.y);
+        }
         int[][] cameraPositions = getCameraPositions();
 
         String[] challengeTitles = buildChallengeTitles();
@@ -976,8 +1157,10 @@ public class CyberGameScene extends Scene {
             cctvAlerted,
             cameraPositions,
             currentDrones,
+            droneDraw,
             playerEntity,
             tc,
+            playerDraw,
             getMapCollision(),
             pX,
             pY,
@@ -989,7 +1172,8 @@ public class CyberGameScene extends Scene {
             frameDelta,
             activeChallenge,
             nearbyIdx,
-            challengeTitles
+            challengeTitles,
+            collisionDebug ? collisionSystem.getStats() : null
         );
     }
 
@@ -998,11 +1182,11 @@ public class CyberGameScene extends Scene {
         for (int i = 0; i < count && particleCount < MAX_PARTICLES; i++) {
             int idx = particleCount++;
             pX[idx] = x; pY[idx] = y;
-            float angle = (float)(Math.random() * Math.PI * 2);
-            float speed = 30f + (float)(Math.random() * 80f);
+            float angle = (float)(fxRandom.nextFloat() * Math.PI * 2);
+            float speed = 30f + fxRandom.nextFloat() * 80f;
             pVX[idx] = (float)Math.cos(angle) * speed;
             pVY[idx] = (float)Math.sin(angle) * speed;
-            pLife[idx] = 0.5f + (float)(Math.random() * 0.5f);
+            pLife[idx] = 0.5f + fxRandom.nextFloat() * 0.5f;
             pR[idx] = r; pG[idx] = g; pB[idx] = b;
         }
     }
@@ -1072,7 +1256,7 @@ public class CyberGameScene extends Scene {
             }
 
             // Terminal interaction.
-            if (!interacted && nearbyTerminalIdx >= 0 && nearbyTerminalIdx < terminalEntities.size()) {
+            if (!interacted && nearbyTerminalIdx >= 0 && nearbyTerminalIdx < terminalQuery.size()) {
                 int i = nearbyTerminalIdx;
                 if (terminalSolved != null && i < terminalSolved.length && terminalSolved[i]) {
                     // already solved; no-op
@@ -1103,11 +1287,22 @@ public class CyberGameScene extends Scene {
             Math.max(TileMap.TILE_SIZE + r, Math.min(TileMap.WORLD_H - TileMap.TILE_SIZE - r, tc.getPosition().y)));
     }
 
+    // Mission outcome, read by headless runners and tools
+    public boolean isGameOver()        { return gameOver; }
+    public boolean isVictory()         { return victory; }
+    public boolean isMissionOver()     { return gameOver || victory; }
+    public int     getKeysCollected()  { return keysCollected; }
+    public int     getRespawnsUsed()   { return respawnsUsed; }
+    public float   getMissionElapsed() { return missionElapsed; }
+
     @Override public void resize(int w, int h) {
         if (renderer != null) renderer.resize(w, h);
     }
 
     @Override protected void onUnload() {
+        collisionSystem.removeCollisionListener(proximityListener);
+        collisionSystem.getStats().setCaptureShapes(false);
+        entitySystem.getActivityRegion().setRadius(0f);
         System.out.println("CyberGame unloading level " + config.getLevelNumber());
     }
     
@@ -1118,7 +1313,7 @@ public class CyberGameScene extends Scene {
         }
         if (renderer != null) renderer.dispose();
         if (mapRuntime != null) mapRuntime.dispose();
-        sprites.dispose();
+        if (!headless) sprites.dispose();
     }
 
     @Override
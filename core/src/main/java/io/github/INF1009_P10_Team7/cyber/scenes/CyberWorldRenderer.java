@@ -46,12 +46,12 @@ public class CyberWorldRenderer {
         this.input       = input;
     }
 
-    public void renderRoomProps(int[][] camPositions, DroneAI[] drones,
+    public void renderRoomProps(int[][] camPositions, DroneAI[] drones, float[] droneDrawPos,
                                  boolean[] cctvAlerted, GameEntity playerEntity,
                                  IWorldCollisionQuery collisionMgr, float stateTime) {
         float ts = TileMap.TILE_SIZE;
         renderSecurityCameras(ts, stateTime, camPositions, cctvAlerted, playerEntity, collisionMgr);
-        renderDroneSprites(ts, drones);
+        renderDroneSprites(ts, drones, droneDrawPos);
     }
 
     public void renderTerminalGlow(int[][] terminalTiles, boolean[] terminalSolved) {
@@ -268,12 +268,14 @@ public class CyberWorldRenderer {
         spriteDraw.end();
     }
 
-    private void renderDroneSprites(float ts, DroneAI[] drones) {
+    // droneDrawPos holds interleaved interpolated x,y per drone; null draws the raw positions
+    private void renderDroneSprites(float ts, DroneAI[] drones, float[] droneDrawPos) {
         if (drones == null || drones.length == 0) return;
 
         sr.beginFilled();
-        for (DroneAI drone : drones) {
-            float dx = drone.getPosition().x, dy = drone.getPosition().y;
+        for (int i = 0; i < drones.length; i++) {
+            DroneAI drone = drones[i];
+            float dx = drawX(drone, droneDrawPos, i), dy = drawY(drone, droneDrawPos, i);
             ColorValue coneColor;
             if (drone.isDetectionSuppressed())            coneColor = new ColorValue(0.45f, 0.78f, 1.00f, 0.035f);
             else if ("CHASE".equals(drone.getStateName())) coneColor = new ColorValue(1.00f, 0.18f, 0.16f, 0.12f);
@@ -288,14 +290,15 @@ public class CyberWorldRenderer {
         sr.end();
 
         spriteDraw.begin();
-        for (DroneAI drone : drones) {
+        for (int i = 0; i < drones.length; i++) {
+            DroneAI drone = drones[i];
             String spriteKey = drone.isDetectionSuppressed() ? "droneDamagedRed" : "dronePatrolRed";
             if ("CHASE".equals(drone.getStateName()) || "SEARCH".equals(drone.getStateName()))
                 spriteKey = "droneDetectRed";
 
             if (!sprites.has(spriteKey)) continue;
 
-            float dx = drone.getPosition().x, dy = drone.getPosition().y;
+            float dx = drawX(drone, droneDrawPos, i), dy = drawY(drone, droneDrawPos, i);
             float aspect = sprites.getAspectRatio(spriteKey);
             float drawW  = ts * 1.30f;
             float drawH  = drawW / aspect;
@@ -315,6 +318,14 @@ public class CyberWorldRenderer {
         spriteDraw.end();
     }
 
+    private static float drawX(DroneAI drone, float[] drawPos, int i) {
+        return drawPos != null && i * 2 + 1 < drawPos.length ? drawPos[i * 2] : drone.getPosition().x;
+    }
+
+    private static float drawY(DroneAI drone, float[] drawPos, int i) {
+        return drawPos != null && i * 2 + 1 < drawPos.length ? drawPos[i * 2 + 1] : drone.getPosition().y;
+    }
+
     private void drawSoftCone(IShapeDraw renderer, float ox, float oy, float facingDeg,
                                float coneAngleDeg, float length, ColorValue color) {
         renderer.setColor(color.r, color.g, color.b, color.a);
@@ -0,0 +1,29 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+import java.util.List;
+
+/**
+ * <p>Broad phase that emits every pair of collidable objects.</p>
+ *
+ * <p>This is the original all-pairs loop. It is O(n&sup2;) but has no setup
+ * cost, so it stays available as a fallback for tiny scenes or for
+ * checking the results of {@link SpatialHashBroadPhase}.</p>
+ */
+public class BruteForceBroadPhase implements IBroadPhase {
+
+    @Override
+    public void findCandidatePairs(List<ICollidable> collidables, CollisionPairBuffer out) {
+        int count = collidables.size();
+        for (int i = 0; i < count; i++) {
+            ICollidable obj1 = collidables.get(i);
+            if (obj1 == null || !obj1.isCollidable()) continue;
+
+            for (int j = i + 1; j < count; j++) {
+                ICollidable obj2 = collidables.get(j);
+                if (obj2 == null || !obj2.isCollidable()) continue;
+
+                out.add(i, j);
+            }
+        }
+    }
+}
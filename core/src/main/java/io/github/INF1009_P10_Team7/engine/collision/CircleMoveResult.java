@@ -0,0 +1,71 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+/**
+ * CircleMoveResult, outcome of {@link IWorldCollisionQuery#moveCircle}.
+ *
+ * <p>Owned by the caller and overwritten by every move, so a mover keeps
+ * one instance and reads it right after the call. Holds where the circle
+ * ended up, how far it got and, if it touched a wall, the normal of the
+ * last contact.</p>
+ */
+public final class CircleMoveResult {
+    private float x;
+    private float y;
+    private float distance;
+    private boolean blocked;
+    private float normalX;
+    private float normalY;
+
+    /**
+     * <p>Overwrites this result in place. Used by world queries.</p>
+     *
+     * @param startX x the move started from
+     * @param startY y the move started from
+     * @param x final x
+     * @param y final y
+     * @param blocked whether a wall was touched on the way
+     * @param normalX x of the last contact normal, 0 if not blocked
+     * @param normalY y of the last contact normal, 0 if not blocked
+     */
+    public void set(float startX, float startY, float x, float y,
+                    boolean blocked, float normalX, float normalY) {
+        float dx = x - startX;
+        float dy = y - startY;
+        this.x = x;
+        this.y = y;
+        this.distance = (float) Math.sqrt(dx * dx + dy * dy);
+        this.blocked = blocked;
+        this.normalX = normalX;
+        this.normalY = normalY;
+    }
+
+    /** @return final centre x */
+    public float getX() {
+        return x;
+    }
+
+    /** @return final centre y */
+    public float getY() {
+        return y;
+    }
+
+    /** @return straight-line distance between start and end */
+    public float getDistance() {
+        return distance;
+    }
+
+    /** @return true if a wall stopped or deflected the move */
+    public boolean isBlocked() {
+        return blocked;
+    }
+
+    /** @return x of the last contact normal, pointing out of the wall */
+    public float getNormalX() {
+        return normalX;
+    }
+
+    /** @return y of the last contact normal, pointing out of the wall */
+    public float getNormalY() {
+        return normalY;
+    }
+}
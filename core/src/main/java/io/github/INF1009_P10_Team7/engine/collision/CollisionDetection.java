@@ -11,6 +11,26 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
  */
 public class CollisionDetection {
 
+    /**
+     * <p>Called by the collision manager once per update, before any pair
+     * is tested. The discrete default ignores it.</p>
+     *
+     * @param deltaTime seconds since the last frame
+     */
+    public void beginFrame(float deltaTime) {
+    }
+
+    /**
+     * <p>How far back in time, in seconds, each object's motion must be
+     * covered by the broad phase. Discrete detectors only look at current
+     * positions and return 0.</p>
+     *
+     * @return the sweep duration for this frame
+     */
+    public float getSweepTime() {
+        return 0f;
+    }
+
     /**
      * <p>Checks if two collidable objects are overlapping.</p>
      *
@@ -45,15 +65,32 @@ public class CollisionDetection {
 
     /**
      * <p>Returns collision info if the two objects overlap,
-     * or {@code null} otherwise. Can be overridden.</p>
+     * or {@code null} otherwise. Allocates a new {@link CollisionInfo};
+     * the collision manager uses the out-parameter overload instead.</p>
      *
      * @param obj1 first collidable
      * @param obj2 second collidable
      * @return {@link CollisionInfo} with normal and depth, or {@code null}
      */
     public CollisionInfo getCollisionInfo(ICollidable obj1, ICollidable obj2) {
+        CollisionInfo info = new CollisionInfo();
+        return getCollisionInfo(obj1, obj2, info) ? info : null;
+    }
+
+    /**
+     * <p>Tests two objects and, if they overlap, writes the collision
+     * details into {@code out}. This is the method subclasses should
+     * override for alternative algorithms; it must not allocate.</p>
+     *
+     * @param obj1 first collidable
+     * @param obj2 second collidable
+     * @param out receives normal and depth when the objects overlap;
+     * left in an unspecified state otherwise
+     * @return {@code true} if the objects overlap
+     */
+    public boolean getCollisionInfo(ICollidable obj1, ICollidable obj2, CollisionInfo out) {
         if (!checkCollision(obj1, obj2)) {
-            return null;
+            return false;
         }
 
         Vector2 pos1 = obj1.getPosition();
@@ -70,15 +107,15 @@ public class CollisionDetection {
             distance = 0.01f;
         }
 
-        Vector2 collisionNormal = new Vector2(dx / distance, dy / distance);
-
         float penetrationDepth = (radius1 + radius2) - distance;
 
-        return new CollisionInfo(
+        out.set(
             obj1.getObjectId(),
             obj2.getObjectId(),
             penetrationDepth,
-            collisionNormal
+            dx / distance,
+            dy / distance
         );
+        return true;
     }
 }
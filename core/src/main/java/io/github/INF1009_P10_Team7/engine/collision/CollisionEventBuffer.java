@@ -0,0 +1,95 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+import java.util.Arrays;
+
+/**
+ * <p>Reusable list of collision events for one frame.</p>
+ *
+ * <p>Filled by the {@link CollisionManager} during detection and read by
+ * {@link ICollisionListener}s after dispatch. Events are stored in
+ * parallel arrays that grow as needed and are reused between frames.</p>
+ *
+ * <p>ENTER and STAY events carry the pooled {@link CollisionInfo} of the
+ * contact; EXIT events have no contact, so their info is {@code null}.</p>
+ */
+public final class CollisionEventBuffer {
+    private CollisionEventType[] types;
+    private ICollidable[] first;
+    private ICollidable[] second;
+    private CollisionInfo[] infos;
+    // Response chosen for the pair, or null when it should not be resolved
+    private ICollisionResponse[] responses;
+    private int size;
+
+    /** <p>Creates an empty buffer with a small initial capacity.</p> */
+    public CollisionEventBuffer() {
+        int capacity = 32;
+        this.types = new CollisionEventType[capacity];
+        this.first = new ICollidable[capacity];
+        this.second = new ICollidable[capacity];
+        this.infos = new CollisionInfo[capacity];
+        this.responses = new ICollisionResponse[capacity];
+        this.size = 0;
+    }
+
+    void add(CollisionEventType type, ICollidable a, ICollidable b,
+             CollisionInfo info, ICollisionResponse response) {
+        if (size == types.length) {
+            int newCapacity = types.length * 2;
+            types = Arrays.copyOf(types, newCapacity);
+            first = Arrays.copyOf(first, newCapacity);
+            second = Arrays.copyOf(second, newCapacity);
+            infos = Arrays.copyOf(infos, newCapacity);
+            responses = Arrays.copyOf(responses, newCapacity);
+        }
+        types[size] = type;
+        first[size] = a;
+        second[size] = b;
+        infos[size] = info;
+        responses[size] = response;
+        size++;
+    }
+
+    ICollisionResponse getResponse(int i) {
+        return responses[i];
+    }
+
+    /** @return the phase of event {@code i} */
+    public CollisionEventType getType(int i) {
+        return types[i];
+    }
+
+    /** @return the first collidable of event {@code i} */
+    public ICollidable getFirst(int i) {
+        return first[i];
+    }
+
+    /** @return the second collidable of event {@code i} */
+    public ICollidable getSecond(int i) {
+        return second[i];
+    }
+
+    /** @return the contact info of event {@code i}, or {@code null} for EXIT */
+    public CollisionInfo getInfo(int i) {
+        return infos[i];
+    }
+
+    /** @return how many entries fit before the buffer has to grow */
+    public int capacity() {
+        return types.length;
+    }
+
+    /** @return the number of events this frame */
+    public int size() {
+        return size;
+    }
+
+    /** <p>Removes all events, dropping object references so they can be collected.</p> */
+    void clear() {
+        Arrays.fill(first, 0, size, null);
+        Arrays.fill(second, 0, size, null);
+        Arrays.fill(infos, 0, size, null);
+        Arrays.fill(responses, 0, size, null);
+        size = 0;
+    }
+}
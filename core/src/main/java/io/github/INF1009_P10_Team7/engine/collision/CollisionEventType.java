@@ -0,0 +1,17 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+/**
+ * CollisionEventType, phase of a contact between two collidables.
+ *
+ * <p>The {@link CollisionManager} compares this frame's contacts with the
+ * previous frame's and reports each pair as one of these phases in its
+ * {@link CollisionEventBuffer}.</p>
+ */
+public enum CollisionEventType {
+    /** The pair started overlapping this frame. */
+    ENTER,
+    /** The pair was overlapping last frame and still is. */
+    STAY,
+    /** The pair was overlapping last frame and no longer is. */
+    EXIT
+}
@@ -1,9 +1,9 @@
 package io.github.INF1009_P10_Team7.engine.collision;
 
 /**
- * CollisionInfo, immutable value object describing a detected collision.
+ * CollisionInfo, value object describing a detected collision.
  *
- * <p>Created by {@link CollisionDetection#getCollisionInfo} and passed to
+ * <p>Filled in by {@link CollisionDetection#getCollisionInfo} and passed to
  * {@link ICollisionResponse#resolve}. Contains everything a resolver needs
  * to separate overlapping objects and reflect their velocities correctly.</p>
  *
@@ -20,15 +20,23 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 /**
  * <p>Stores information about a detected collision</p>
  *
- * <p>All fields are private and final, and getters return copies of
- * mutable objects so nothing outside can change the data.</p>
+ * <p>Instances handed to responses by {@link CollisionManager} come from
+ * its {@link ContactBuffer} and are reused every frame, so a response
+ * must copy any value it wants to keep after {@code resolve} returns.
+ * Outside code can only read the data; {@link #set} is used by detectors
+ * to fill a pooled instance in place.</p>
  */
 public final class CollisionInfo {
-    private final String objectId1;
-    private final String objectId2;
-    private final float penetrationDepth;
+    private String objectId1;
+    private String objectId2;
+    private float penetrationDepth;
     private final Vector2 collisionNormal;
 
+    /** <p>Creates an empty CollisionInfo, to be filled with {@link #set}.</p> */
+    public CollisionInfo() {
+        this.collisionNormal = new Vector2();
+    }
+
     /**
      * <p>Creates a new CollisionInfo. A copy of the collision normal is stored.</p>
      *
@@ -38,10 +46,25 @@ public final class CollisionInfo {
      * @param collisionNormal direction of the collision
      */
     public CollisionInfo(String objectId1, String objectId2, float penetrationDepth, Vector2 collisionNormal) {
+        this.collisionNormal = new Vector2();
+        set(objectId1, objectId2, penetrationDepth, collisionNormal.x, collisionNormal.y);
+    }
+
+    /**
+     * <p>Overwrites this info in place. Used by detectors writing into
+     * a pooled instance.</p>
+     *
+     * @param objectId1 ID of the first object
+     * @param objectId2 ID of the second object
+     * @param penetrationDepth how far the two objects overlap
+     * @param normalX x component of the unit normal from object 1 to object 2
+     * @param normalY y component of the unit normal from object 1 to object 2
+     */
+    public void set(String objectId1, String objectId2, float penetrationDepth, float normalX, float normalY) {
         this.objectId1 = objectId1;
         this.objectId2 = objectId2;
         this.penetrationDepth = penetrationDepth;
-        this.collisionNormal = new Vector2(collisionNormal); // Defensive copy on input
+        this.collisionNormal.set(normalX, normalY);
     }
 
     /** @return the first object's ID */
@@ -69,6 +92,16 @@ public final class CollisionInfo {
         return new Vector2(collisionNormal); // Defensive copy on output (Encapsulation)
     }
 
+    /** @return the x component of the collision normal, without copying */
+    public float getNormalX() {
+        return collisionNormal.x;
+    }
+
+    /** @return the y component of the collision normal, without copying */
+    public float getNormalY() {
+        return collisionNormal.y;
+    }
+
     /**
      * <p>Checks if this collision involves the given object.</p>
      *
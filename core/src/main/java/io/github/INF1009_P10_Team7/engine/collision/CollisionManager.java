@@ -1,13 +1,16 @@
 package io.github.INF1009_P10_Team7.engine.collision;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
-import com.badlogic.gdx.Gdx;
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
+import io.github.INF1009_P10_Team7.engine.utils.LongHashSet;
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
 /**
  * <p>Handles collision detection and resolution for all registered
@@ -16,101 +19,681 @@ import com.badlogic.gdx.Gdx;
  * <p>The detection strategy can be swapped at runtime by passing in
  * a different detector, and each collidable can have its own
  * response behaviour.</p>
+ *
+ * <p>Candidate pairs come from a pluggable {@link IBroadPhase}. The
+ * default {@link BruteForceBroadPhase} tests every pair; installing a
+ * {@link SpatialHashBroadPhase} makes the cost scale with how many
+ * objects are actually near each other.</p>
+ *
+ * <p>Each registered collidable gets a small integer handle, found through
+ * an identity map. Dynamic bodies live in a dense list that is compacted
+ * with swap-remove, and each handle remembers its slot, so registering and
+ * unregistering are constant time. Because swap-remove reorders slots,
+ * pairs are handed to the detector and responses ordered by registration
+ * sequence instead, keeping the earlier-registered object first. Responses
+ * are stored per handle and collision pairs are tracked as packed
+ * {@code long} keys in reusable {@link LongHashSet}s, so frame-to-frame
+ * enter/stay tracking does not build strings or allocate.</p>
+ *
+ * <p>The narrow phase writes into pooled {@link CollisionInfo} objects
+ * held in a {@link ContactBuffer}, so detection itself is allocation-free.
+ * Responses must not keep the info they receive past {@code resolve}.</p>
+ *
+ * <p>Each frame runs in two steps. Detection first collects ENTER / STAY /
+ * EXIT events into a reusable {@link CollisionEventBuffer}; once every pair
+ * has been tested, the events are dispatched in one batch: responses run
+ * for ENTER (and for STAY when the response is an
+ * {@link IContinuousCollisionResponse}), then each
+ * {@link ICollisionListener} receives the whole buffer. An object that is
+ * unregistered while it overlaps others gets an EXIT for each of those
+ * pairs in the next batch.</p>
+ *
+ * <p>Before a candidate pair reaches the detector it is filtered by the
+ * objects' collision layers and masks, and pairs of two static colliders
+ * are dropped outright.</p>
+ *
+ * <p>Static colliders ({@link ICollidable#isStaticCollider()}) are kept out
+ * of the broad phase: they are indexed once in a
+ * {@link StaticCollidablePartition} at registration, and each frame only
+ * awake dynamic bodies query it. A dynamic body whose velocity is zero and
+ * whose position has not changed for {@link #SLEEP_DELAY} seconds falls
+ * asleep. Pairs where both sides are asleep or static are not re-tested;
+ * their contact from the previous frame is carried over, so they keep
+ * producing STAY events until something moves. Registering a new
+ * collidable wakes every body.</p>
+ *
+ * <p>When a frame has at least {@link #getParallelThreshold()} pairs to
+ * test, the narrow phase is split into contiguous chunks run on a
+ * {@link ForkJoinPool}. Each chunk writes into its own
+ * {@link ContactBuffer}, and the chunks are merged in pair order on the
+ * calling thread, so the contact and event order is identical to a
+ * single-threaded run. Responses and listeners always run on the calling
+ * thread. Detectors must therefore be safe to call from several threads
+ * at once, which the stateless default {@link CollisionDetection} is.</p>
+ *
+ * <p>Every update refills a {@link CollisionStats} with pair counts,
+ * timings and buffer growth, exposed through {@link #getStats()}.</p>
  */
 public class CollisionManager implements ICollisionSystem {
 
-    private final List<ICollidable> collidableObjects;
-    private final Map<String, ICollisionResponse> responses;
-    private final Set<String> activeCollisions;
+    /** Seconds a dynamic body must stay still before it falls asleep. */
+    public static final float SLEEP_DELAY = 0.5f;
+
+    /** Default cell size of the static partition, in world units. */
+    public static final float DEFAULT_STATIC_CELL_SIZE = 64f;
+
+    /** Default number of pairs in one frame before the narrow phase goes parallel. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
+    // Smallest chunk worth handing to another thread
+    private static final int MIN_PAIRS_PER_CHUNK = 256;
+
+    // Dynamic bodies only; statics live in staticPartition
+    private final List<ICollidable> dynamicObjects;
+    private final StaticCollidablePartition staticPartition;
+    private final CollisionPairBuffer candidatePairs;
+    // Handle pairs that passed filtering and go to the detector this frame
+    private final CollisionPairBuffer testPairs;
+    private ContactBuffer contacts;
+    // Last frame's contacts, in the same order as activeKeys
+    private ContactBuffer previousContacts;
+    private final CollisionEventBuffer events;
+    private final List<ICollisionListener> listeners;
+    private final CollisionStats stats;
+
+    // Handle registry: slotHandles[i] is the handle of dynamicObjects.get(i),
+    // handleSlots[h] is the reverse mapping for dynamic handles
+    private final Map<ICollidable, Integer> handles;
+    private int[] slotHandles;
+    private int[] handleSlots;
+    private ICollidable[] handleObjects;
+    private ICollisionResponse[] handleResponses;
+    private boolean[] handleStatic;
+    // Registration order of each handle, used to order pairs
+    private int[] handleSequence;
+    private int nextSequence;
+    // Set by registration; every body is woken at the start of the next update
+    private boolean wakePending;
+    // Sleep tracking for dynamic handles
+    private float[] stillTime;
+    private float[] lastX;
+    private float[] lastY;
+    private int nextHandle;
+    private int[] freeHandles;
+    private int freeHandleCount;
+    // Handles unregistered since the last update; recycled only after the
+    // next update so a stale active pair can never match a new object
+    private int[] releasedHandles;
+    private int releasedHandleCount;
+
+    // Pair keys overlapping last frame / this frame, swapped after each update.
+    // The key arrays list the same pairs in detection order for EXIT scans.
+    private LongHashSet activePairs;
+    private LongHashSet currentPairs;
+    private long[] activeKeys;
+    private int activeKeyCount;
+    private long[] currentKeys;
+    private int currentKeyCount;
+    // EXITs owed to pairs broken by unregistering, as obj1/obj2 pairs,
+    // dispatched with the next update's batch
+    private ICollidable[] pendingExits;
+    private int pendingExitCount;
 
     private CollisionDetection detector;
+    private IBroadPhase broadPhase;
+
+    // Parallel narrow phase; tasks and their buffers are reused every frame
+    private ForkJoinPool narrowPhasePool;
+    private int parallelThreshold;
+    private NarrowPhaseTask[] narrowPhaseTasks;
 
     /** <p>Creates a new CollisionManager with the default detection strategy.</p> */
     public CollisionManager() {
-        this.collidableObjects = new ArrayList<>();
-        this.responses = new HashMap<>();
-        this.activeCollisions = new HashSet<>();
+        this.dynamicObjects = new ArrayList<>();
+        this.staticPartition = new StaticCollidablePartition(DEFAULT_STATIC_CELL_SIZE);
+        this.candidatePairs = new CollisionPairBuffer();
+        this.testPairs = new CollisionPairBuffer();
+        this.contacts = new ContactBuffer();
+        this.previousContacts = new ContactBuffer();
+        this.events = new CollisionEventBuffer();
+        this.listeners = new ArrayList<>();
+        this.stats = new CollisionStats();
+        this.handles = new IdentityHashMap<>();
+        this.slotHandles = new int[64];
+        this.handleObjects = new ICollidable[64];
+        this.handleResponses = new ICollisionResponse[64];
+        this.handleSlots = new int[64];
+        this.handleStatic = new boolean[64];
+        this.handleSequence = new int[64];
+        this.stillTime = new float[64];
+        this.lastX = new float[64];
+        this.lastY = new float[64];
+        this.freeHandles = new int[16];
+        this.releasedHandles = new int[16];
+        this.activePairs = new LongHashSet(64);
+        this.currentPairs = new LongHashSet(64);
+        this.activeKeys = new long[64];
+        this.currentKeys = new long[64];
+        this.pendingExits = new ICollidable[16];
         this.detector = new CollisionDetection();
+        this.broadPhase = new BruteForceBroadPhase();
+        this.narrowPhasePool = ForkJoinPool.commonPool();
+        this.parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+        this.narrowPhaseTasks = new NarrowPhaseTask[0];
     }
 
     /**
      * <p>Swaps the detection algorithm at runtime.
      * E.g., passing in an AABBCollisionDetection subclass
-     * for box-based detection.</p>
+     * for box-based detection, or a {@link SweptCircleCollisionDetection}
+     * for fast movers. Passing {@code null} restores the default.</p>
      *
      * @param detector the new detection strategy
      */
+    @Override
     public void setDetector(CollisionDetection detector) {
-        this.detector = detector;
+        this.detector = detector != null ? detector : new CollisionDetection();
     }
 
     /**
-     * <p>Registers a collidable with its response. Duplicates are ignored.</p>
+     * <p>Swaps the broad-phase strategy used to find candidate pairs.
+     * Passing {@code null} falls back to {@link BruteForceBroadPhase}.</p>
+     *
+     * @param broadPhase the new broad-phase strategy
+     */
+    @Override
+    public void setBroadPhase(IBroadPhase broadPhase) {
+        this.broadPhase = broadPhase != null ? broadPhase : new BruteForceBroadPhase();
+    }
+
+    /**
+     * <p>Configures the parallel narrow phase. Frames with fewer pairs to
+     * test than the threshold stay on the calling thread.</p>
+     *
+     * @param pool the pool to run chunks on; {@code null} disables the
+     * parallel path entirely
+     * @param pairThreshold minimum number of pairs in a frame before
+     * detection is split across the pool
+     */
+    public void setParallelNarrowPhase(ForkJoinPool pool, int pairThreshold) {
+        if (pairThreshold < 1) {
+            throw new IllegalArgumentException("Pair threshold must be at least 1");
+        }
+        this.narrowPhasePool = pool;
+        this.parallelThreshold = pairThreshold;
+    }
+
+    /** @return the pair count at which the narrow phase goes parallel */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * <p>Registers a collidable with its response. Duplicates are ignored.
+     * Static colliders are indexed immediately at their current position.</p>
      *
      * @param collidable the object to register
      * @param response the response strategy for this object
      */
     @Override
     public void registerCollidable(ICollidable collidable, ICollisionResponse response) {
-        if (!collidableObjects.contains(collidable)) {
-            collidableObjects.add(collidable);
-            responses.put(collidable.getObjectId(), response);
-            Gdx.app.log("CollisionManager", "Registered collidable: " + collidable.getObjectId());
+        if (collidable == null || handles.containsKey(collidable)) {
+            return;
+        }
+
+        int handle = acquireHandle();
+        handles.put(collidable, handle);
+        handleObjects[handle] = collidable;
+        handleResponses[handle] = response;
+        handleStatic[handle] = collidable.isStaticCollider();
+        handleSequence[handle] = nextSequence++;
+
+        if (handleStatic[handle]) {
+            staticPartition.insert(handle, collidable);
+        } else {
+            int slot = dynamicObjects.size();
+            if (slot == slotHandles.length) {
+                slotHandles = Arrays.copyOf(slotHandles, slotHandles.length * 2);
+            }
+            slotHandles[slot] = handle;
+            handleSlots[handle] = slot;
+            dynamicObjects.add(collidable);
+            lastX[handle] = Float.NaN;
+            lastY[handle] = Float.NaN;
         }
+
+        // Something new may overlap a sleeping body
+        wakePending = true;
+
+        EngineLog.info("CollisionManager", "Registered collidable: " + collidable.getObjectId());
     }
 
     /**
-     * <p>Removes a collidable from the system.</p>
+     * <p>Removes a collidable from the system. The last dynamic body is
+     * moved into the freed slot, so no list shifting is needed. Pairs it
+     * was overlapping in the last update get an EXIT in the next batch.</p>
      *
      * @param collidable the object to unregister
      */
     @Override
     public void unregisterCollidable(ICollidable collidable) {
-        collidableObjects.remove(collidable);
-        responses.remove(collidable.getObjectId());
+        Integer handle = handles.remove(collidable);
+        if (handle == null) {
+            return;
+        }
+        queueExits(handle);
+
+        if (handleStatic[handle]) {
+            staticPartition.remove(handle);
+        } else {
+            int slot = handleSlots[handle];
+            int lastSlot = dynamicObjects.size() - 1;
+            ICollidable last = dynamicObjects.remove(lastSlot);
+            if (slot != lastSlot) {
+                int lastHandle = slotHandles[lastSlot];
+                dynamicObjects.set(slot, last);
+                slotHandles[slot] = lastHandle;
+                handleSlots[lastHandle] = slot;
+            }
+        }
+
+        handleObjects[handle] = null;
+        handleResponses[handle] = null;
+        if (releasedHandleCount == releasedHandles.length) {
+            releasedHandles = Arrays.copyOf(releasedHandles, releasedHandles.length * 2);
+        }
+        releasedHandles[releasedHandleCount++] = handle;
+    }
+
+    /** <p>Owes an EXIT to every active pair of a handle that is going away.</p> */
+    private void queueExits(int handle) {
+        for (int k = 0; k < activeKeyCount; k++) {
+            long key = activeKeys[k];
+            int h1 = (int) (key >>> 32);
+            int h2 = (int) key;
+            if (h1 != handle && h2 != handle) continue;
+
+            // If the other side is already gone, its unregister queued this pair
+            ICollidable obj1 = handleObjects[h1];
+            ICollidable obj2 = handleObjects[h2];
+            if (obj1 == null || obj2 == null) continue;
+
+            if (pendingExitCount + 2 > pendingExits.length) {
+                pendingExits = Arrays.copyOf(pendingExits, pendingExits.length * 2);
+            }
+            pendingExits[pendingExitCount++] = obj1;
+            pendingExits[pendingExitCount++] = obj2;
+        }
+    }
+
+    /**
+     * <p>Adds a listener that receives every frame's collision events.</p>
+     *
+     * @param listener the listener to add; duplicates are ignored
+     */
+    @Override
+    public void addCollisionListener(ICollisionListener listener) {
+        if (listener != null && !listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * <p>Removes a previously added listener.</p>
+     *
+     * @param listener the listener to remove
+     */
+    @Override
+    public void removeCollisionListener(ICollisionListener listener) {
+        listeners.remove(listener);
     }
 
     /**
-     * <p>Runs collision checks each frame and resolves any new collisions.
-     * Already-active collisions are tracked to avoid duplicates.</p>
+     * <p>Runs collision checks each frame. The broad phase picks candidate
+     * pairs among dynamic bodies, awake bodies query the static partition,
+     * the detector tests each pair, and resting contacts are carried over.
+     * The results are turned into ENTER / STAY / EXIT events, which are
+     * dispatched only after all detection has finished.</p>
      *
      * @param deltaTime time since last frame in seconds
      */
     @Override
     public void update(float deltaTime) {
-        Set<String> currentCollisions = new HashSet<>();
+        long startNanos = System.nanoTime();
+        ContactBuffer last = contacts;
+        contacts = previousContacts;
+        previousContacts = last;
+        contacts.clear();
+        candidatePairs.clear();
+        testPairs.clear();
+        events.clear();
 
-        for (int i = 0; i < collidableObjects.size(); i++) {
-            ICollidable obj1 = collidableObjects.get(i);
-            if (obj1 == null || !obj1.isCollidable()) continue;
+        int candidateCapacity = candidatePairs.capacity();
+        int testCapacity = testPairs.capacity();
+        int contactCapacity = contacts.capacity();
+        int eventCapacity = events.capacity();
+        int keyCapacity = currentKeys.length;
 
-            for (int j = i + 1; j < collidableObjects.size(); j++) {
-                ICollidable obj2 = collidableObjects.get(j);
-                if (obj2 == null || !obj2.isCollidable()) continue;
+        updateSleepStates(deltaTime);
+        detector.beginFrame(deltaTime);
+        float sweepTime = detector.getSweepTime();
+        broadPhase.setSweepTime(sweepTime);
+        broadPhase.findCandidatePairs(dynamicObjects, candidatePairs);
+        int candidates = candidatePairs.size();
+        int sleeping = 0;
 
-                // Uses instance method - can be overridden by subclass (Inheritance)
-                CollisionInfo collisionInfo = detector.getCollisionInfo(obj1, obj2);
+        // Dynamic vs dynamic
+        for (int p = 0; p < candidatePairs.size(); p++) {
+            int h1 = slotHandles[candidatePairs.getFirst(p)];
+            int h2 = slotHandles[candidatePairs.getSecond(p)];
+            if (isSleeping(h1) && isSleeping(h2)) continue; // carried over below
+            addTestPair(h1, h2);
+        }
 
-                if (collisionInfo != null) {
-                    String key = getCollisionKey(obj1.getObjectId(), obj2.getObjectId());
-                    currentCollisions.add(key);
+        // Awake dynamic vs static
+        for (int i = 0; i < dynamicObjects.size(); i++) {
+            int h = slotHandles[i];
+            ICollidable obj = dynamicObjects.get(i);
+            if (isSleeping(h)) {
+                sleeping++;
+                continue;
+            }
+            if (!obj.isCollidable()) continue;
 
-                    if (!activeCollisions.contains(key) || isContinuousCollision(obj1, obj2)) {
-                        onCollision(obj1, obj2, collisionInfo);
-                    }
+            // Query around the middle of this frame's path so swept hits are found
+            Vector2 pos = obj.getPosition();
+            float queryX = pos.x;
+            float queryY = pos.y;
+            float queryRadius = obj.getCollisionRadius();
+            if (sweepTime > 0f) {
+                Vector2 vel = obj.getVelocity();
+                float halfX = vel.x * sweepTime * 0.5f;
+                float halfY = vel.y * sweepTime * 0.5f;
+                queryX -= halfX;
+                queryY -= halfY;
+                queryRadius += (float) Math.sqrt(halfX * halfX + halfY * halfY);
+            }
+            int found = staticPartition.query(queryX, queryY, queryRadius);
+            candidates += found;
+            for (int r = 0; r < found; r++) {
+                int staticHandle = staticPartition.getResult(r);
+                if (handleObjects[staticHandle].isCollidable()) {
+                    addTestPair(h, staticHandle);
                 }
             }
         }
 
-        activeCollisions.clear();
-        activeCollisions.addAll(currentCollisions);
+        // Narrow phase
+        boolean parallel = narrowPhasePool != null && testPairs.size() >= parallelThreshold;
+        if (parallel) {
+            detectParallel();
+        } else {
+            detectRange(0, testPairs.size(), contacts);
+        }
+
+        int detected = contacts.size();
+        carryOverRestingContacts();
+        collectEvents();
+
+        int allocations = 0;
+        if (candidatePairs.capacity() != candidateCapacity) allocations++;
+        if (testPairs.capacity() != testCapacity) allocations++;
+        if (contacts.capacity() != contactCapacity) allocations++;
+        if (events.capacity() != eventCapacity) allocations++;
+        if (currentKeys.length != keyCapacity) allocations++;
+
+        stats.setBodies(dynamicObjects.size(), sleeping, staticPartition.size());
+        stats.setPairs(candidates, testPairs.size(), contacts.size(), contacts.size() - detected, events.size());
+        stats.setAllocations(allocations);
+        stats.setCellSize(broadPhase.getCellSize());
+        if (stats.isCaptureShapes()) {
+            captureShapes();
+        }
+        long detectNanos = System.nanoTime() - startNanos;
+
+        LongHashSet previous = activePairs;
+        activePairs = currentPairs;
+        currentPairs = previous;
+        long[] previousKeys = activeKeys;
+        activeKeys = currentKeys;
+        activeKeyCount = currentKeyCount;
+        currentKeys = previousKeys;
+
+        // Handles freed before this frame can be reused now; any freed during
+        // dispatch below wait until after the next update
+        recycleReleasedHandles();
+
+        long dispatchStart = System.nanoTime();
+        dispatchEvents();
+        stats.setTimings(detectNanos, System.nanoTime() - dispatchStart, parallel);
     }
 
-    private boolean isContinuousCollision(ICollidable obj1, ICollidable obj2) {
-        ICollisionResponse r1 = responses.get(obj1.getObjectId());
-        ICollisionResponse r2 = responses.get(obj2.getObjectId());
-        ICollisionResponse response = pickResponse(r1, r2);
-        return response instanceof IContinuousCollisionResponse;
+    /** @return counters of the most recent update */
+    @Override
+    public CollisionStats getStats() {
+        return stats;
+    }
+
+    /** <p>Records body circles and contact normals for debug overlays.</p> */
+    private void captureShapes() {
+        stats.clearShapes();
+        for (int h = 0; h < nextHandle; h++) {
+            ICollidable obj = handleObjects[h];
+            if (obj == null || !obj.isCollidable()) continue;
+
+            byte kind = handleStatic[h] ? CollisionStats.BODY_STATIC
+                : isSleeping(h) ? CollisionStats.BODY_SLEEPING : CollisionStats.BODY_AWAKE;
+            Vector2 pos = obj.getPosition();
+            stats.addBody(pos.x, pos.y, obj.getCollisionRadius(), kind);
+        }
+
+        for (int c = 0; c < contacts.size(); c++) {
+            ICollidable obj1 = handleObjects[contacts.getFirst(c)];
+            CollisionInfo info = contacts.getInfo(c);
+            float nx = info.getNormalX();
+            float ny = info.getNormalY();
+            Vector2 pos = obj1.getPosition();
+            float r = obj1.getCollisionRadius();
+            stats.addContact(pos.x + nx * r, pos.y + ny * r, nx, ny);
+        }
+    }
+
+    /** <p>Queues a pair for detection, earlier-registered object first.</p> */
+    private void addTestPair(int h1, int h2) {
+        if (!shouldTest(handleObjects[h1], handleObjects[h2])) return;
+
+        if (handleSequence[h1] <= handleSequence[h2]) {
+            testPairs.add(h1, h2);
+        } else {
+            testPairs.add(h2, h1);
+        }
+    }
+
+    /**
+     * <p>Runs the detector on test pairs {@code [from, to)} and keeps the
+     * overlapping ones in {@code out}. Called from pool threads in
+     * parallel mode, so it only reads shared state.</p>
+     */
+    private void detectRange(int from, int to, ContactBuffer out) {
+        for (int p = from; p < to; p++) {
+            int h1 = testPairs.getFirst(p);
+            int h2 = testPairs.getSecond(p);
+            CollisionInfo collisionInfo = out.nextSlot();
+
+            // Uses instance method - can be overridden by subclass (Inheritance)
+            if (detector.getCollisionInfo(handleObjects[h1], handleObjects[h2], collisionInfo)) {
+                out.commit(h1, h2);
+            }
+        }
+    }
+
+    /**
+     * <p>Splits the test pairs into contiguous chunks, detects them on the
+     * pool, then appends each chunk's contacts in chunk order so the result
+     * matches the single-threaded order exactly.</p>
+     */
+    private void detectParallel() {
+        int pairCount = testPairs.size();
+        int maxChunks = Math.max(1, narrowPhasePool.getParallelism() * 4);
+        int chunkCount = Math.min(maxChunks, (pairCount + MIN_PAIRS_PER_CHUNK - 1) / MIN_PAIRS_PER_CHUNK);
+
+        if (narrowPhaseTasks.length < chunkCount) {
+            int oldLength = narrowPhaseTasks.length;
+            narrowPhaseTasks = Arrays.copyOf(narrowPhaseTasks, chunkCount);
+            for (int c = oldLength; c < chunkCount; c++) {
+                narrowPhaseTasks[c] = new NarrowPhaseTask();
+            }
+        }
+
+        int chunkSize = (pairCount + chunkCount - 1) / chunkCount;
+        for (int c = 0; c < chunkCount; c++) {
+            NarrowPhaseTask task = narrowPhaseTasks[c];
+            task.reinitialize();
+            task.from = Math.min(pairCount, c * chunkSize);
+            task.to = Math.min(pairCount, task.from + chunkSize);
+        }
+
+        NarrowPhaseTask first = narrowPhaseTasks[0];
+        for (int c = 1; c < chunkCount; c++) {
+            narrowPhasePool.execute(narrowPhaseTasks[c]);
+        }
+        narrowPhasePool.invoke(first);
+        for (int c = 1; c < chunkCount; c++) {
+            narrowPhaseTasks[c].join();
+        }
+
+        for (int c = 0; c < chunkCount; c++) {
+            contacts.addAll(narrowPhaseTasks[c].contacts);
+        }
+    }
+
+    /**
+     * <p>Updates the still-timer of every dynamic body. A body counts as
+     * still when its velocity is zero and its position has not changed
+     * since the last frame; both are checked because kinematic bodies
+     * can move without reporting a velocity.</p>
+     */
+    private void updateSleepStates(float deltaTime) {
+        boolean wake = wakePending;
+        wakePending = false;
+
+        for (int i = 0; i < dynamicObjects.size(); i++) {
+            ICollidable obj = dynamicObjects.get(i);
+            int h = slotHandles[i];
+
+            Vector2 pos = obj.getPosition();
+            float x = pos.x;
+            float y = pos.y;
+            Vector2 vel = obj.getVelocity();
+            boolean still = vel.x == 0f && vel.y == 0f && x == lastX[h] && y == lastY[h];
+
+            lastX[h] = x;
+            lastY[h] = y;
+            stillTime[h] = still && !wake ? stillTime[h] + deltaTime : 0f;
+        }
+    }
+
+    /** <p>Re-adds last frame's contacts whose two sides are both asleep or static.</p> */
+    private void carryOverRestingContacts() {
+        for (int k = 0; k < activeKeyCount; k++) {
+            int h1 = previousContacts.getFirst(k);
+            int h2 = previousContacts.getSecond(k);
+            ICollidable obj1 = handleObjects[h1];
+            ICollidable obj2 = handleObjects[h2];
+            if (obj1 == null || obj2 == null) continue;
+            if (!isResting(h1) || !isResting(h2)) continue;
+            if (!obj1.isCollidable() || !obj2.isCollidable()) continue;
+
+            CollisionInfo previous = previousContacts.getInfo(k);
+            contacts.nextSlot().set(
+                previous.getObjectId1(),
+                previous.getObjectId2(),
+                previous.getPenetrationDepth(),
+                previous.getNormalX(),
+                previous.getNormalY()
+            );
+            contacts.commit(h1, h2);
+        }
+    }
+
+    private boolean isSleeping(int handle) {
+        return !handleStatic[handle] && stillTime[handle] >= SLEEP_DELAY;
+    }
+
+    private boolean isResting(int handle) {
+        return handleStatic[handle] || stillTime[handle] >= SLEEP_DELAY;
+    }
+
+    /**
+     * <p>Cheap pre-detector filter: drops static-vs-static pairs and pairs
+     * whose layers and masks do not accept each other.</p>
+     */
+    private static boolean shouldTest(ICollidable obj1, ICollidable obj2) {
+        if (obj1.isStaticCollider() && obj2.isStaticCollider()) {
+            return false;
+        }
+        return (obj1.getCollisionLayer() & obj2.getCollisionMask()) != 0
+            && (obj2.getCollisionLayer() & obj1.getCollisionMask()) != 0;
+    }
+
+    /** <p>Turns this frame's contacts into ENTER / STAY events and finds EXITs.</p> */
+    private void collectEvents() {
+        currentPairs.clear();
+        currentKeyCount = 0;
+
+        for (int c = 0; c < contacts.size(); c++) {
+            int h1 = contacts.getFirst(c);
+            int h2 = contacts.getSecond(c);
+            long key = getCollisionKey(h1, h2);
+            currentPairs.add(key);
+            if (currentKeyCount == currentKeys.length) {
+                currentKeys = Arrays.copyOf(currentKeys, currentKeys.length * 2);
+            }
+            currentKeys[currentKeyCount++] = key;
+
+            ICollisionResponse response = pickResponse(handleResponses[h1], handleResponses[h2]);
+            boolean wasActive = activePairs.contains(key);
+            boolean resolve = !wasActive || response instanceof IContinuousCollisionResponse;
+            events.add(
+                wasActive ? CollisionEventType.STAY : CollisionEventType.ENTER,
+                handleObjects[h1],
+                handleObjects[h2],
+                contacts.getInfo(c),
+                resolve ? response : null
+            );
+        }
+
+        for (int k = 0; k < activeKeyCount; k++) {
+            long key = activeKeys[k];
+            if (currentPairs.contains(key)) continue;
+
+            // Pairs with an unregistered object were queued by queueExits
+            ICollidable obj1 = handleObjects[(int) (key >>> 32)];
+            ICollidable obj2 = handleObjects[(int) key];
+            if (obj1 == null || obj2 == null) continue;
+
+            events.add(CollisionEventType.EXIT, obj1, obj2, null, null);
+        }
+
+        for (int p = 0; p < pendingExitCount; p += 2) {
+            events.add(CollisionEventType.EXIT, pendingExits[p], pendingExits[p + 1], null, null);
+        }
+        Arrays.fill(pendingExits, 0, pendingExitCount, null);
+        pendingExitCount = 0;
+    }
+
+    /** <p>Runs responses for the batch, then hands it to every listener.</p> */
+    private void dispatchEvents() {
+        for (int e = 0; e < events.size(); e++) {
+            ICollisionResponse response = events.getResponse(e);
+            if (response != null) {
+                response.resolve(events.getFirst(e), events.getSecond(e), events.getInfo(e));
+            }
+        }
+
+        for (int l = 0; l < listeners.size(); l++) {
+            listeners.get(l).onCollisionEvents(events);
+        }
     }
 
     /**
@@ -122,16 +705,23 @@ public class CollisionManager implements ICollisionSystem {
      * @param collisionInfo details about the collision
      */
     public void onCollision(ICollidable obj1, ICollidable obj2, CollisionInfo collisionInfo) {
-        Gdx.app.log("Collision", "Collision detected: " + obj1.getObjectId() +
-            " <-> " + obj2.getObjectId());
+        if (EngineLog.isInfoEnabled()) {
+            EngineLog.info("Collision", "Collision detected: " + obj1.getObjectId() +
+                " <-> " + obj2.getObjectId());
+        }
 
-        ICollisionResponse r1 = responses.get(obj1.getObjectId());
-        ICollisionResponse r2 = responses.get(obj2.getObjectId());
+        ICollisionResponse r1 = responseOf(obj1);
+        ICollisionResponse r2 = responseOf(obj2);
 
         ICollisionResponse response = pickResponse(r1, r2);
         response.resolve(obj1, obj2, collisionInfo);
     }
 
+    private ICollisionResponse responseOf(ICollidable collidable) {
+        Integer handle = handles.get(collidable);
+        return handle != null ? handleResponses[handle] : null;
+    }
+
     /**
      * <p>Picks which response to use. PASS_THROUGH has priority over
      * DESTROY, which follows how other game engine are designed</p>
@@ -149,27 +739,84 @@ public class CollisionManager implements ICollisionSystem {
         return r1 != null ? r1 : CollisionResolution.BOUNCE;
     }
 
-    /** <p>Generates a consistent key for a collision pair regardless of order.</p> */
-    private String getCollisionKey(String id1, String id2) {
-        if (id1.compareTo(id2) < 0) {
-            return id1 + ":" + id2;
-        } else {
-            return id2 + ":" + id1;
+    /** <p>Packs a collision pair into one key regardless of order.</p> */
+    private static long getCollisionKey(int h1, int h2) {
+        int lo = Math.min(h1, h2);
+        int hi = Math.max(h1, h2);
+        return ((long) lo << 32) | (hi & 0xFFFFFFFFL);
+    }
+
+    private int acquireHandle() {
+        int handle = freeHandleCount > 0 ? freeHandles[--freeHandleCount] : nextHandle++;
+        if (handle >= handleResponses.length) {
+            int newCapacity = handleObjects.length * 2;
+            handleObjects = Arrays.copyOf(handleObjects, newCapacity);
+            handleResponses = Arrays.copyOf(handleResponses, newCapacity);
+            handleSlots = Arrays.copyOf(handleSlots, newCapacity);
+            handleStatic = Arrays.copyOf(handleStatic, newCapacity);
+            handleSequence = Arrays.copyOf(handleSequence, newCapacity);
+            stillTime = Arrays.copyOf(stillTime, newCapacity);
+            lastX = Arrays.copyOf(lastX, newCapacity);
+            lastY = Arrays.copyOf(lastY, newCapacity);
+        }
+        return handle;
+    }
+
+    private void recycleReleasedHandles() {
+        if (releasedHandleCount == 0) return;
+        if (freeHandleCount + releasedHandleCount > freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, freeHandleCount + releasedHandleCount);
+        }
+        System.arraycopy(releasedHandles, 0, freeHandles, freeHandleCount, releasedHandleCount);
+        freeHandleCount += releasedHandleCount;
+        releasedHandleCount = 0;
+    }
+
+    /** <p>One contiguous chunk of the parallel narrow phase with its own contacts.</p> */
+    private final class NarrowPhaseTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ContactBuffer contacts = new ContactBuffer();
+        private int from;
+        private int to;
+
+        @Override
+        protected void compute() {
+            contacts.clear();
+            detectRange(from, to, contacts);
         }
     }
 
     /** <p>Removes all registered collidables and resets internal state.</p> */
     @Override
     public void clear() {
-        collidableObjects.clear();
-        responses.clear();
-        activeCollisions.clear();
-        Gdx.app.log("CollisionManager", "All collidable objects cleared");
+        dynamicObjects.clear();
+        staticPartition.clear();
+        handles.clear();
+        Arrays.fill(handleObjects, null);
+        Arrays.fill(handleResponses, null);
+        nextHandle = 0;
+        nextSequence = 0;
+        wakePending = false;
+        freeHandleCount = 0;
+        releasedHandleCount = 0;
+        activePairs.clear();
+        currentPairs.clear();
+        activeKeyCount = 0;
+        currentKeyCount = 0;
+        Arrays.fill(pendingExits, 0, pendingExitCount, null);
+        pendingExitCount = 0;
+        contacts.clear();
+        previousContacts.clear();
+        events.clear();
+        stats.clearShapes();
+        listeners.clear();
+        EngineLog.info("CollisionManager", "All collidable objects cleared");
     }
 
     /** @return the number of registered collidables */
     @Override
     public int getCollidableCount() {
-        return collidableObjects.size();
+        return handles.size();
     }
 }
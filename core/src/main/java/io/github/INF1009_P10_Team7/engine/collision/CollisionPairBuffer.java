@@ -0,0 +1,64 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+import java.util.Arrays;
+
+/**
+ * <p>Growable list of index pairs produced by an {@link IBroadPhase}.</p>
+ *
+ * <p>Pairs are stored in two parallel int arrays so the buffer can be
+ * cleared and refilled every frame without allocating.</p>
+ */
+public final class CollisionPairBuffer {
+    private int[] first;
+    private int[] second;
+    private int size;
+
+    /** <p>Creates an empty buffer with a small initial capacity.</p> */
+    public CollisionPairBuffer() {
+        this.first = new int[64];
+        this.second = new int[64];
+        this.size = 0;
+    }
+
+    /**
+     * <p>Appends a pair, growing the backing arrays if needed.</p>
+     *
+     * @param a index of the first collidable (lower index)
+     * @param b index of the second collidable (higher index)
+     */
+    public void add(int a, int b) {
+        if (size == first.length) {
+            int newCapacity = first.length * 2;
+            first = Arrays.copyOf(first, newCapacity);
+            second = Arrays.copyOf(second, newCapacity);
+        }
+        first[size] = a;
+        second[size] = b;
+        size++;
+    }
+
+    /** @return the first index of pair {@code i} */
+    public int getFirst(int i) {
+        return first[i];
+    }
+
+    /** @return the second index of pair {@code i} */
+    public int getSecond(int i) {
+        return second[i];
+    }
+
+    /** @return how many entries fit before the buffer has to grow */
+    public int capacity() {
+        return first.length;
+    }
+
+    /** @return the number of pairs currently stored */
+    public int size() {
+        return size;
+    }
+
+    /** <p>Removes all pairs while keeping the allocated capacity.</p> */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -46,7 +46,8 @@ public class CollisionResolution {
 
         if (pos1 == null || pos2 == null) return;
 
-        Vector2 n = info.getCollisionNormal();
+        float nx = info.getNormalX();
+        float ny = info.getNormalY();
         float penetration = info.getPenetrationDepth();
 
         boolean m1 = obj1.isMovable();
@@ -56,19 +57,19 @@ public class CollisionResolution {
         if (m1 && m2) {
             float half = penetration / 2f;
 
-            pos1.x -= n.x * half;
-            pos1.y -= n.y * half;
+            pos1.x -= nx * half;
+            pos1.y -= ny * half;
 
-            pos2.x += n.x * half;
-            pos2.y += n.y * half;
+            pos2.x += nx * half;
+            pos2.y += ny * half;
 
         } else if (m1) {
-            pos1.x -= n.x * penetration;
-            pos1.y -= n.y * penetration;
+            pos1.x -= nx * penetration;
+            pos1.y -= ny * penetration;
 
         } else if (m2) {
-            pos2.x += n.x * penetration;
-            pos2.y += n.y * penetration;
+            pos2.x += nx * penetration;
+            pos2.y += ny * penetration;
 
         } else {
             return;
@@ -77,16 +78,16 @@ public class CollisionResolution {
         // Reflect velocity but only for movable
         if (m1) {
             Vector2 v1 = obj1.getVelocity();
-            float dot = v1.x * n.x + v1.y * n.y;
-            v1.x -= 2f * dot * n.x;
-            v1.y -= 2f * dot * n.y;
+            float dot = v1.x * nx + v1.y * ny;
+            v1.x -= 2f * dot * nx;
+            v1.y -= 2f * dot * ny;
         }
 
         if (m2) {
             Vector2 v2 = obj2.getVelocity();
-            float dot = v2.x * n.x + v2.y * n.y;
-            v2.x -= 2f * dot * n.x;
-            v2.y -= 2f * dot * n.y;
+            float dot = v2.x * nx + v2.y * ny;
+            v2.x -= 2f * dot * nx;
+            v2.y -= 2f * dot * ny;
         }
     }
 }
@@ -0,0 +1,270 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+import java.util.Arrays;
+
+/**
+ * <p>Per-frame counters for the collision step, filled in by the
+ * {@link CollisionManager} at the end of every update and read through
+ * {@link ICollisionSystem#getStats()}.</p>
+ *
+ * <p>One instance is reused for the lifetime of the manager, so callers
+ * should read the values they need each frame rather than keep the
+ * object as a snapshot.</p>
+ *
+ * <p>Pair counts follow the pipeline in order:</p>
+ * <ul>
+ * <li>potential pairs, every dynamic-dynamic and dynamic-static pair</li>
+ * <li>culled, rejected by the broad phase or static partition</li>
+ * <li>candidates, pairs the broad phase handed on</li>
+ * <li>filtered, candidates dropped for layers, masks or sleeping</li>
+ * <li>tested, pairs the detector actually ran on</li>
+ * </ul>
+ *
+ * <p>When shape capture is enabled with {@link #setCaptureShapes}, the
+ * manager also records every body's circle and every contact's point and
+ * normal, for debug overlays. Capture is off by default because it walks
+ * every body once more per frame.</p>
+ */
+public final class CollisionStats {
+
+    private long potentialPairs;
+    private int candidatePairs;
+    private int pairsTested;
+    private int contacts;
+    private int carriedContacts;
+    private int events;
+    private int dynamicBodies;
+    private int sleepingBodies;
+    private int staticBodies;
+    private boolean parallel;
+    private long detectNanos;
+    private long dispatchNanos;
+    private int allocations;
+    private float cellSize;
+
+    // Optional debug geometry
+    private boolean captureShapes;
+    private int bodyCount;
+    private float[] bodies = new float[64 * 3];
+    private byte[] bodyKinds = new byte[64];
+    private int contactCount;
+    private float[] contactPoints = new float[64 * 4];
+
+    /** Body kind: a moving, awake body. */
+    public static final byte BODY_AWAKE = 0;
+    /** Body kind: a dynamic body that is currently asleep. */
+    public static final byte BODY_SLEEPING = 1;
+    /** Body kind: a static body from the static partition. */
+    public static final byte BODY_STATIC = 2;
+
+    /**
+     * <p>Turns recording of body circles and contact normals on or off.</p>
+     *
+     * @param captureShapes {@code true} to record debug geometry each frame
+     */
+    public void setCaptureShapes(boolean captureShapes) {
+        this.captureShapes = captureShapes;
+        if (!captureShapes) {
+            bodyCount = 0;
+            contactCount = 0;
+        }
+    }
+
+    /** @return {@code true} if debug geometry is being recorded */
+    public boolean isCaptureShapes() {
+        return captureShapes;
+    }
+
+    /** @return every dynamic-dynamic plus dynamic-static pair, before any culling */
+    public long getPotentialPairs() {
+        return potentialPairs;
+    }
+
+    /** @return pairs rejected by the broad phase or static partition */
+    public long getPairsCulled() {
+        return Math.max(0L, potentialPairs - candidatePairs);
+    }
+
+    /** @return pairs the broad phase and static partition handed on */
+    public int getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    /** @return candidates dropped by layers, masks or sleeping before detection */
+    public int getPairsFiltered() {
+        return Math.max(0, candidatePairs - pairsTested);
+    }
+
+    /** @return pairs the detector ran on */
+    public int getPairsTested() {
+        return pairsTested;
+    }
+
+    /** @return overlapping pairs this frame, including carried-over resting contacts */
+    public int getContacts() {
+        return contacts;
+    }
+
+    /** @return resting contacts carried over from last frame without a test */
+    public int getCarriedContacts() {
+        return carriedContacts;
+    }
+
+    /** @return ENTER, STAY and EXIT events dispatched this frame */
+    public int getEvents() {
+        return events;
+    }
+
+    /** @return registered dynamic bodies */
+    public int getDynamicBodies() {
+        return dynamicBodies;
+    }
+
+    /** @return dynamic bodies that were asleep this frame */
+    public int getSleepingBodies() {
+        return sleepingBodies;
+    }
+
+    /** @return registered static bodies */
+    public int getStaticBodies() {
+        return staticBodies;
+    }
+
+    /** @return {@code true} if this frame's narrow phase ran on the pool */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /** @return nanoseconds spent in broad and narrow phase this frame */
+    public long getDetectNanos() {
+        return detectNanos;
+    }
+
+    /** @return nanoseconds spent running responses and listeners this frame */
+    public long getDispatchNanos() {
+        return dispatchNanos;
+    }
+
+    /**
+     * @return internal buffers that had to grow this frame; stays at zero
+     * once the manager has warmed up to the level's peak load
+     */
+    public int getAllocations() {
+        return allocations;
+    }
+
+    /** @return the broad phase's grid cell size, or 0 if it has no grid */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /** @return number of bodies recorded by shape capture */
+    public int getBodyCount() {
+        return bodyCount;
+    }
+
+    /** @return centre x of captured body {@code i} */
+    public float getBodyX(int i) {
+        return bodies[i * 3];
+    }
+
+    /** @return centre y of captured body {@code i} */
+    public float getBodyY(int i) {
+        return bodies[i * 3 + 1];
+    }
+
+    /** @return collision radius of captured body {@code i} */
+    public float getBodyRadius(int i) {
+        return bodies[i * 3 + 2];
+    }
+
+    /** @return {@link #BODY_AWAKE}, {@link #BODY_SLEEPING} or {@link #BODY_STATIC} */
+    public byte getBodyKind(int i) {
+        return bodyKinds[i];
+    }
+
+    /** @return number of contacts recorded by shape capture */
+    public int getContactCount() {
+        return contactCount;
+    }
+
+    /** @return x of contact {@code i}, on the surface of its first object */
+    public float getContactX(int i) {
+        return contactPoints[i * 4];
+    }
+
+    /** @return y of contact {@code i}, on the surface of its first object */
+    public float getContactY(int i) {
+        return contactPoints[i * 4 + 1];
+    }
+
+    /** @return x of the unit normal of contact {@code i} */
+    public float getContactNormalX(int i) {
+        return contactPoints[i * 4 + 2];
+    }
+
+    /** @return y of the unit normal of contact {@code i} */
+    public float getContactNormalY(int i) {
+        return contactPoints[i * 4 + 3];
+    }
+
+    // ---- Written by CollisionManager -------------------------------------
+
+    void setBodies(int dynamicBodies, int sleepingBodies, int staticBodies) {
+        this.dynamicBodies = dynamicBodies;
+        this.sleepingBodies = sleepingBodies;
+        this.staticBodies = staticBodies;
+        this.potentialPairs = (long) dynamicBodies * (dynamicBodies - 1) / 2
+            + (long) dynamicBodies * staticBodies;
+    }
+
+    void setPairs(int candidatePairs, int pairsTested, int contacts, int carriedContacts, int events) {
+        this.candidatePairs = candidatePairs;
+        this.pairsTested = pairsTested;
+        this.contacts = contacts;
+        this.carriedContacts = carriedContacts;
+        this.events = events;
+    }
+
+    void setTimings(long detectNanos, long dispatchNanos, boolean parallel) {
+        this.detectNanos = detectNanos;
+        this.dispatchNanos = dispatchNanos;
+        this.parallel = parallel;
+    }
+
+    void setAllocations(int allocations) {
+        this.allocations = allocations;
+    }
+
+    void setCellSize(float cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    void clearShapes() {
+        bodyCount = 0;
+        contactCount = 0;
+    }
+
+    void addBody(float x, float y, float radius, byte kind) {
+        if (bodyCount == bodyKinds.length) {
+            bodies = Arrays.copyOf(bodies, bodies.length * 2);
+            bodyKinds = Arrays.copyOf(bodyKinds, bodyKinds.length * 2);
+        }
+        bodies[bodyCount * 3] = x;
+        bodies[bodyCount * 3 + 1] = y;
+        bodies[bodyCount * 3 + 2] = radius;
+        bodyKinds[bodyCount] = kind;
+        bodyCount++;
+    }
+
+    void addContact(float x, float y, float normalX, float normalY) {
+        if ((contactCount + 1) * 4 > contactPoints.length) {
+            contactPoints = Arrays.copyOf(contactPoints, contactPoints.length * 2);
+        }
+        contactPoints[contactCount * 4] = x;
+        contactPoints[contactCount * 4 + 1] = y;
+        contactPoints[contactCount * 4 + 2] = normalX;
+        contactPoints[contactCount * 4 + 3] = normalY;
+        contactCount++;
+    }
+}
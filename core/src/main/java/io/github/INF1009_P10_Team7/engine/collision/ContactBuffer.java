@@ -0,0 +1,112 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+import java.util.Arrays;
+
+/**
+ * <p>Reusable contact manifold storage owned by the {@link CollisionManager}.</p>
+ *
+ * <p>Holds a pool of {@link CollisionInfo} objects plus the collision
+ * handles of the two collidables for each contact. The manager hands the next free
+ * info to the detector, and only keeps it with {@link #commit} if the pair
+ * actually overlaps, so the narrow phase never allocates once the pool has
+ * grown to the largest contact count seen.</p>
+ */
+public final class ContactBuffer {
+    private CollisionInfo[] infos;
+    private int[] first;
+    private int[] second;
+    private int size;
+
+    /** <p>Creates an empty buffer with a small pre-filled pool.</p> */
+    public ContactBuffer() {
+        this.infos = new CollisionInfo[32];
+        for (int i = 0; i < infos.length; i++) {
+            infos[i] = new CollisionInfo();
+        }
+        this.first = new int[32];
+        this.second = new int[32];
+        this.size = 0;
+    }
+
+    /**
+     * <p>Returns the pooled info that the next {@link #commit} will keep.
+     * Until then it may be overwritten freely.</p>
+     *
+     * @return a reusable {@link CollisionInfo} for the detector to fill
+     */
+    public CollisionInfo nextSlot() {
+        if (size == infos.length) {
+            int oldCapacity = infos.length;
+            int newCapacity = oldCapacity * 2;
+            infos = Arrays.copyOf(infos, newCapacity);
+            for (int i = oldCapacity; i < newCapacity; i++) {
+                infos[i] = new CollisionInfo();
+            }
+            first = Arrays.copyOf(first, newCapacity);
+            second = Arrays.copyOf(second, newCapacity);
+        }
+        return infos[size];
+    }
+
+    /**
+     * <p>Keeps the info last returned by {@link #nextSlot} as a contact.</p>
+     *
+     * @param a handle of the first collidable
+     * @param b handle of the second collidable
+     */
+    public void commit(int a, int b) {
+        first[size] = a;
+        second[size] = b;
+        size++;
+    }
+
+    /**
+     * <p>Copies every contact of another buffer onto the end of this one,
+     * keeping their order.</p>
+     *
+     * @param other the buffer to copy from
+     */
+    public void addAll(ContactBuffer other) {
+        for (int i = 0; i < other.size; i++) {
+            CollisionInfo source = other.infos[i];
+            nextSlot().set(
+                source.getObjectId1(),
+                source.getObjectId2(),
+                source.getPenetrationDepth(),
+                source.getNormalX(),
+                source.getNormalY()
+            );
+            commit(other.first[i], other.second[i]);
+        }
+    }
+
+    /** @return the collision info of contact {@code i} */
+    public CollisionInfo getInfo(int i) {
+        return infos[i];
+    }
+
+    /** @return the handle of the first collidable of contact {@code i} */
+    public int getFirst(int i) {
+        return first[i];
+    }
+
+    /** @return the handle of the second collidable of contact {@code i} */
+    public int getSecond(int i) {
+        return second[i];
+    }
+
+    /** @return how many entries fit before the buffer has to grow */
+    public int capacity() {
+        return infos.length;
+    }
+
+    /** @return the number of contacts currently stored */
+    public int size() {
+        return size;
+    }
+
+    /** <p>Forgets all contacts while keeping the pooled objects.</p> */
+    public void clear() {
+        size = 0;
+    }
+}
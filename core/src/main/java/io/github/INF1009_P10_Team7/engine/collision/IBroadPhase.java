@@ -0,0 +1,54 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+import java.util.List;
+
+/**
+ * IBroadPhase, Strategy interface for generating candidate collision pairs.
+ *
+ * <p>The {@link CollisionManager} asks the broad phase which pairs of
+ * registered collidables are close enough to be worth testing, then runs
+ * the {@link CollisionDetection} narrow phase only on those pairs.
+ * Built-in strategies:</p>
+ * <ul>
+ * <li>{@link SpatialHashBroadPhase}, uniform grid keyed on world cells</li>
+ * <li>{@link BruteForceBroadPhase} , every pair (original nested loop)</li>
+ * </ul>
+ *
+ * <p>Implementations must only emit pairs of collidable objects, each pair
+ * at most once, with the lower list index first. List order is not registration order
+ * (the manager compacts it with swap-remove); the manager re-orders each
+ * pair by registration sequence itself.</p>
+ */
+public interface IBroadPhase {
+
+    /**
+     * Writes every candidate pair for this frame into {@code out}.
+     * The buffer is cleared by the caller beforehand.
+     *
+     * @param collidables all registered collidables, indexed by registration slot
+     * @param out receives candidate pairs as index pairs into {@code collidables}
+     */
+    void findCandidatePairs(List<ICollidable> collidables, CollisionPairBuffer out);
+
+    /**
+     * Asks the broad phase to widen each object's bounds to cover its
+     * motion over the last {@code seconds}, i.e. from
+     * {@code position - velocity * seconds} to {@code position}. Set by the
+     * manager every frame for swept detectors. Strategies that already
+     * return every pair can ignore it.
+     *
+     * @param seconds sweep duration, 0 for purely discrete detection
+     */
+    default void setSweepTime(float seconds) {
+    }
+
+    /**
+     * Size of the grid cells this strategy buckets objects into, used by
+     * debug overlays to draw the grid.
+     *
+     * @return the cell size in world units, or 0 if the strategy has no grid
+     */
+    default float getCellSize() {
+        return 0f;
+    }
+}
@@ -13,9 +13,19 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
  *
  * <p>Design note (ISP): only the methods actually needed for collision
  * processing are declared here; full entity state is not exposed.</p>
+ *
+ * <p>Filtering methods ({@link #getCollisionLayer}, {@link #getCollisionMask},
+ * {@link #isStaticCollider}) have defaults that make every object collide
+ * with every other, so existing implementors keep working unchanged.</p>
  */
 public interface ICollidable {
 
+    /** Layer bit used when an object does not choose its own layer. */
+    int DEFAULT_LAYER = 1;
+
+    /** Mask that accepts every layer. */
+    int ALL_LAYERS = 0xFFFFFFFF;
+
     /** @return the world-space centre position of this object */
     Vector2 getPosition();
 
@@ -23,10 +33,14 @@ public interface ICollidable {
     float getCollisionRadius();
 
     /**
-     * Returns a unique string identifier used to key this object in the
-     * collision manager's response map and to build collision-pair keys.
+     * Returns a readable label for logs, debug output and
+     * {@link CollisionInfo}. The collision manager keys responses and
+     * pairs by its own integer handles, not by this string, so it need not
+     * be unique.
      *
-     * @return unique object ID (e.g. {@code "Player_<uuid>"})
+     * @return the label (e.g. {@code "Player_3v1"} for a
+     * {@link io.github.INF1009_P10_Team7.engine.entity.GameEntity}, in
+     * {@code name_<index>v<generation>} form)
      */
     String getObjectId();
 
@@ -48,9 +62,46 @@ public interface ICollidable {
      */
     Vector2 getVelocity();
 
+    /**
+     * Whether this object was simulated in the last tick. An object that
+     * sat it out (e.g. a dormant entity) still reports its old velocity
+     * but did not move, so the swept test treats it as stationary.
+     *
+     * @return {@code false} if the object was skipped last tick
+     */
+    default boolean wasStepped() {
+        return true;
+    }
+
     /**
      * Deactivates this object (e.g. called by {@link CollisionResolution#DESTROY}).
      * Typically delegates to {@code Entity.setActive(false)}.
      */
     void deactivate();
+
+    /**
+     * @return bit(s) describing what this object is; another object only
+     * tests against it if that object's mask contains one of these bits
+     */
+    default int getCollisionLayer() {
+        return DEFAULT_LAYER;
+    }
+
+    /**
+     * @return bits of the layers this object wants to collide with;
+     * a pair is tested only if each object's mask accepts the other's layer
+     */
+    default int getCollisionMask() {
+        return ALL_LAYERS;
+    }
+
+    /**
+     * <p>Static objects are indexed once when registered and must not move
+     * afterwards; pairs of two static objects are never tested.</p>
+     *
+     * @return {@code true} if this object never moves (terminals, triggers, props)
+     */
+    default boolean isStaticCollider() {
+        return false;
+    }
 }
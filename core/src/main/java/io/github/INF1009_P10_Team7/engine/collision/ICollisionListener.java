@@ -0,0 +1,24 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+/**
+ * ICollisionListener, observer for the per-frame collision event stream.
+ *
+ * <p>After detection finishes and all {@link ICollisionResponse}s have run,
+ * the {@link CollisionManager} hands every listener the whole batch of
+ * ENTER / STAY / EXIT events for the frame in a single call. Scene logic
+ * such as proximity prompts or pickups can then be processed once per
+ * frame instead of once per overlapping pair.</p>
+ */
+@FunctionalInterface
+public interface ICollisionListener {
+
+    /**
+     * Receives this frame's collision events.
+     *
+     * <p>The buffer and the {@link CollisionInfo} objects inside it are
+     * reused by the manager; copy anything needed after this call returns.</p>
+     *
+     * @param events all collision events detected this frame
+     */
+    void onCollisionEvents(CollisionEventBuffer events);
+}
@@ -24,21 +24,67 @@ public interface ICollisionSystem {
     /**
      * Removes a collidable object from the system. Typically called when an
      * entity is collected or destroyed so it no longer participates in
-     * collision checks.
+     * collision checks. Pairs it was overlapping still receive an EXIT
+     * event with the next update.
      *
      * @param collidable the object to unregister
      */
     void unregisterCollidable(ICollidable collidable);
 
     /**
-     * Runs all collision checks for the current frame and invokes the
-     * appropriate response for each new overlap detected.
+     * Adds a listener that is handed the full batch of ENTER / STAY / EXIT
+     * events once per frame, after all responses have run. Listeners are
+     * dropped by {@link #clear()}.
+     *
+     * @param listener the listener to add; duplicates are ignored
+     */
+    void addCollisionListener(ICollisionListener listener);
+
+    /**
+     * Removes a listener added with {@link #addCollisionListener}.
+     *
+     * @param listener the listener to remove
+     */
+    void removeCollisionListener(ICollisionListener listener);
+
+    /**
+     * Runs all collision checks for the current frame, then dispatches the
+     * resulting events: responses for each new overlap first, followed by
+     * the registered {@link ICollisionListener}s.
      *
      * @param deltaTime seconds since the last frame
      */
     void update(float deltaTime);
 
-    /** Removes all registered collidables and resets internal state. */
+    /**
+     * Replaces the broad-phase strategy used to pick candidate pairs
+     * before narrow-phase detection. Registered collidables are kept.
+     *
+     * @param broadPhase the new strategy, e.g. a {@link SpatialHashBroadPhase}
+     * sized to the level's tiles; {@code null} restores the all-pairs fallback
+     */
+    void setBroadPhase(IBroadPhase broadPhase);
+
+    /**
+     * Replaces the narrow-phase detection strategy.
+     *
+     * @param detector the new strategy, e.g. a {@link SweptCircleCollisionDetection}
+     * for fast movers; {@code null} restores the discrete default
+     */
+    void setDetector(CollisionDetection detector);
+
+    /**
+     * Returns the counters of the most recent {@link #update}: pairs
+     * culled and tested, contacts, timings and buffer growth. The same
+     * instance is refilled every frame. Turning on
+     * {@link CollisionStats#setCaptureShapes} also records body circles and
+     * contact normals for debug overlays.
+     *
+     * @return the live statistics object
+     */
+    CollisionStats getStats();
+
+    /** Removes all registered collidables and listeners and resets internal state. */
     void clear();
 
     /** @return the number of collidable objects currently registered */
@@ -11,12 +11,48 @@ public interface IWorldCollisionQuery {
     /**
      * Resolves a circle at {@code (cx, cy)} against static world walls.
      *
+     * <p>Allocates the returned array; per-frame callers should use
+     * {@link #resolveCircleVsWalls(float, float, float, float[])}.</p>
+     *
      * @param cx desired center X
      * @param cy desired center Y
      * @param radius circle radius
      * @return resolved world position as {@code [x, y]}
      */
-    float[] resolveCircleVsWalls(float cx, float cy, float radius);
+    default float[] resolveCircleVsWalls(float cx, float cy, float radius) {
+        float[] out = new float[2];
+        resolveCircleVsWalls(cx, cy, radius, out);
+        return out;
+    }
+
+    /**
+     * Resolves a circle at {@code (cx, cy)} against static world walls,
+     * writing the result into a caller-owned array.
+     *
+     * @param cx desired center X
+     * @param cy desired center Y
+     * @param radius circle radius
+     * @param out receives the resolved position as {@code [x, y]}
+     */
+    void resolveCircleVsWalls(float cx, float cy, float radius, float[] out);
+
+    /**
+     * Moves a circle by {@code (dx, dy)} and slides it along any walls in
+     * the way (collide-and-slide). The part of the move that runs into a
+     * wall is dropped and the rest continues along it, so one call replaces
+     * trying the full, x-only and y-only moves in turn.
+     *
+     * <p>A zero move just pushes the circle out of any wall it overlaps.
+     * Nothing is allocated; the outcome is written into {@code out}.</p>
+     *
+     * @param x start center X
+     * @param y start center Y
+     * @param radius circle radius
+     * @param dx wanted displacement on X
+     * @param dy wanted displacement on Y
+     * @param out receives the final position and contact
+     */
+    void moveCircle(float x, float y, float radius, float dx, float dy, CircleMoveResult out);
 
     /**
      * Checks whether a clear line exists between two world points.
@@ -0,0 +1,252 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+
+/**
+ * <p>Uniform grid broad phase. Every collidable is inserted into each
+ * square cell its bounding box touches, and only objects sharing a cell
+ * become candidate pairs.</p>
+ *
+ * <p>Cells are stored in an open-addressed hash keyed on the cell
+ * coordinates, so the grid has no fixed bounds and empty space costs
+ * nothing. All tables are reused between frames; after warm-up the
+ * rebuild does not allocate.</p>
+ *
+ * <p>A pair that shares several cells is reported only from the cell at
+ * the minimum corner of the two objects' overlapping cell ranges, so no
+ * extra de-duplication set is needed.</p>
+ *
+ * <p>The cell size should be close to the typical object diameter; for
+ * tile-based levels a small multiple of the tile size works well.</p>
+ *
+ * <p>With a non-zero sweep time each object's bounds also cover the path
+ * it travelled over that time, so swept detectors still see fast movers
+ * that ended the frame in different cells.</p>
+ */
+public class SpatialHashBroadPhase implements IBroadPhase {
+
+    private static final int EMPTY = -1;
+
+    private final float cellSize;
+    private final float invCellSize;
+    private float sweepTime;
+
+    // Cell range of each collidable, indexed by list slot
+    private int[] minCellX = new int[64];
+    private int[] minCellY = new int[64];
+    private int[] maxCellX = new int[64];
+    private int[] maxCellY = new int[64];
+
+    // Open-addressed cell table; a slot is live only if its stamp matches
+    private long[] cellKeys = new long[256];
+    private int[] cellHeads = new int[256];
+    private int[] cellStamps = new int[256];
+    private int cellMask = 255;
+    private int stamp = 0;
+
+    // Live slots in insertion order, used for pair generation and rehashing
+    private int[] usedSlots = new int[128];
+    private int usedCount = 0;
+
+    // Linked list entries: one per (object, cell) insertion
+    private int[] entryObject = new int[256];
+    private int[] entryNext = new int[256];
+    private int entryCount = 0;
+
+    /**
+     * <p>Creates a spatial hash with the given cell size.</p>
+     *
+     * @param cellSize width and height of a grid cell in world units
+     */
+    public SpatialHashBroadPhase(float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+    }
+
+    /** @return the width and height of a grid cell in world units */
+    @Override
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    @Override
+    public void setSweepTime(float seconds) {
+        this.sweepTime = Math.max(0f, seconds);
+    }
+
+    @Override
+    public void findCandidatePairs(List<ICollidable> collidables, CollisionPairBuffer out) {
+        int count = collidables.size();
+        beginFrame(count);
+
+        for (int i = 0; i < count; i++) {
+            ICollidable obj = collidables.get(i);
+            if (obj == null || !obj.isCollidable()) {
+                // Empty range, never matches a cell
+                minCellX[i] = 1;
+                maxCellX[i] = 0;
+                continue;
+            }
+            insert(i, obj);
+        }
+
+        for (int u = 0; u < usedCount; u++) {
+            int slot = usedSlots[u];
+            long key = cellKeys[slot];
+            int cx = (int) (key >> 32);
+            int cy = (int) key;
+
+            for (int e1 = cellHeads[slot]; e1 != EMPTY; e1 = entryNext[e1]) {
+                int a = entryObject[e1];
+                for (int e2 = entryNext[e1]; e2 != EMPTY; e2 = entryNext[e2]) {
+                    int b = entryObject[e2];
+
+                    // Only the first shared cell reports the pair
+                    if (Math.max(minCellX[a], minCellX[b]) != cx) continue;
+                    if (Math.max(minCellY[a], minCellY[b]) != cy) continue;
+
+                    if (a < b) {
+                        out.add(a, b);
+                    } else {
+                        out.add(b, a);
+                    }
+                }
+            }
+        }
+    }
+
+    private void beginFrame(int count) {
+        if (minCellX.length < count) {
+            int newCapacity = Math.max(count, minCellX.length * 2);
+            minCellX = Arrays.copyOf(minCellX, newCapacity);
+            minCellY = Arrays.copyOf(minCellY, newCapacity);
+            maxCellX = Arrays.copyOf(maxCellX, newCapacity);
+            maxCellY = Arrays.copyOf(maxCellY, newCapacity);
+        }
+
+        stamp++;
+        if (stamp == Integer.MAX_VALUE) {
+            Arrays.fill(cellStamps, 0);
+            stamp = 1;
+        }
+        usedCount = 0;
+        entryCount = 0;
+    }
+
+    private void insert(int index, ICollidable obj) {
+        Vector2 pos = obj.getPosition();
+        float px = pos.x;
+        float py = pos.y;
+        float r = obj.getCollisionRadius();
+
+        float minX = px;
+        float minY = py;
+        float maxX = px;
+        float maxY = py;
+        if (sweepTime > 0f) {
+            // Include where the object started this frame
+            Vector2 vel = obj.getVelocity();
+            float startX = px - vel.x * sweepTime;
+            float startY = py - vel.y * sweepTime;
+            minX = Math.min(minX, startX);
+            minY = Math.min(minY, startY);
+            maxX = Math.max(maxX, startX);
+            maxY = Math.max(maxY, startY);
+        }
+
+        int x0 = (int) Math.floor((minX - r) * invCellSize);
+        int y0 = (int) Math.floor((minY - r) * invCellSize);
+        int x1 = (int) Math.floor((maxX + r) * invCellSize);
+        int y1 = (int) Math.floor((maxY + r) * invCellSize);
+
+        minCellX[index] = x0;
+        minCellY[index] = y0;
+        maxCellX[index] = x1;
+        maxCellY[index] = y1;
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int slot = findOrCreateSlot(cx, cy);
+                int entry = newEntry(index);
+                entryNext[entry] = cellHeads[slot];
+                cellHeads[slot] = entry;
+            }
+        }
+    }
+
+    private int newEntry(int index) {
+        if (entryCount == entryObject.length) {
+            int newCapacity = entryObject.length * 2;
+            entryObject = Arrays.copyOf(entryObject, newCapacity);
+            entryNext = Arrays.copyOf(entryNext, newCapacity);
+        }
+        int entry = entryCount++;
+        entryObject[entry] = index;
+        return entry;
+    }
+
+    private int findOrCreateSlot(int cx, int cy) {
+        // Keep the table at most half full
+        if ((usedCount + 1) * 2 > cellKeys.length) {
+            growTable();
+        }
+
+        long key = cellKey(cx, cy);
+        int slot = hash(key) & cellMask;
+        while (cellStamps[slot] == stamp) {
+            if (cellKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & cellMask;
+        }
+
+        cellStamps[slot] = stamp;
+        cellKeys[slot] = key;
+        cellHeads[slot] = EMPTY;
+        if (usedCount == usedSlots.length) {
+            usedSlots = Arrays.copyOf(usedSlots, usedSlots.length * 2);
+        }
+        usedSlots[usedCount++] = slot;
+        return slot;
+    }
+
+    private void growTable() {
+        long[] oldKeys = cellKeys;
+        int[] oldHeads = cellHeads;
+
+        int newCapacity = cellKeys.length * 2;
+        cellKeys = new long[newCapacity];
+        cellHeads = new int[newCapacity];
+        cellStamps = new int[newCapacity];
+        cellMask = newCapacity - 1;
+
+        // Re-insert live cells, keeping their insertion order
+        for (int u = 0; u < usedCount; u++) {
+            int oldSlot = usedSlots[u];
+            long key = oldKeys[oldSlot];
+            int slot = hash(key) & cellMask;
+            while (cellStamps[slot] == stamp) {
+                slot = (slot + 1) & cellMask;
+            }
+            cellStamps[slot] = stamp;
+            cellKeys[slot] = key;
+            cellHeads[slot] = oldHeads[oldSlot];
+            usedSlots[u] = slot;
+        }
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32);
+    }
+}
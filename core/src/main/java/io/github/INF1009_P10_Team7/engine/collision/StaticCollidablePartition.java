@@ -0,0 +1,297 @@
+package io.github.INF1009_P10_Team7.engine.collision;
+
+import java.util.Arrays;
+
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+
+/**
+ * <p>Grid index of static collidables (terminals, triggers, props) owned by
+ * the {@link CollisionManager}.</p>
+ *
+ * <p>Static objects are inserted once, when they are registered, and
+ * removed when they are unregistered. They are never re-hashed or tested
+ * against each other; each frame only moving bodies {@link #query} the
+ * index for statics near them.</p>
+ *
+ * <p>Objects are stored by their collision handle. A static spanning
+ * several cells is reported only once per query, from the cell at the
+ * minimum corner of the query range and the object's range.</p>
+ */
+public final class StaticCollidablePartition {
+
+    private static final int EMPTY = -1;
+
+    private final float invCellSize;
+
+    // Cell range of each indexed static, indexed by handle
+    private int[] minCellX = new int[64];
+    private int[] minCellY = new int[64];
+    private int[] maxCellX = new int[64];
+    private int[] maxCellY = new int[64];
+    private boolean[] indexed = new boolean[64];
+    private int size;
+
+    // Open-addressed cell table; cells are kept once created
+    private long[] cellKeys = new long[256];
+    private int[] cellHeads = new int[256];
+    private boolean[] cellUsed = new boolean[256];
+    private int cellMask = 255;
+    private int cellCount;
+
+    // Linked list entries: one per (handle, cell) insertion, recycled via a free list
+    private int[] entryHandle = new int[256];
+    private int[] entryNext = new int[256];
+    private int entryCount;
+    private int freeEntry = EMPTY;
+
+    // Handles found by the last query
+    private int[] results = new int[32];
+    private int resultCount;
+
+    /**
+     * <p>Creates an empty partition.</p>
+     *
+     * @param cellSize width and height of a grid cell in world units
+     */
+    public StaticCollidablePartition(float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.invCellSize = 1f / cellSize;
+    }
+
+    /**
+     * <p>Indexes a static object at its current position.</p>
+     *
+     * @param handle the object's collision handle
+     * @param obj the static object
+     */
+    public void insert(int handle, ICollidable obj) {
+        ensureHandleCapacity(handle);
+        if (indexed[handle]) {
+            remove(handle);
+        }
+
+        Vector2 pos = obj.getPosition();
+        float r = obj.getCollisionRadius();
+        int x0 = cellOf(pos.x - r);
+        int y0 = cellOf(pos.y - r);
+        int x1 = cellOf(pos.x + r);
+        int y1 = cellOf(pos.y + r);
+        minCellX[handle] = x0;
+        minCellY[handle] = y0;
+        maxCellX[handle] = x1;
+        maxCellY[handle] = y1;
+        indexed[handle] = true;
+        size++;
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int slot = findOrCreateSlot(cx, cy);
+                int entry = newEntry(handle);
+                entryNext[entry] = cellHeads[slot];
+                cellHeads[slot] = entry;
+            }
+        }
+    }
+
+    /**
+     * <p>Removes a static object from the index. Unknown handles are ignored.</p>
+     *
+     * @param handle the object's collision handle
+     */
+    public void remove(int handle) {
+        if (handle >= indexed.length || !indexed[handle]) {
+            return;
+        }
+
+        for (int cy = minCellY[handle]; cy <= maxCellY[handle]; cy++) {
+            for (int cx = minCellX[handle]; cx <= maxCellX[handle]; cx++) {
+                int slot = findSlot(cx, cy);
+                if (slot == EMPTY) continue;
+
+                int prev = EMPTY;
+                for (int e = cellHeads[slot]; e != EMPTY; e = entryNext[e]) {
+                    if (entryHandle[e] != handle) {
+                        prev = e;
+                        continue;
+                    }
+                    if (prev == EMPTY) {
+                        cellHeads[slot] = entryNext[e];
+                    } else {
+                        entryNext[prev] = entryNext[e];
+                    }
+                    entryNext[e] = freeEntry;
+                    freeEntry = e;
+                    break;
+                }
+            }
+        }
+        indexed[handle] = false;
+        size--;
+    }
+
+    /**
+     * <p>Finds the statics whose cells overlap the given circle's bounds.
+     * Results are read with {@link #getResult} and stay valid until the
+     * next query.</p>
+     *
+     * @param x centre x of the query circle
+     * @param y centre y of the query circle
+     * @param radius radius of the query circle
+     * @return the number of handles found
+     */
+    public int query(float x, float y, float radius) {
+        resultCount = 0;
+        if (size == 0) return 0;
+
+        int x0 = cellOf(x - radius);
+        int y0 = cellOf(y - radius);
+        int x1 = cellOf(x + radius);
+        int y1 = cellOf(y + radius);
+
+        for (int cy = y0; cy <= y1; cy++) {
+            for (int cx = x0; cx <= x1; cx++) {
+                int slot = findSlot(cx, cy);
+                if (slot == EMPTY) continue;
+
+                for (int e = cellHeads[slot]; e != EMPTY; e = entryNext[e]) {
+                    int handle = entryHandle[e];
+                    // Only the first shared cell reports the object
+                    if (Math.max(x0, minCellX[handle]) != cx) continue;
+                    if (Math.max(y0, minCellY[handle]) != cy) continue;
+
+                    if (resultCount == results.length) {
+                        results = Arrays.copyOf(results, results.length * 2);
+                    }
+                    results[resultCount++] = handle;
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    /** @return handle {@code i} found by the last {@link #query} */
+    public int getResult(int i) {
+        return results[i];
+    }
+
+    /** @return {@code true} if the handle is currently indexed */
+    public boolean contains(int handle) {
+        return handle < indexed.length && indexed[handle];
+    }
+
+    /** @return the number of indexed statics */
+    public int size() {
+        return size;
+    }
+
+    /** <p>Removes every static while keeping the allocated tables.</p> */
+    public void clear() {
+        Arrays.fill(indexed, false);
+        Arrays.fill(cellUsed, false);
+        cellCount = 0;
+        entryCount = 0;
+        freeEntry = EMPTY;
+        resultCount = 0;
+        size = 0;
+    }
+
+    private int cellOf(float coordinate) {
+        return (int) Math.floor(coordinate * invCellSize);
+    }
+
+    private void ensureHandleCapacity(int handle) {
+        if (handle < indexed.length) return;
+        int newCapacity = Math.max(handle + 1, indexed.length * 2);
+        minCellX = Arrays.copyOf(minCellX, newCapacity);
+        minCellY = Arrays.copyOf(minCellY, newCapacity);
+        maxCellX = Arrays.copyOf(maxCellX, newCapacity);
+        maxCellY = Arrays.copyOf(maxCellY, newCapacity);
+        indexed = Arrays.copyOf(indexed, newCapacity);
+    }
+
+    private int newEntry(int handle) {
+        int entry;
+        if (freeEntry != EMPTY) {
+            entry = freeEntry;
+            freeEntry = entryNext[entry];
+        } else {
+            if (entryCount == entryHandle.length) {
+                int newCapacity = entryHandle.length * 2;
+                entryHandle = Arrays.copyOf(entryHandle, newCapacity);
+                entryNext = Arrays.copyOf(entryNext, newCapacity);
+            }
+            entry = entryCount++;
+        }
+        entryHandle[entry] = handle;
+        return entry;
+    }
+
+    private int findSlot(int cx, int cy) {
+        long key = cellKey(cx, cy);
+        int slot = hash(key) & cellMask;
+        while (cellUsed[slot]) {
+            if (cellKeys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & cellMask;
+        }
+        return EMPTY;
+    }
+
+    private int findOrCreateSlot(int cx, int cy) {
+        int slot = findSlot(cx, cy);
+        if (slot != EMPTY) {
+            return slot;
+        }
+
+        // Keep the table at most half full
+        if ((cellCount + 1) * 2 > cellKeys.length) {
+            growTable();
+        }
+
+        long key = cellKey(cx, cy);
+        slot = hash(key) & cellMask;
+        while (cellUsed[slot]) {
+            slot = (slot + 1) & cellMask;
+        }
+        cellUsed[slot] = true;
+        cellKeys[slot] = key;
+        cellHeads[slot] = EMPTY;
+        cellCount++;
+        return slot;
+    }
+
+    private void growTable() {
+        long[] oldKeys = cellKeys;
+        int[] oldHeads = cellHeads;
+        boolean[] oldUsed = cellUsed;
+
+        int newCapacity = cellKeys.length * 2;
+        cellKeys = new long[newCapacity];
+        cellHeads = new int[newCapacity];
+        cellUsed = new boolean[newCapacity];
+        cellMask = newCapacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (!oldUsed[i]) continue;
+            int slot = hash(oldKeys[i]) & cellMask;
+            while (cellUsed[slot]) {
+                slot = (slot + 1) & cellMask;
+            }
+            cellUsed[slot] = true;
+            cellKeys[slot] = oldKeys[i];
+            cellHeads[slot] = oldHeads[i];
+        }
+    }
+
+    private static long cellKey(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32);
+    }
+}
@@ -5,11 +5,18 @@ import io.github.INF1009_P10_Team7.engine.collision.ICollisionSystem;
 import io.github.INF1009_P10_Team7.engine.entity.EntityManager;
 import io.github.INF1009_P10_Team7.engine.entity.IEntityQuery;
 import io.github.INF1009_P10_Team7.engine.entity.IEntitySystem;
+import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
+import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
 import io.github.INF1009_P10_Team7.engine.inputoutput.IAudioController;
 import io.github.INF1009_P10_Team7.engine.inputoutput.IInputController;
+import io.github.INF1009_P10_Team7.engine.inputoutput.IRawInputSink;
 import io.github.INF1009_P10_Team7.engine.inputoutput.InputOutputManager;
+import io.github.INF1009_P10_Team7.engine.inputoutput.InputRecording;
+import io.github.INF1009_P10_Team7.engine.inputoutput.ScriptedInputDevice;
 import io.github.INF1009_P10_Team7.engine.movement.IMovementSystem;
+import io.github.INF1009_P10_Team7.engine.movement.ISteeringSystem;
 import io.github.INF1009_P10_Team7.engine.movement.MovementManager;
+import io.github.INF1009_P10_Team7.engine.movement.SteeringManager;
 import io.github.INF1009_P10_Team7.engine.scene.Scene;
 import io.github.INF1009_P10_Team7.engine.scene.SceneManager;
 import io.github.INF1009_P10_Team7.engine.scene.SceneNavigator;
@@ -18,65 +25,252 @@ import io.github.INF1009_P10_Team7.engine.scene.SceneNavigator;
  * GameEngine (engine layer)
  * Owns and orchestrates all engine sub-systems.
  * Exposes ONLY interfaces to the simulation layer (Dependency Inversion).
+ *
+ * The tick itself is a {@link SystemScheduler}: each manager is registered
+ * in an {@link UpdatePhase} with a priority, so the frame order is explicit
+ * and game code can add systems before or after the built-in ones.
+ *
+ * By default the tick runs once per frame with the frame's delta. With
+ * {@link #setFixedTimestep} frame time is accumulated and the tick runs in
+ * whole steps of 1/hz seconds (zero or more per frame, capped to avoid a
+ * spiral after a hitch). Transforms are snapshotted before each step and
+ * {@link #render()} hands scenes the fraction of a step left over, so they
+ * can interpolate positions between the last two steps.
+ *
+ * {@link #headless} builds an engine that needs no window, GL or audio:
+ * input comes from scripted devices, audio is silent and render() does
+ * nothing, so scenes can be ticked as fast as the CPU allows. Engines share
+ * no state, so several can run on different threads.
+ *
+ * Randomness goes through {@link #getRandom()}, one seeded stream per
+ * subsystem. Together with {@link #startRecording()} this makes a run
+ * reproducible: the recording stores the seed plus every tick's delta time
+ * and input, and {@link #startReplay} feeds them back in the same order.
  */
 public class GameEngine {
 
+    /** Priority of the built-in systems; game systems can go either side. */
+    public static final int ENGINE_PRIORITY = 0;
+    /** Default number of fixed steps one frame may run to catch up. */
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
     private final InputOutputManager io;
     private final CollisionManager collision;
     private final MovementManager movement;
+    private final SteeringManager steering;
     private final EntityManager entities;
     private final SceneManager scenes;
+    private final SystemScheduler scheduler;
+    private final RandomService random;
+    private final boolean headless;
+
+    // Fixed-step state; fixedStep 0 means one variable step per frame
+    private float fixedStep;
+    private int maxStepsPerFrame = DEFAULT_MAX_STEPS_PER_FRAME;
+    private float accumulator;
+    private float renderAlpha = 1f;
 
     public GameEngine() {
-        io = new InputOutputManager();
+        this(new InputOutputManager(), false);
+    }
+
+    private GameEngine(InputOutputManager io, boolean headless) {
+        this.io = io;
+        this.headless = headless;
         collision = new CollisionManager();
-        movement = new MovementManager();
         entities = new EntityManager();
+        movement = new MovementManager(entities);
+        steering = new SteeringManager();
         scenes = new SceneManager();
+        random = new RandomService(System.nanoTime());
+        movement.setActivityRegion(entities.getActivityRegion());
+        scheduler = new SystemScheduler();
+        registerEngineSystems();
+    }
+
+    /**
+     * Creates an engine for running without a LibGDX window.
+     *
+     * @param keyboard scripted stand-in for the keyboard
+     * @param mouse scripted stand-in for the mouse
+     * @return an engine whose render() and resize() do nothing
+     */
+    public static GameEngine headless(ScriptedInputDevice keyboard, ScriptedInputDevice mouse) {
+        return new GameEngine(InputOutputManager.headless(keyboard, mouse), true);
+    }
+
+    private void registerEngineSystems() {
+        scheduler.register("engine.input", UpdatePhase.INPUT, ENGINE_PRIORITY, dt -> io.update())
+            .writes(IInputController.class);
+
+        // When a scene is about to be replaced, clear all manager state FIRST
+        // so the new scene's onLoad() populates fresh managers.
+        scheduler.register("engine.sceneReset", UpdatePhase.PRE_UPDATE, ENGINE_PRIORITY - 100, dt -> {
+            if (scenes.hasPendingReplace()) {
+                collision.clear();
+                movement.clear();
+                steering.clear();
+                entities.clear();
+            }
+        }).writes(ICollisionSystem.class, IMovementSystem.class, ISteeringSystem.class, IEntitySystem.class);
+
+        // Scenes may touch anything, so they declare nothing and run alone
+        scheduler.register("engine.scenes", UpdatePhase.PRE_UPDATE, ENGINE_PRIORITY, dt -> {
+            scenes.update(dt);
+            // Consume the flag (no extra action needed - scene already loaded by SceneManager)
+            scenes.consumeSceneReplacedFlag();
+        });
+
+        // Opens the tick for dormancy decisions; scenes set the focus before this
+        scheduler.register("engine.activity", UpdatePhase.UPDATE, ENGINE_PRIORITY - 100,
+            entities.getActivityRegion()::beginTick);
+
+        // Neighbour snapshot for this tick's steering, taken before anything moves
+        scheduler.register("engine.steering", UpdatePhase.UPDATE, ENGINE_PRIORITY - 50, dt -> steering.update())
+            .writes(ISteeringSystem.class);
+
+        scheduler.register("engine.movement", UpdatePhase.UPDATE, ENGINE_PRIORITY, movement::updateAll)
+            .reads(IInputController.class, ISteeringSystem.class)
+            .writes(TransformComponent.class, PhysicComponent.class, IMovementSystem.class);
+
+        scheduler.register("engine.collision", UpdatePhase.PHYSICS, ENGINE_PRIORITY, collision::update)
+            .reads(PhysicComponent.class)
+            .writes(TransformComponent.class, ICollisionSystem.class);
+
+        scheduler.register("engine.sceneLate", UpdatePhase.POST_UPDATE, ENGINE_PRIORITY, scenes::lateUpdate);
+
+        // Components may touch anything, so entity updates run alone
+        scheduler.register("engine.entities", UpdatePhase.LATE_UPDATE, ENGINE_PRIORITY, entities::updateAll);
+
+        scheduler.setWorldPausedCheck(() -> {
+            Scene top = scenes.getCurrentScene();
+            return top != null && top.blocksWorldUpdate();
+        });
     }
 
     // Expose only interfaces to simulation/scenes
     public IInputController getInput() { return io; }
     public IAudioController getAudio() { return io; }
+    public IRawInputSink getRawInput() { return io; }
     public IEntityQuery getEntityQuery() { return entities; }
     public IEntitySystem getEntitySystem() { return entities; }
     public ICollisionSystem getCollisionSystem() { return collision; }
     public IMovementSystem getMovementSystem() { return movement; }
+    public ISteeringSystem getSteeringSystem() { return steering; }
     public SceneNavigator getNavigator() { return scenes; }
+    public IRandomService getRandom() { return random; }
 
-    public SceneManager getSceneManager() { return scenes; }
+    public ISystemScheduler getScheduler() { return scheduler; }
 
-    public void update(float dt) {
-        io.update();
+    public boolean isHeadless() { return headless; }
 
-        // When a scene is about to be replaced, clear all manager state FIRST
-        // so the new scene's onLoad() populates fresh managers.
-        if (scenes.hasPendingReplace()) {
-            collision.clear();
-            movement.clear();
-            entities.clear();
+    /**
+     * Sets the master seed and restarts every random stream from it.
+     * Call before loading a level to play it with a known seed.
+     *
+     * @param seed the master seed
+     */
+    public void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Starts recording input and tick times. The random streams are restarted
+     * from the current seed so a replay draws the same numbers; start before
+     * the level loads (e.g. just before navigating to it).
+     */
+    public void startRecording() {
+        random.setSeed(random.getSeed());
+        io.startRecording(random.getSeed());
+    }
+
+    /** @return the recording, or {@code null} if none was in progress */
+    public InputRecording stopRecording() {
+        return io.stopRecording();
+    }
+
+    public boolean isRecording() { return io.isRecording(); }
+
+    /**
+     * Replays a recording from the start: restores its seed, then feeds its
+     * ticks in place of live input and frame time. Start it at the same
+     * point the recording started.
+     *
+     * @param recording a recording from {@link #stopRecording()}
+     */
+    public void startReplay(InputRecording recording) {
+        random.setSeed(recording.getSeed());
+        io.startReplay(recording);
+    }
+
+    public void stopReplay() { io.stopReplay(); }
+
+    /** @return {@code true} until the replay's last tick has run */
+    public boolean isReplaying() { return io.isReplaying(); }
+
+    public SceneManager getSceneManager() { return scenes; }
+
+    /**
+     * Runs the simulation in fixed steps of {@code 1 / hz} seconds.
+     *
+     * @param hz simulation ticks per second
+     * @param maxStepsPerFrame most steps one frame may run; time beyond
+     *                         that is dropped so a long hitch slows the
+     *                         game down instead of stalling it
+     */
+    public void setFixedTimestep(float hz, int maxStepsPerFrame) {
+        if (!(hz > 0f) || maxStepsPerFrame < 1) {
+            throw new IllegalArgumentException("hz must be > 0 and maxStepsPerFrame >= 1");
         }
+        this.fixedStep = 1f / hz;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+        this.accumulator = 0f;
+        entities.snapshotTransforms();
+    }
+
+    /** Goes back to one simulation step per frame with the frame's delta. */
+    public void setVariableTimestep() {
+        fixedStep = 0f;
+        accumulator = 0f;
+        renderAlpha = 1f;
+    }
 
-        scenes.update(dt);
-        // Consume the flag (no extra action needed - scene already loaded by SceneManager)
-        scenes.consumeSceneReplacedFlag();
+    public boolean isFixedTimestep() { return fixedStep > 0f; }
 
-        Scene top = scenes.getCurrentScene();
-        boolean pauseWorld = top != null && top.blocksWorldUpdate();
+    /** @return seconds per fixed step, or 0 with a variable step */
+    public float getFixedStep() { return fixedStep; }
 
-        if (!pauseWorld) {
-            movement.updateAll(dt);
-            collision.update(dt);
-            scenes.lateUpdate(dt);
-            entities.updateAll(dt);
+    /** @return fraction of a step between the latest step and the frame being drawn */
+    public float getInterpolationAlpha() { return renderAlpha; }
+
+    public void update(float dt) {
+        if (fixedStep <= 0f) {
+            scheduler.update(io.beginTick(dt));
+            return;
+        }
+
+        accumulator += Math.max(0f, dt);
+        int steps = 0;
+        while (accumulator >= fixedStep && steps < maxStepsPerFrame) {
+            entities.snapshotTransforms();
+            scheduler.update(io.beginTick(fixedStep));
+            accumulator -= fixedStep;
+            steps++;
+        }
+        if (accumulator >= fixedStep) {
+            // Too far behind to catch up; keep only the partial step
+            accumulator %= fixedStep;
         }
+        renderAlpha = accumulator / fixedStep;
     }
 
     public void render() {
-        scenes.render();
+        if (headless) return;
+        scenes.render(renderAlpha);
     }
 
     public void resize(int w, int h) {
+        if (headless) return;
         scenes.resize(w, h);
     }
 
@@ -84,6 +278,7 @@ public class GameEngine {
         scenes.dispose();
         collision.clear();
         movement.clear();
+        steering.clear();
         entities.dispose();
         io.dispose();
     }
@@ -0,0 +1,19 @@
+package io.github.INF1009_P10_Team7.engine.core;
+
+/**
+ * IGameSystem, one unit of per-tick work run by {@link SystemScheduler}.
+ *
+ * <p>Functional interface so existing managers can be registered with a
+ * method reference, e.g. {@code movement::updateAll}, without having to
+ * implement it themselves (DIP).</p>
+ */
+@FunctionalInterface
+public interface IGameSystem {
+
+    /**
+     * Runs this system for one tick.
+     *
+     * @param deltaTime seconds elapsed since the last tick
+     */
+    void update(float deltaTime);
+}
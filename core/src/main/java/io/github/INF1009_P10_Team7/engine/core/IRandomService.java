@@ -0,0 +1,26 @@
+package io.github.INF1009_P10_Team7.engine.core;
+
+import java.util.Random;
+
+/**
+ * IRandomService, seeded random numbers for the simulation.
+ *
+ * <p>Each subsystem asks for its own named stream ("drones", "cctv", ...).
+ * Every stream is derived from one master seed, so a run is reproduced by
+ * reusing the seed, and a subsystem drawing more or fewer numbers does not
+ * shift the sequence any other subsystem sees.</p>
+ */
+public interface IRandomService {
+
+    /**
+     * Returns the stream for a subsystem, creating it on first use. The same
+     * name always returns the same instance.
+     *
+     * @param name subsystem name
+     * @return the stream; not thread-safe, use it from the simulation thread
+     */
+    Random stream(String name);
+
+    /** @return the master seed every stream is derived from */
+    long getSeed();
+}
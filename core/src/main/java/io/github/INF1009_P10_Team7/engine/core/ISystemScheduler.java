@@ -0,0 +1,37 @@
+package io.github.INF1009_P10_Team7.engine.core;
+
+/**
+ * ISystemScheduler, registration interface of the engine's tick scheduler.
+ *
+ * <p>Game code depends on this narrow interface (ISP / DIP) to add its own
+ * systems to a phase; running the schedule stays with
+ * {@link GameEngine}.</p>
+ */
+public interface ISystemScheduler {
+
+    /**
+     * Registers a system. Within a phase, systems run by ascending
+     * priority, then in registration order.
+     *
+     * @param name a unique, human-readable name used in logs and lookups
+     * @param phase the phase to run in
+     * @param priority order within the phase; lower runs first
+     * @param system the work to run each tick
+     * @return the registration, used to declare reads and writes
+     * @throws IllegalArgumentException if the name is already registered
+     */
+    ScheduledSystem register(String name, UpdatePhase phase, int priority, IGameSystem system);
+
+    /**
+     * Removes a system; does nothing if it is not registered.
+     *
+     * @param system the registration returned by {@link #register}
+     */
+    void unregister(ScheduledSystem system);
+
+    /**
+     * @param name a registered system name
+     * @return the registration, or {@code null}
+     */
+    ScheduledSystem find(String name);
+}
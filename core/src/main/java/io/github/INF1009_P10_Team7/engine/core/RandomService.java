@@ -0,0 +1,61 @@
+package io.github.INF1009_P10_Team7.engine.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * RandomService, the engine's {@link IRandomService}.
+ *
+ * <p>A stream's seed is a hash of the master seed and the stream name.
+ * {@link #setSeed} reseeds the existing streams in place, so subsystems
+ * may keep the {@link Random} they were given; replays call it before the
+ * level loads to reproduce a recorded run.</p>
+ */
+public class RandomService implements IRandomService {
+
+    private final Map<String, Random> streams = new LinkedHashMap<>();
+    private long seed;
+
+    public RandomService(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the master seed and restarts every stream from it.
+     *
+     * @param seed the new master seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        for (Map.Entry<String, Random> entry : streams.entrySet()) {
+            entry.getValue().setSeed(streamSeed(seed, entry.getKey()));
+        }
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public Random stream(String name) {
+        Random random = streams.get(name);
+        if (random == null) {
+            random = new Random(streamSeed(seed, name));
+            streams.put(name, random);
+        }
+        return random;
+    }
+
+    private static long streamSeed(long seed, String name) {
+        return mix(seed ^ mix(name.hashCode()));
+    }
+
+    // SplitMix64 finaliser: nearby inputs give unrelated outputs
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
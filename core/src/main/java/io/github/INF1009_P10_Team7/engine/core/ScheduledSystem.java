@@ -0,0 +1,136 @@
+package io.github.INF1009_P10_Team7.engine.core;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * ScheduledSystem, a system registered with {@link SystemScheduler} along
+ * with its phase, priority and declared data access.
+ *
+ * <p>Reads and writes are declared as {@link Class} tokens naming the data
+ * a system touches, usually component classes (e.g.
+ * {@code TransformComponent.class}) or subsystem interfaces (e.g.
+ * {@code ICollisionSystem.class}). Two systems conflict when one writes
+ * something the other reads or writes. A system that declares nothing is
+ * treated as touching everything, so leaving declarations out is always
+ * safe, just never parallel.</p>
+ */
+public final class ScheduledSystem {
+
+    private final String name;
+    private final UpdatePhase phase;
+    private final int priority;
+    private final IGameSystem system;
+    // Registration order, used to break priority ties deterministically
+    private final int sequence;
+
+    private final Set<Class<?>> reads = new LinkedHashSet<>();
+    private final Set<Class<?>> writes = new LinkedHashSet<>();
+    private boolean enabled = true;
+
+    private final SystemScheduler owner;
+
+    ScheduledSystem(SystemScheduler owner, String name, UpdatePhase phase,
+                    int priority, IGameSystem system, int sequence) {
+        this.owner = owner;
+        this.name = name;
+        this.phase = phase;
+        this.priority = priority;
+        this.system = system;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Declares data this system reads.
+     *
+     * @param types the data read
+     * @return this registration, for chaining
+     */
+    public ScheduledSystem reads(Class<?>... types) {
+        Collections.addAll(reads, types);
+        owner.markDirty();
+        return this;
+    }
+
+    /**
+     * Declares data this system writes. Writing implies reading.
+     *
+     * @param types the data written
+     * @return this registration, for chaining
+     */
+    public ScheduledSystem writes(Class<?>... types) {
+        Collections.addAll(writes, types);
+        owner.markDirty();
+        return this;
+    }
+
+    /** @return {@code true} if this system declared any reads or writes */
+    public boolean hasDeclaredAccess() {
+        return !reads.isEmpty() || !writes.isEmpty();
+    }
+
+    /**
+     * @param other another system
+     * @return {@code true} if the two systems may not run at the same time
+     */
+    public boolean conflictsWith(ScheduledSystem other) {
+        if (!hasDeclaredAccess() || !other.hasDeclaredAccess()) {
+            return true;
+        }
+        return overlaps(writes, other.writes)
+            || overlaps(writes, other.reads)
+            || overlaps(reads, other.writes);
+    }
+
+    /** Skips or resumes this system without changing its place in the schedule. */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public UpdatePhase getPhase() {
+        return phase;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    /** @return read-only view of the declared reads */
+    public Set<Class<?>> getReads() {
+        return Collections.unmodifiableSet(reads);
+    }
+
+    /** @return read-only view of the declared writes */
+    public Set<Class<?>> getWrites() {
+        return Collections.unmodifiableSet(writes);
+    }
+
+    int getSequence() {
+        return sequence;
+    }
+
+    void run(float deltaTime) {
+        system.update(deltaTime);
+    }
+
+    private static boolean overlaps(Set<Class<?>> a, Set<Class<?>> b) {
+        for (Class<?> type : a) {
+            if (b.contains(type)) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledSystem{" + name + ", " + phase + ", priority=" + priority + "}";
+    }
+}
@@ -0,0 +1,178 @@
+package io.github.INF1009_P10_Team7.engine.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * SystemScheduler, runs registered systems once per tick in a fixed,
+ * deterministic order.
+ *
+ * <p>Order is {@link UpdatePhase} first, then ascending priority, then
+ * registration order, so the same registrations always produce the same
+ * sequence, which replays depend on. The order is rebuilt lazily after a
+ * registration changes and is otherwise a plain array walk.</p>
+ *
+ * <p>From the declared reads and writes the scheduler also splits each
+ * phase into batches: consecutive systems that do not conflict with each
+ * other share a batch and could run concurrently without changing the
+ * result. Execution is currently serial; {@link #getBatches} exposes the
+ * grouping so it can be inspected and used by a multi-core tick.</p>
+ */
+public class SystemScheduler implements ISystemScheduler {
+
+    private static final Comparator<ScheduledSystem> ORDER = (a, b) -> {
+        if (a.getPriority() != b.getPriority()) {
+            return Integer.compare(a.getPriority(), b.getPriority());
+        }
+        return Integer.compare(a.getSequence(), b.getSequence());
+    };
+
+    private static final UpdatePhase[] PHASES = UpdatePhase.values();
+
+    private final List<ScheduledSystem> systems = new ArrayList<>();
+    private final Map<String, ScheduledSystem> byName = new HashMap<>();
+    private int nextSequence;
+
+    // Rebuilt when dirty: systems per phase in run order, and their batches
+    private final ScheduledSystem[][] ordered = new ScheduledSystem[PHASES.length][];
+    private final Map<UpdatePhase, List<List<ScheduledSystem>>> batches = new EnumMap<>(UpdatePhase.class);
+    private boolean dirty = true;
+
+    private BooleanSupplier worldPaused = () -> false;
+
+    /**
+     * Sets the check that decides whether world phases run this tick. It is
+     * evaluated once per tick, right before the first world phase, so
+     * earlier phases (e.g. a scene opening a minigame) can change the answer.
+     *
+     * @param worldPaused returns {@code true} to skip every world phase
+     */
+    public void setWorldPausedCheck(BooleanSupplier worldPaused) {
+        this.worldPaused = worldPaused != null ? worldPaused : () -> false;
+    }
+
+    @Override
+    public ScheduledSystem register(String name, UpdatePhase phase, int priority, IGameSystem system) {
+        if (name == null || phase == null || system == null) {
+            throw new IllegalArgumentException("name, phase and system are required");
+        }
+        if (byName.containsKey(name)) {
+            throw new IllegalArgumentException("System already registered: " + name);
+        }
+        ScheduledSystem scheduled = new ScheduledSystem(this, name, phase, priority, system, nextSequence++);
+        systems.add(scheduled);
+        byName.put(name, scheduled);
+        dirty = true;
+        return scheduled;
+    }
+
+    @Override
+    public void unregister(ScheduledSystem system) {
+        if (system == null || byName.get(system.getName()) != system) return;
+        systems.remove(system);
+        byName.remove(system.getName());
+        dirty = true;
+    }
+
+    @Override
+    public ScheduledSystem find(String name) {
+        return byName.get(name);
+    }
+
+    /**
+     * Runs one tick: every enabled system, phase by phase.
+     *
+     * @param deltaTime seconds since the last tick
+     */
+    public void update(float deltaTime) {
+        rebuildIfDirty();
+
+        boolean pauseChecked = false;
+        for (int p = 0; p < PHASES.length; p++) {
+            if (PHASES[p].isWorldPhase() && !pauseChecked) {
+                pauseChecked = true;
+                if (worldPaused.getAsBoolean()) return;
+            }
+            ScheduledSystem[] phaseSystems = ordered[p];
+            for (int i = 0; i < phaseSystems.length; i++) {
+                ScheduledSystem system = phaseSystems[i];
+                if (system.isEnabled()) {
+                    system.run(deltaTime);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param phase a phase
+     * @return the systems of {@code phase} in run order
+     */
+    public List<ScheduledSystem> getOrder(UpdatePhase phase) {
+        rebuildIfDirty();
+        List<ScheduledSystem> order = new ArrayList<>();
+        Collections.addAll(order, ordered[phase.ordinal()]);
+        return order;
+    }
+
+    /**
+     * Returns the run order of {@code phase} split into batches of
+     * mutually non-conflicting systems. Running each batch's systems
+     * concurrently, batch after batch, gives the same result as the
+     * serial order.
+     *
+     * @param phase a phase
+     * @return read-only list of batches, in run order
+     */
+    public List<List<ScheduledSystem>> getBatches(UpdatePhase phase) {
+        rebuildIfDirty();
+        return batches.get(phase);
+    }
+
+    void markDirty() {
+        dirty = true;
+    }
+
+    private void rebuildIfDirty() {
+        if (!dirty) return;
+        dirty = false;
+
+        for (UpdatePhase phase : PHASES) {
+            List<ScheduledSystem> inPhase = new ArrayList<>();
+            for (ScheduledSystem system : systems) {
+                if (system.getPhase() == phase) inPhase.add(system);
+            }
+            inPhase.sort(ORDER);
+            ordered[phase.ordinal()] = inPhase.toArray(new ScheduledSystem[0]);
+            batches.put(phase, buildBatches(inPhase));
+        }
+    }
+
+    private static List<List<ScheduledSystem>> buildBatches(List<ScheduledSystem> inOrder) {
+        List<List<ScheduledSystem>> result = new ArrayList<>();
+        List<ScheduledSystem> current = new ArrayList<>();
+        for (ScheduledSystem system : inOrder) {
+            boolean conflicts = false;
+            for (ScheduledSystem other : current) {
+                if (system.conflictsWith(other)) {
+                    conflicts = true;
+                    break;
+                }
+            }
+            if (conflicts) {
+                result.add(Collections.unmodifiableList(current));
+                current = new ArrayList<>();
+            }
+            current.add(system);
+        }
+        if (!current.isEmpty()) {
+            result.add(Collections.unmodifiableList(current));
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
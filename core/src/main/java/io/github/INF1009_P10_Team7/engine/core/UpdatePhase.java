@@ -0,0 +1,36 @@
+package io.github.INF1009_P10_Team7.engine.core;
+
+/**
+ * UpdatePhase, the fixed stages of one engine tick, in execution order.
+ *
+ * <p>{@link SystemScheduler} runs every system of one phase before moving
+ * to the next. Phases marked as world phases are skipped while the current
+ * scene blocks world updates (e.g. a modal minigame is open); input and
+ * scene phases always run so the blocking scene can still react.</p>
+ */
+public enum UpdatePhase {
+
+    /** Device polling and input state. */
+    INPUT(false),
+    /** Scene transitions and scene logic that reads input. */
+    PRE_UPDATE(false),
+    /** Movement and other simulation that writes transforms. */
+    UPDATE(true),
+    /** Collision detection and response. */
+    PHYSICS(true),
+    /** Scene logic that reacts to collision results. */
+    POST_UPDATE(true),
+    /** Per-entity component updates and deferred structural changes. */
+    LATE_UPDATE(true);
+
+    private final boolean world;
+
+    UpdatePhase(boolean world) {
+        this.world = world;
+    }
+
+    /** @return {@code true} if this phase is skipped while the world is paused */
+    public boolean isWorldPhase() {
+        return world;
+    }
+}
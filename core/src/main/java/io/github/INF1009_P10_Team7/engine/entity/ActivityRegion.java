@@ -0,0 +1,193 @@
+package io.github.INF1009_P10_Team7.engine.entity;
+
+import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+
+/**
+ * ActivityRegion, decides per tick which entities simulate at full rate.
+ *
+ * <p>Entities whose {@link TransformComponent} lies within
+ * {@link #setRadius radius} of the focus point (usually the player or
+ * camera) are awake and step every tick. Entities further away are
+ * dormant: they bank the elapsed time and step only about once per
+ * {@link #setDormantInterval dormant interval}, receiving the banked time
+ * as one larger delta. Time is never lost, so timers and patrol routes
+ * stay where they would have been, just updated less often. When a
+ * dormant entity wakes up, its next step pays out whatever was banked.</p>
+ *
+ * <p>An entity can be kept awake for a while regardless of distance with
+ * {@link #wake}, e.g. when an alarm sends it towards the player. Entities
+ * without a transform are always awake.</p>
+ *
+ * <p>The decision is made once per tick, the first time an entity is
+ * asked about, so {@link EntityManager} and the movement system see the
+ * same delta for it. Culling is off until a positive radius is set.
+ * Not thread-safe; decisions are taken on the thread that runs the tick.</p>
+ */
+public final class ActivityRegion {
+
+    /** Default time a dormant entity banks before it steps. */
+    public static final float DEFAULT_DORMANT_INTERVAL = 0.2f;
+
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+
+    private float focusX;
+    private float focusY;
+    private float radius;
+    private float dormantInterval = DEFAULT_DORMANT_INTERVAL;
+
+    // Tick counter and clock, advanced by beginTick
+    private int tick = 1;
+    private float time;
+
+    // Counts for the current tick
+    private int awakeCount;
+    private int dormantCount;
+
+    /**
+     * Sets the centre of the awake region.
+     *
+     * @param x world x
+     * @param y world y
+     */
+    public void setFocus(float x, float y) {
+        this.focusX = x;
+        this.focusY = y;
+    }
+
+    /**
+     * Sets the awake radius around the focus.
+     *
+     * @param radius world units; {@code 0} or less disables culling
+     */
+    public void setRadius(float radius) {
+        this.radius = radius;
+    }
+
+    public float getRadius() {
+        return radius;
+    }
+
+    /**
+     * Sets how much time a dormant entity banks before it steps. Each
+     * entity uses between half and all of this, depending on its handle,
+     * so dormant entities do not all step on the same tick.
+     *
+     * @param seconds the interval; {@link Float#POSITIVE_INFINITY} suspends
+     *                dormant entities entirely (banked time is then dropped)
+     * @throws IllegalArgumentException if {@code seconds} is not positive
+     */
+    public void setDormantInterval(float seconds) {
+        if (!(seconds > 0f)) {
+            throw new IllegalArgumentException("dormant interval must be > 0");
+        }
+        this.dormantInterval = seconds;
+    }
+
+    public float getDormantInterval() {
+        return dormantInterval;
+    }
+
+    /** @return {@code true} if a radius is set and entities can go dormant */
+    public boolean isEnabled() {
+        return radius > 0f;
+    }
+
+    /**
+     * Keeps an entity awake for at least {@code seconds}, wherever it is.
+     * Takes effect from the next decision about the entity.
+     *
+     * @param entity the entity
+     * @param seconds how long to keep it awake
+     */
+    public void wake(Entity entity, float seconds) {
+        entity.activityWakeUntil = Math.max(entity.activityWakeUntil, time + seconds);
+        if (entity.activityTick == tick && entity.activityStep == 0f) {
+            // Already skipped this tick; re-decide on next access
+            entity.activityTick = 0;
+        }
+    }
+
+    /** Starts a new tick. Called once per engine tick before any system asks for a step. */
+    public void beginTick(float deltaTime) {
+        tick++;
+        if (tick == 0) tick = 1;
+        time += deltaTime;
+        awakeCount = 0;
+        dormantCount = 0;
+    }
+
+    /**
+     * Returns the delta an entity should simulate this tick.
+     *
+     * @param entity the entity
+     * @param deltaTime the tick's delta
+     * @return {@code deltaTime} (plus any banked time) if the entity steps
+     *         this tick, or {@code 0} if it should be skipped
+     */
+    public float stepDelta(Entity entity, float deltaTime) {
+        if (!isEnabled()) {
+            entity.activityDormant = false;
+            return deltaTime;
+        }
+        if (entity.activityTick != tick) {
+            entity.activityTick = tick;
+            entity.activityStep = decide(entity, deltaTime);
+        }
+        return entity.activityStep;
+    }
+
+    /** @return {@code true} if the entity was dormant at its last decision */
+    public boolean isDormant(Entity entity) {
+        return entity.activityDormant;
+    }
+
+    /** @return entities that stepped at full rate this tick so far */
+    public int getAwakeCount() {
+        return awakeCount;
+    }
+
+    /** @return entities that were dormant this tick so far */
+    public int getDormantCount() {
+        return dormantCount;
+    }
+
+    private float decide(Entity entity, float deltaTime) {
+        if (isAwake(entity)) {
+            awakeCount++;
+            entity.activityDormant = false;
+            float step = deltaTime + entity.activityDebt;
+            entity.activityDebt = 0f;
+            return step;
+        }
+
+        dormantCount++;
+        entity.activityDormant = true;
+        if (dormantInterval == Float.POSITIVE_INFINITY) {
+            return 0f;
+        }
+        entity.activityDebt += deltaTime;
+        if (entity.activityDebt >= personalInterval(entity)) {
+            float step = entity.activityDebt;
+            entity.activityDebt = 0f;
+            return step;
+        }
+        return 0f;
+    }
+
+    private boolean isAwake(Entity entity) {
+        if (entity.activityWakeUntil > time) return true;
+        TransformComponent transform = entity.getComponent(TRANSFORM);
+        if (transform == null) return true;
+        Vector2 pos = transform.getPosition();
+        float dx = pos.x - focusX;
+        float dy = pos.y - focusY;
+        return dx * dx + dy * dy <= radius * radius;
+    }
+
+    private float personalInterval(Entity entity) {
+        // Spread entities over [0.5, 1.0] of the interval using their slot index
+        int spread = (EntityHandle.index(entity.getId()) * 37) & 15;
+        return dormantInterval * (0.5f + spread / 30f);
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.INF1009_P10_Team7.engine.entity;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
+import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+
+/**
+ * Archetype, every registered entity with exactly the same set of
+ * component types, stored column by column.
+ *
+ * <p>Each component type in the archetype has its own contiguous column,
+ * and row {@code i} of every column belongs to {@link #getEntity(int) entity i}.
+ * Systems that want every entity with a given set of components can walk
+ * the matching archetypes row by row instead of probing each entity.
+ * Rows are compacted with swap-remove, so row numbers are only stable
+ * until the next structural change.</p>
+ *
+ * <p>Archetypes that contain both a {@link TransformComponent} and a
+ * {@link PhysicComponent} also keep primitive {@code float} columns for
+ * position and velocity, which the movement system integrates over every
+ * tick. Those are a working copy: {@link #gatherKinematics()} fills them
+ * from the components, the system runs its tight loop over the arrays,
+ * and {@link #scatterPositions()} writes the positions back. The
+ * components stay the source of truth, so code that uses
+ * {@link Entity#getComponent} keeps working unchanged.</p>
+ *
+ * <p>Archetypes are created and filled by {@link ArchetypeStore}; outside
+ * code only reads them.</p>
+ */
+public final class Archetype {
+
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+    private static final ComponentType<PhysicComponent> PHYSIC = ComponentType.of(PhysicComponent.class);
+
+    private final BitSet mask;
+    private final int[] typeIds;
+    // typeId -> column index, or -1
+    private final int[] columnOf;
+
+    private Entity[] entities;
+    private IComponent[][] columns;
+    private int size;
+
+    // Primitive working columns, only allocated for transform + physics.
+    // Refilled by every gather, so rows are not kept in step on removal.
+    private final boolean kinematic;
+    private float[] positionX;
+    private float[] positionY;
+    private float[] velocityX;
+    private float[] velocityY;
+
+    // Cached transitions to the archetype with one type added / removed
+    private Archetype[] addEdges = new Archetype[0];
+    private Archetype[] removeEdges = new Archetype[0];
+
+    Archetype(BitSet mask) {
+        this.mask = (BitSet) mask.clone();
+        this.typeIds = new int[mask.cardinality()];
+        int maxId = -1;
+        int n = 0;
+        for (int id = mask.nextSetBit(0); id >= 0; id = mask.nextSetBit(id + 1)) {
+            typeIds[n++] = id;
+            maxId = id;
+        }
+
+        this.columnOf = new int[maxId + 1];
+        Arrays.fill(columnOf, -1);
+        for (int c = 0; c < typeIds.length; c++) {
+            columnOf[typeIds[c]] = c;
+        }
+
+        int capacity = 8;
+        this.entities = new Entity[capacity];
+        this.columns = new IComponent[typeIds.length][capacity];
+
+        this.kinematic = has(TRANSFORM) && has(PHYSIC);
+        if (kinematic) {
+            positionX = new float[capacity];
+            positionY = new float[capacity];
+            velocityX = new float[capacity];
+            velocityY = new float[capacity];
+        }
+    }
+
+    /** @return number of entities stored in this archetype */
+    public int size() {
+        return size;
+    }
+
+    /** @return the entity in row {@code row} */
+    public Entity getEntity(int row) {
+        return entities[row];
+    }
+
+    /** @return {@code true} if every entity here has a component of this type */
+    public boolean has(ComponentType<?> type) {
+        int id = type.getId();
+        return id < columnOf.length && columnOf[id] >= 0;
+    }
+
+    /**
+     * @return {@code true} if this archetype contains every type set in {@code required}
+     */
+    public boolean containsAll(BitSet required) {
+        for (int id = required.nextSetBit(0); id >= 0; id = required.nextSetBit(id + 1)) {
+            if (id >= columnOf.length || columnOf[id] < 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the component of one type in one row.
+     *
+     * @param row the row
+     * @param type the component type; must be part of this archetype
+     * @param <T> the component class
+     * @return the component
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IComponent> T get(int row, ComponentType<T> type) {
+        return (T) columns[columnOf[type.getId()]][row];
+    }
+
+    /** @return a copy of the set of component type ids in this archetype */
+    public BitSet getMask() {
+        return (BitSet) mask.clone();
+    }
+
+    // ---- Primitive kinematics columns -------------------------------------
+
+    /** @return {@code true} if this archetype has position/velocity float columns */
+    public boolean isKinematic() {
+        return kinematic;
+    }
+
+    /**
+     * Copies every row's transform position and physics velocity into the
+     * float columns.
+     */
+    public void gatherKinematics() {
+        if (!kinematic) return;
+        IComponent[] transforms = columns[columnOf[TRANSFORM.getId()]];
+        IComponent[] physics = columns[columnOf[PHYSIC.getId()]];
+
+        for (int i = 0; i < size; i++) {
+            Vector2 pos = ((TransformComponent) transforms[i]).getPosition();
+            Vector2 vel = ((PhysicComponent) physics[i]).getVelocity();
+            positionX[i] = pos.x;
+            positionY[i] = pos.y;
+            velocityX[i] = vel.x;
+            velocityY[i] = vel.y;
+        }
+    }
+
+    /** Writes the position columns back into every row's transform. */
+    public void scatterPositions() {
+        if (!kinematic) return;
+        IComponent[] transforms = columns[columnOf[TRANSFORM.getId()]];
+        for (int i = 0; i < size; i++) {
+            ((TransformComponent) transforms[i]).getPosition().set(positionX[i], positionY[i]);
+        }
+    }
+
+    /** @return x position column (valid after {@link #gatherKinematics()}), or {@code null} */
+    public float[] getPositionX() {
+        return positionX;
+    }
+
+    /** @return y position column (valid after {@link #gatherKinematics()}), or {@code null} */
+    public float[] getPositionY() {
+        return positionY;
+    }
+
+    /** @return x velocity column (valid after {@link #gatherKinematics()}), or {@code null} */
+    public float[] getVelocityX() {
+        return velocityX;
+    }
+
+    /** @return y velocity column (valid after {@link #gatherKinematics()}), or {@code null} */
+    public float[] getVelocityY() {
+        return velocityY;
+    }
+
+    // ---- Written by ArchetypeStore ----------------------------------------
+
+    int add(Entity entity) {
+        if (size == entities.length) {
+            grow();
+        }
+        int row = size++;
+        entities[row] = entity;
+        for (int c = 0; c < typeIds.length; c++) {
+            columns[c][row] = entity.componentAt(typeIds[c]);
+        }
+        return row;
+    }
+
+    /** Removes a row by moving the last row into it; returns the moved entity or null. */
+    Entity removeRow(int row) {
+        int last = --size;
+        Entity moved = null;
+        if (row != last) {
+            moved = entities[last];
+            entities[row] = moved;
+            for (int c = 0; c < typeIds.length; c++) {
+                columns[c][row] = columns[c][last];
+            }
+        }
+        entities[last] = null;
+        for (int c = 0; c < typeIds.length; c++) {
+            columns[c][last] = null;
+        }
+        return moved;
+    }
+
+    void setComponent(int row, int typeId, IComponent component) {
+        columns[columnOf[typeId]][row] = component;
+    }
+
+    void clearRows() {
+        Arrays.fill(entities, 0, size, null);
+        for (int c = 0; c < typeIds.length; c++) {
+            Arrays.fill(columns[c], 0, size, null);
+        }
+        size = 0;
+    }
+
+    BitSet maskRef() {
+        return mask;
+    }
+
+    Archetype getAddEdge(int typeId) {
+        return typeId < addEdges.length ? addEdges[typeId] : null;
+    }
+
+    void setAddEdge(int typeId, Archetype target) {
+        if (typeId >= addEdges.length) {
+            addEdges = Arrays.copyOf(addEdges, typeId + 1);
+        }
+        addEdges[typeId] = target;
+    }
+
+    Archetype getRemoveEdge(int typeId) {
+        return typeId < removeEdges.length ? removeEdges[typeId] : null;
+    }
+
+    void setRemoveEdge(int typeId, Archetype target) {
+        if (typeId >= removeEdges.length) {
+            removeEdges = Arrays.copyOf(removeEdges, typeId + 1);
+        }
+        removeEdges[typeId] = target;
+    }
+
+    private void grow() {
+        int newCapacity = entities.length * 2;
+        entities = Arrays.copyOf(entities, newCapacity);
+        for (int c = 0; c < columns.length; c++) {
+            columns[c] = Arrays.copyOf(columns[c], newCapacity);
+        }
+        if (kinematic) {
+            positionX = Arrays.copyOf(positionX, newCapacity);
+            positionY = Arrays.copyOf(positionY, newCapacity);
+            velocityX = Arrays.copyOf(velocityX, newCapacity);
+            velocityY = Arrays.copyOf(velocityY, newCapacity);
+        }
+    }
+}
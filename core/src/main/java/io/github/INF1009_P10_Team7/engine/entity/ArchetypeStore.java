@@ -0,0 +1,159 @@
+package io.github.INF1009_P10_Team7.engine.entity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ArchetypeStore, groups registered entities into {@link Archetype}s by
+ * their exact set of component types.
+ *
+ * <p>Owned by {@link EntityManager}: entities enter the store as soon as
+ * they are passed to {@code addEntity}, so queries see them straight away.
+ * They leave when their removal is flushed, or right away when the removal
+ * cancels an add that has not been flushed yet. While an entity is
+ * stored, adding or removing a component moves it to the matching
+ * archetype; the target is found through edges cached on each archetype,
+ * so after warm-up a move does not allocate or hash.</p>
+ *
+ * <p>Archetypes are never discarded, even when empty, so the list only
+ * grows. {@link #getVersion()} changes whenever a new archetype appears,
+ * which lets callers cache the set of archetypes they care about.</p>
+ */
+public final class ArchetypeStore {
+
+    private final List<Archetype> archetypes = new ArrayList<>();
+    private final Map<BitSet, Archetype> byMask = new HashMap<>();
+    private final Archetype empty;
+    private int version;
+    // Set while entities update in parallel; component changes are rejected
+    private volatile boolean locked;
+
+    public ArchetypeStore() {
+        this.empty = findOrCreate(new BitSet());
+    }
+
+    /** @return number of archetypes created so far */
+    public int getArchetypeCount() {
+        return archetypes.size();
+    }
+
+    /** @return archetype {@code i}, in creation order */
+    public Archetype getArchetype(int i) {
+        return archetypes.get(i);
+    }
+
+    /** @return a counter that changes every time a new archetype is created */
+    public int getVersion() {
+        return version;
+    }
+
+    /** @return {@code true} while a parallel entity update is running */
+    public boolean isLocked() {
+        return locked;
+    }
+
+    // ---- Called by EntityManager and Entity -------------------------------
+
+    void setLocked(boolean locked) {
+        this.locked = locked;
+    }
+
+    void add(Entity entity) {
+        if (entity.store == this) return;
+        if (entity.store != null) {
+            entity.store.remove(entity);
+        }
+
+        BitSet mask = new BitSet();
+        for (int id = 0; id < entity.componentSlots(); id++) {
+            if (entity.componentAt(id) != null) {
+                mask.set(id);
+            }
+        }
+
+        Archetype archetype = mask.isEmpty() ? empty : findOrCreate(mask);
+        entity.store = this;
+        entity.archetype = archetype;
+        entity.archetypeRow = archetype.add(entity);
+    }
+
+    void remove(Entity entity) {
+        if (entity.store != this) return;
+
+        detachRow(entity);
+        entity.store = null;
+        entity.archetype = null;
+        entity.archetypeRow = -1;
+    }
+
+    void onComponentAdded(Entity entity, int typeId) {
+        Archetype from = entity.archetype;
+        Archetype to = from.getAddEdge(typeId);
+        if (to == null) {
+            BitSet mask = (BitSet) from.maskRef().clone();
+            mask.set(typeId);
+            to = findOrCreate(mask);
+            from.setAddEdge(typeId, to);
+            to.setRemoveEdge(typeId, from);
+        }
+        move(entity, to);
+    }
+
+    void onComponentRemoved(Entity entity, int typeId) {
+        Archetype from = entity.archetype;
+        Archetype to = from.getRemoveEdge(typeId);
+        if (to == null) {
+            BitSet mask = (BitSet) from.maskRef().clone();
+            mask.clear(typeId);
+            to = findOrCreate(mask);
+            from.setRemoveEdge(typeId, to);
+            to.setAddEdge(typeId, from);
+        }
+        move(entity, to);
+    }
+
+    void onComponentReplaced(Entity entity, int typeId, IComponent component) {
+        entity.archetype.setComponent(entity.archetypeRow, typeId, component);
+    }
+
+    /** Detaches every stored entity; archetypes are kept for reuse. */
+    void clear() {
+        for (int a = 0; a < archetypes.size(); a++) {
+            Archetype archetype = archetypes.get(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                Entity entity = archetype.getEntity(row);
+                entity.store = null;
+                entity.archetype = null;
+                entity.archetypeRow = -1;
+            }
+            archetype.clearRows();
+        }
+    }
+
+    private void move(Entity entity, Archetype to) {
+        detachRow(entity);
+        entity.archetype = to;
+        entity.archetypeRow = to.add(entity);
+    }
+
+    private void detachRow(Entity entity) {
+        Entity moved = entity.archetype.removeRow(entity.archetypeRow);
+        if (moved != null) {
+            moved.archetypeRow = entity.archetypeRow;
+        }
+    }
+
+    private Archetype findOrCreate(BitSet mask) {
+        Archetype archetype = byMask.get(mask);
+        if (archetype == null) {
+            archetype = new Archetype(mask);
+            byMask.put(archetype.maskRef(), archetype);
+            archetypes.add(archetype);
+            version++;
+        }
+        return archetype;
+    }
+}
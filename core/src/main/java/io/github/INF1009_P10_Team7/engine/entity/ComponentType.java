@@ -0,0 +1,73 @@
+package io.github.INF1009_P10_Team7.engine.entity;
+
+/**
+ * ComponentType, a dense integer id for one component class.
+ *
+ * <p>Every concrete {@link IComponent} class gets an id the first time it
+ * is seen. Entities store their components in an array indexed by that id,
+ * and archetypes use it to name their columns, so a component lookup is an
+ * array access instead of a hash lookup.</p>
+ *
+ * <p>Hot paths should keep the handle in a static field, e.g.
+ * {@code static final ComponentType<TransformComponent> TRANSFORM =
+ * ComponentType.of(TransformComponent.class)}, and call
+ * {@link Entity#getComponent(ComponentType)}.</p>
+ *
+ * @param <T> the component class
+ */
+public final class ComponentType<T extends IComponent> {
+
+    private static final Object LOCK = new Object();
+    private static int nextId = 0;
+
+    private static final ClassValue<ComponentType<?>> TYPES = new ClassValue<ComponentType<?>>() {
+        @Override
+        protected ComponentType<?> computeValue(Class<?> type) {
+            synchronized (LOCK) {
+                return new ComponentType<>(type, nextId++);
+            }
+        }
+    };
+
+    private final Class<?> type;
+    private final int id;
+
+    private ComponentType(Class<?> type, int id) {
+        this.type = type;
+        this.id = id;
+    }
+
+    /**
+     * Returns the handle for a component class, assigning an id on first use.
+     *
+     * @param type the exact component class
+     * @param <T> the component class
+     * @return the shared handle for {@code type}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends IComponent> ComponentType<T> of(Class<T> type) {
+        return (ComponentType<T>) TYPES.get(type);
+    }
+
+    /** @return the number of component types seen so far */
+    public static int count() {
+        synchronized (LOCK) {
+            return nextId;
+        }
+    }
+
+    /** @return the dense id of this type */
+    public int getId() {
+        return id;
+    }
+
+    /** @return the component class this handle stands for */
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "ComponentType[" + type.getSimpleName() + "#" + id + "]";
+    }
+}
@@ -1,24 +1,52 @@
 package io.github.INF1009_P10_Team7.engine.entity;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
+import java.util.Arrays;
 
 // Abstract base class for all entities in the game.
+// Components are kept in an array indexed by ComponentType id, so lookups are an
+// array access. While the entity is registered with an EntityManager it also sits
+// in one Archetype row, and component changes move it between archetypes.
+// Components update in the order they were first attached, so a frame is
+// reproducible regardless of how type ids happened to be assigned.
 public abstract class Entity {
-    private final UUID id;
     private boolean active;
-    private final Map<Class<? extends IComponent>, IComponent> components;
+    private IComponent[] components;
+    // Type ids in attach order; replacing a component keeps its place
+    private int[] updateOrder = new int[4];
+    private int componentCount;
+    // Components whose update() is not declared thread-safe
+    private int unsafeComponentCount;
 
-    // Creates a new entity with a unique ID and initializes its component map.
+    // Generational handle, assigned by EntityManager while registered
+    int id = EntityHandle.NONE;
+    // Position in EntityManager's update list, or -1 while the add is pending
+    int updateIndex = -1;
+    boolean removalPending;
+    // Set while the entity was obtained from an EntityPool and not yet recycled
+    EntityPool pool;
+
+    // Dormancy bookkeeping, maintained by ActivityRegion
+    int activityTick;
+    float activityStep;
+    float activityDebt;
+    float activityWakeUntil;
+    boolean activityDormant;
+
+    // Archetype placement, maintained by ArchetypeStore while registered
+    ArchetypeStore store;
+    Archetype archetype;
+    int archetypeRow;
+
+    // Creates a new entity with an empty component array.
+    // It has no ID until it is added to an EntityManager.
     public Entity() {
-        this.id = UUID.randomUUID();
         this.active = true;
-        this.components = new HashMap<>();
+        this.components = new IComponent[Math.max(8, ComponentType.count())];
     }
 
-    // Gets the unique ID of this entity.
-    public UUID getId() {
+    // Gets the generational handle of this entity (see EntityHandle),
+    // or EntityHandle.NONE if it is not registered with an EntityManager.
+    public int getId() {
         return id;
     }
 
@@ -26,39 +54,95 @@ public abstract class Entity {
     // If a component of the same type already exists, it is replaced.
     // @param component The component to add
     public void addComponent(IComponent component) {
-        Class<? extends IComponent> type = component.getClass();
+        checkStructuralChangeAllowed();
+        int typeId = ComponentType.of(component.getClass()).getId();
+        ensureCapacity(typeId);
 
         // Remove existing component of the same type if present
-        if (components.containsKey(type)) {
-            IComponent existing = components.get(type);
+        IComponent existing = components[typeId];
+        if (existing != null) {
             existing.onRemoved(this);
         }
 
-        components.put(type, component);
+        components[typeId] = component;
+        if (existing == null) {
+            appendToUpdateOrder(typeId);
+        } else if (!existing.isThreadSafe()) {
+            unsafeComponentCount--;
+        }
+        if (!component.isThreadSafe()) {
+            unsafeComponentCount++;
+        }
+        if (store != null) {
+            if (existing != null) {
+                store.onComponentReplaced(this, typeId, component);
+            } else {
+                store.onComponentAdded(this, typeId);
+            }
+        }
         component.onAdded(this);
+        // Recycle the replaced component, unless the same instance was re-added
+        if (existing != null && existing != component && pool != null) {
+            pool.freeComponent(typeId, existing);
+        }
     }
 
     // Removes a component of the specified type from this entity.
     public void removeComponent(Class<? extends IComponent> type) {
-        IComponent component = components.remove(type);
+        checkStructuralChangeAllowed();
+        int typeId = ComponentType.of(type).getId();
+        if (typeId >= components.length) {
+            return;
+        }
+
+        IComponent component = components[typeId];
         if (component != null) {
+            components[typeId] = null;
+            removeFromUpdateOrder(typeId);
+            if (!component.isThreadSafe()) {
+                unsafeComponentCount--;
+            }
+            if (store != null) {
+                store.onComponentRemoved(this, typeId);
+            }
             component.onRemoved(this);
+            if (pool != null) {
+                pool.freeComponent(typeId, component);
+            }
         }
     }
 
     // Gets the component of the specified type from this entity.
     // @param type The class type of the component to retrieve
     // @return The component instance, or null if not found
-    @SuppressWarnings("unchecked")
     public <T extends IComponent> T getComponent(Class<T> type) {
-        return (T) components.get(type);
+        return getComponent(ComponentType.of(type));
+    }
+
+    // Gets a component by its type handle; the fastest lookup, for per-frame code.
+    // @param type The component type handle
+    // @return The component instance, or null if not found
+    @SuppressWarnings("unchecked")
+    public <T extends IComponent> T getComponent(ComponentType<T> type) {
+        int typeId = type.getId();
+        return typeId < components.length ? (T) components[typeId] : null;
     }
 
     // Checks if this entity has a component of the specified type.
     // @param type The class type of the component to check
     // @return true if the component exists, false otherwise
     public boolean hasComponent(Class<? extends IComponent> type) {
-        return components.containsKey(type);
+        return getComponent(ComponentType.of(type)) != null;
+    }
+
+    // Checks if this entity has a component with the given type handle.
+    public boolean hasComponent(ComponentType<?> type) {
+        return getComponent(type) != null;
+    }
+
+    // Gets the archetype this entity is stored in, or null if it is not registered.
+    public Archetype getArchetype() {
+        return archetype;
     }
 
     // Sets whether this entity is active.
@@ -73,6 +157,13 @@ public abstract class Entity {
         return active;
     }
 
+    // Checks if this entity may update on a worker thread, i.e. every component
+    // declares IComponent.isThreadSafe(). Subclasses that override update()
+    // must override this as well.
+    public boolean isThreadSafe() {
+        return unsafeComponentCount == 0;
+    }
+
     // Updates this entity and all its components.
     // @param deltaTime The time elapsed since the last update in seconds
     public void update(float deltaTime) {
@@ -80,8 +171,78 @@ public abstract class Entity {
             return;
         }
 
-        for (IComponent component : components.values()) {
-            component.update(deltaTime);
+        for (int i = 0; i < componentCount; i++) {
+            IComponent component = components[updateOrder[i]];
+            if (component != null) {
+                component.update(deltaTime);
+            }
+        }
+    }
+
+    // Detaches every component for recycling, handing poolable ones to the pool.
+    // Only called by EntityPool once the entity has left its manager.
+    void releaseComponents(EntityPool target) {
+        for (int typeId = 0; typeId < components.length; typeId++) {
+            IComponent component = components[typeId];
+            if (component == null) continue;
+            components[typeId] = null;
+            if (store != null) {
+                store.onComponentRemoved(this, typeId);
+            }
+            component.onRemoved(this);
+            target.freeComponent(typeId, component);
+        }
+        componentCount = 0;
+        unsafeComponentCount = 0;
+    }
+
+    // Component by raw type id, for ArchetypeStore when filling columns.
+    IComponent componentAt(int typeId) {
+        return typeId < components.length ? components[typeId] : null;
+    }
+
+    // Number of type-id slots, for ArchetypeStore when building this entity's mask.
+    int componentSlots() {
+        return components.length;
+    }
+
+    // Forgets dormancy state, for an entity that is (re)registered.
+    void resetActivity() {
+        activityTick = 0;
+        activityStep = 0f;
+        activityDebt = 0f;
+        activityWakeUntil = 0f;
+        activityDormant = false;
+    }
+
+    // Component sets must not change while EntityManager updates in parallel.
+    private void checkStructuralChangeAllowed() {
+        if (store != null && store.isLocked()) {
+            throw new IllegalStateException(
+                "Components cannot be added or removed during a parallel entity update");
+        }
+    }
+
+    private void appendToUpdateOrder(int typeId) {
+        if (componentCount == updateOrder.length) {
+            updateOrder = Arrays.copyOf(updateOrder, componentCount * 2);
+        }
+        updateOrder[componentCount++] = typeId;
+    }
+
+    private void removeFromUpdateOrder(int typeId) {
+        for (int i = 0; i < componentCount; i++) {
+            if (updateOrder[i] == typeId) {
+                System.arraycopy(updateOrder, i + 1, updateOrder, i, componentCount - i - 1);
+                componentCount--;
+                return;
+            }
+        }
+    }
+
+    private void ensureCapacity(int typeId) {
+        if (typeId >= components.length) {
+            components = Arrays.copyOf(components, Math.max(typeId + 1, components.length * 2));
         }
     }
-}
\ No newline at end of file
+}
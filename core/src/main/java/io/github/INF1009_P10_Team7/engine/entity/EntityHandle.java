@@ -0,0 +1,53 @@
+package io.github.INF1009_P10_Team7.engine.entity;
+
+/**
+ * EntityHandle, helpers for the packed {@code int} ids that
+ * {@link EntityManager} hands out.
+ *
+ * <p>A handle packs a slot index (low {@value #INDEX_BITS} bits) and a
+ * generation (the next {@value #GENERATION_BITS} bits); the sign bit is
+ * always clear, so {@link #NONE} ({@code -1}) never collides with a real
+ * handle. The manager keeps one generation counter per slot and bumps it
+ * whenever the slot is freed, so a handle kept after its entity was
+ * removed no longer resolves, even once the slot has been reused.</p>
+ *
+ * <p>Handles are plain values: cheap to store in arrays and compare, and
+ * allocating one never touches {@code SecureRandom} or a hash map.</p>
+ */
+public final class EntityHandle {
+
+    /** Handle of an entity that is not registered with any manager. */
+    public static final int NONE = -1;
+
+    /** Bits used for the slot index. */
+    public static final int INDEX_BITS = 20;
+    /** Bits used for the generation. */
+    public static final int GENERATION_BITS = 11;
+
+    /** Largest number of entities a manager can hold at once. */
+    public static final int MAX_INDEX = (1 << INDEX_BITS) - 1;
+
+    static final int INDEX_MASK = MAX_INDEX;
+    static final int GENERATION_MASK = (1 << GENERATION_BITS) - 1;
+
+    private EntityHandle() {}
+
+    /** @return the slot index of {@code handle} */
+    public static int index(int handle) {
+        return handle & INDEX_MASK;
+    }
+
+    /** @return the generation of {@code handle} */
+    public static int generation(int handle) {
+        return (handle >>> INDEX_BITS) & GENERATION_MASK;
+    }
+
+    /** @return a readable form such as {@code 42v3}, or {@code none} */
+    public static String toString(int handle) {
+        return handle == NONE ? "none" : index(handle) + "v" + generation(handle);
+    }
+
+    static int make(int index, int generation) {
+        return ((generation & GENERATION_MASK) << INDEX_BITS) | index;
+    }
+}
@@ -1,13 +1,18 @@
 package io.github.INF1009_P10_Team7.engine.entity;
 
-import com.badlogic.gdx.Gdx;
-
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
 
 /**
  * EntityManager (engine layer)
@@ -15,6 +20,10 @@ import java.util.UUID;
  * Responsibilities:
  * - Own entity collection + lifecycle (add/remove/update)
  * - Provide query access to entities
+ * - Keep registered entities grouped by component set in an ArchetypeStore
+ * - Hand out generational int handles (see EntityHandle) from a free list
+ * - Optionally update thread-safe entities in parallel (setParallelUpdate)
+ * - Step far-away entities at a reduced rate (ActivityRegion)
  *
  * Non-responsibilities:
  * - No entity creation logic (scenes create entities directly)
@@ -24,19 +33,101 @@ import java.util.UUID;
  */
 public class EntityManager implements IEntitySystem, IEntityQuery {
 
-    private final Map<UUID, Entity> entities = new HashMap<>();
+    /** Default number of active entities before a parallel update is used. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+    /** Smallest chunk worth handing to a worker. */
+    private static final int MIN_ENTITIES_PER_CHUNK = 128;
+
+    /** Flushed entities in update order; swap-removed, each entity knows its index. */
+    private final List<Entity> entities = new ArrayList<>();
+    private final List<Entity> entitiesView = Collections.unmodifiableList(entities);
     private final List<Entity> pendingAdd = new ArrayList<>();
-    private final List<UUID> pendingRemove = new ArrayList<>();
+    private final List<Entity> pendingRemove = new ArrayList<>();
+
+    /** Handle slots: slots[i] owns handles with index i and generation generations[i]. */
+    private Entity[] slots = new Entity[64];
+    private int[] generations = new int[64];
+    private int slotCount;
+    private int[] freeSlots = new int[64];
+    private int freeCount;
 
     /** Convenience lookup for scenes/debugging. */
     private final Map<String, GameEntity> namedEntities = new HashMap<>();
 
+    /** Registered entities grouped by component set, for column-wise iteration. */
+    private final ArchetypeStore archetypes = new ArchetypeStore();
+
+    /** Recycles pooled entities once they leave the manager. */
+    private final EntityPool pool = new EntityPool();
+
+    /** Decides which entities step at full rate this tick. */
+    private final ActivityRegion activity = new ActivityRegion();
+
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+
+    /** Cached queries keyed by their required type set. */
+    private final Map<BitSet, EntityQuery> queries = new HashMap<>();
+
+    /** Every entity with a transform; resolved once, used before each fixed step. */
+    private final EntityQuery withTransform = query(TRANSFORM);
+
+    // Parallel update; off (null pool) unless enabled. Tasks and the batch are reused.
+    private ForkJoinPool updatePool;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private EntityUpdateTask[] updateTasks = new EntityUpdateTask[0];
+    private Entity[] parallelBatch = new Entity[0];
+    private float[] parallelSteps = new float[0];
+    private int parallelBatchCount;
+    private volatile boolean parallelPhase;
+    // Adds/removes requested from inside a parallel update, applied in order afterwards
+    private final ConcurrentLinkedQueue<DeferredChange> deferredChanges = new ConcurrentLinkedQueue<>();
+
     public EntityManager() {}
 
+    /**
+     * Enables or disables the parallel entity update. When enabled and at
+     * least {@code entityThreshold} entities are registered, entities whose
+     * components are all {@link IComponent#isThreadSafe() thread-safe} are
+     * split into chunks and updated on {@code pool}; the rest update first,
+     * in order, on the calling thread. Component sets are locked for the
+     * duration, and adds/removes made from inside it are applied once all
+     * chunks have finished.
+     *
+     * @param pool the worker pool, or {@code null} to always update serially
+     * @param entityThreshold smallest entity count that goes parallel
+     * @throws IllegalArgumentException if {@code entityThreshold} is less than 1
+     */
+    public void setParallelUpdate(ForkJoinPool pool, int entityThreshold) {
+        if (entityThreshold < 1) {
+            throw new IllegalArgumentException("entityThreshold must be >= 1");
+        }
+        this.updatePool = pool;
+        this.parallelThreshold = entityThreshold;
+    }
+
+    /** @return the entity count at which the update goes parallel */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
     @Override
     public void addEntity(Entity entity) {
         if (entity == null) return;
-        pendingAdd.add(entity);
+        if (parallelPhase) {
+            deferredChanges.add(new DeferredChange(entity, true));
+            return;
+        }
+        if (owns(entity)) {
+            // Re-added before its removal was flushed: keep it
+            entity.removalPending = false;
+        } else {
+            entity.id = allocateHandle(entity);
+            entity.resetActivity();
+            pendingAdd.add(entity);
+            // Visible to queries straight away so spawn code can read them back;
+            // only the update iteration waits for the flush.
+            archetypes.add(entity);
+        }
 
         // Auto-register named entities for query lookup
         if (entity instanceof GameEntity) {
@@ -50,7 +141,22 @@ public class EntityManager implements IEntitySystem, IEntityQuery {
     @Override
     public void removeEntity(Entity entity) {
         if (entity == null) return;
-        pendingRemove.add(entity.getId());
+        if (parallelPhase) {
+            deferredChanges.add(new DeferredChange(entity, false));
+            return;
+        }
+        if (owns(entity)) {
+            if (entity.updateIndex < 0) {
+                // Removed before its add was flushed: cancel the add outright
+                pendingAdd.remove(entity);
+                archetypes.remove(entity);
+                releaseHandle(entity);
+                recycle(entity);
+            } else if (!entity.removalPending) {
+                entity.removalPending = true;
+                pendingRemove.add(entity);
+            }
+        }
 
         if (entity instanceof GameEntity) {
             GameEntity ge = (GameEntity) entity;
@@ -61,15 +167,109 @@ public class EntityManager implements IEntitySystem, IEntityQuery {
     @Override
     public void updateAll(float delta) {
         flushPending();
-        for (Entity e : entities.values()) {
-            if (!e.isActive()) continue;
-            e.update(delta);
+        if (updatePool != null && entities.size() >= parallelThreshold) {
+            updateParallel(delta);
+        } else {
+            for (int i = 0; i < entities.size(); i++) {
+                Entity e = entities.get(i);
+                if (!e.isActive()) continue;
+                float step = activity.stepDelta(e, delta);
+                if (step > 0f) {
+                    e.update(step);
+                }
+            }
         }
         flushPending();
     }
 
+    /**
+     * Updates non-thread-safe entities in order on this thread, then the
+     * thread-safe ones in contiguous chunks on the pool.
+     */
+    private void updateParallel(float delta) {
+        if (parallelBatch.length < entities.size()) {
+            parallelBatch = new Entity[entities.size()];
+            parallelSteps = new float[entities.size()];
+        }
+        parallelBatchCount = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            if (!e.isActive()) continue;
+            float step = activity.stepDelta(e, delta);
+            if (step <= 0f) continue;
+            if (e.isThreadSafe()) {
+                parallelSteps[parallelBatchCount] = step;
+                parallelBatch[parallelBatchCount++] = e;
+            } else {
+                e.update(step);
+            }
+        }
+        if (parallelBatchCount == 0) return;
+
+        int count = parallelBatchCount;
+        int maxChunks = Math.max(1, updatePool.getParallelism() * 4);
+        int chunkCount = Math.min(maxChunks, (count + MIN_ENTITIES_PER_CHUNK - 1) / MIN_ENTITIES_PER_CHUNK);
+        if (updateTasks.length < chunkCount) {
+            int oldLength = updateTasks.length;
+            updateTasks = Arrays.copyOf(updateTasks, chunkCount);
+            for (int c = oldLength; c < chunkCount; c++) {
+                updateTasks[c] = new EntityUpdateTask();
+            }
+        }
+        int chunkSize = (count + chunkCount - 1) / chunkCount;
+        for (int c = 0; c < chunkCount; c++) {
+            EntityUpdateTask task = updateTasks[c];
+            task.reinitialize();
+            task.from = Math.min(count, c * chunkSize);
+            task.to = Math.min(count, task.from + chunkSize);
+        }
+
+        archetypes.setLocked(true);
+        parallelPhase = true;
+        try {
+            for (int c = 1; c < chunkCount; c++) {
+                updatePool.execute(updateTasks[c]);
+            }
+            updatePool.invoke(updateTasks[0]);
+            for (int c = 1; c < chunkCount; c++) {
+                updateTasks[c].join();
+            }
+        } finally {
+            parallelPhase = false;
+            archetypes.setLocked(false);
+            Arrays.fill(parallelBatch, 0, count, null);
+            applyDeferredChanges();
+        }
+    }
+
+    private void applyDeferredChanges() {
+        DeferredChange change;
+        while ((change = deferredChanges.poll()) != null) {
+            if (change.add) {
+                addEntity(change.entity);
+            } else {
+                removeEntity(change.entity);
+            }
+        }
+    }
+
     @Override
     public void clear() {
+        archetypes.clear();
+        // Bump every live slot's generation so old handles stop resolving
+        freeCount = 0;
+        for (int i = slotCount - 1; i >= 0; i--) {
+            Entity e = slots[i];
+            if (e != null) {
+                e.id = EntityHandle.NONE;
+                e.updateIndex = -1;
+                e.removalPending = false;
+                slots[i] = null;
+                generations[i] = (generations[i] + 1) & EntityHandle.GENERATION_MASK;
+                recycle(e);
+            }
+            freeSlots[freeCount++] = i;
+        }
         entities.clear();
         pendingAdd.clear();
         pendingRemove.clear();
@@ -79,12 +279,38 @@ public class EntityManager implements IEntitySystem, IEntityQuery {
     @Override
     public void dispose() {
         clear();
-        Gdx.app.log("EntityManager", "EntityManager disposed");
+        pool.clear();
+        EngineLog.info("EntityManager", "EntityManager disposed");
+    }
+
+    @Override
+    public ActivityRegion getActivityRegion() {
+        return activity;
+    }
+
+    @Override
+    public EntityPool getPool() {
+        return pool;
     }
 
     @Override
     public Iterable<Entity> getAllEntities() {
-        return entities.values();
+        return entitiesView;
+    }
+
+    @Override
+    public Entity getEntity(int handle) {
+        if (handle < 0) return null;
+        int index = EntityHandle.index(handle);
+        if (index >= slotCount || generations[index] != EntityHandle.generation(handle)) {
+            return null;
+        }
+        return slots[index];
+    }
+
+    @Override
+    public boolean isAlive(int handle) {
+        return getEntity(handle) != null;
     }
 
     @Override
@@ -97,18 +323,143 @@ public class EntityManager implements IEntitySystem, IEntityQuery {
         return namedEntities.get(name);
     }
 
+    @Override
+    public ArchetypeStore getArchetypeStore() {
+        return archetypes;
+    }
+
+    /**
+     * Copies every transform's current position into its previous snapshot.
+     * Called by the engine before each fixed simulation step, so renderers
+     * can interpolate between the last two steps.
+     */
+    public void snapshotTransforms() {
+        for (int a = 0; a < withTransform.getArchetypeCount(); a++) {
+            Archetype archetype = withTransform.getArchetype(a);
+            for (int row = 0; row < archetype.size(); row++) {
+                archetype.get(row, TRANSFORM).snapshot();
+            }
+        }
+    }
+
+    @Override
+    public EntityQuery query(ComponentType<?>... types) {
+        if (types == null || types.length == 0) {
+            throw new IllegalArgumentException("query needs at least one component type");
+        }
+        BitSet required = new BitSet();
+        for (ComponentType<?> type : types) {
+            required.set(type.getId());
+        }
+        EntityQuery query = queries.get(required);
+        if (query == null) {
+            query = new EntityQuery(archetypes, required);
+            queries.put(required, query);
+        }
+        return query;
+    }
+
     private void flushPending() {
         if (!pendingRemove.isEmpty()) {
-            for (UUID id : pendingRemove) {
-                entities.remove(id);
+            for (int i = 0; i < pendingRemove.size(); i++) {
+                Entity removed = pendingRemove.get(i);
+                // Skipped if it was re-added before this flush
+                if (!removed.removalPending) continue;
+                removed.removalPending = false;
+                detachFromUpdateList(removed);
+                archetypes.remove(removed);
+                releaseHandle(removed);
+                recycle(removed);
             }
             pendingRemove.clear();
         }
         if (!pendingAdd.isEmpty()) {
-            for (Entity e : pendingAdd) {
-                entities.put(e.getId(), e);
+            for (int i = 0; i < pendingAdd.size(); i++) {
+                Entity e = pendingAdd.get(i);
+                e.updateIndex = entities.size();
+                entities.add(e);
+                archetypes.add(e);
             }
             pendingAdd.clear();
         }
     }
+
+    /** @return {@code true} if {@code entity} currently holds a live handle from this manager */
+    private boolean owns(Entity entity) {
+        int id = entity.id;
+        if (id < 0) return false;
+        int index = EntityHandle.index(id);
+        return index < slotCount && slots[index] == entity;
+    }
+
+    private int allocateHandle(Entity entity) {
+        int index;
+        if (freeCount > 0) {
+            index = freeSlots[--freeCount];
+        } else {
+            if (slotCount > EntityHandle.MAX_INDEX) {
+                throw new IllegalStateException("EntityManager is full (" + slotCount + " entities)");
+            }
+            index = slotCount++;
+            if (index == slots.length) {
+                int capacity = Math.min(slots.length * 2, EntityHandle.MAX_INDEX + 1);
+                slots = Arrays.copyOf(slots, capacity);
+                generations = Arrays.copyOf(generations, capacity);
+                freeSlots = Arrays.copyOf(freeSlots, capacity);
+            }
+        }
+        slots[index] = entity;
+        return EntityHandle.make(index, generations[index]);
+    }
+
+    private void releaseHandle(Entity entity) {
+        int index = EntityHandle.index(entity.id);
+        slots[index] = null;
+        generations[index] = (generations[index] + 1) & EntityHandle.GENERATION_MASK;
+        freeSlots[freeCount++] = index;
+        entity.id = EntityHandle.NONE;
+        entity.updateIndex = -1;
+    }
+
+    /** One contiguous chunk of the parallel update. */
+    private final class EntityUpdateTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private int from;
+        private int to;
+
+        @Override
+        protected void compute() {
+            for (int i = from; i < to; i++) {
+                parallelBatch[i].update(parallelSteps[i]);
+            }
+        }
+    }
+
+    /** An add or remove requested by a worker during the parallel update. */
+    private static final class DeferredChange {
+        final Entity entity;
+        final boolean add;
+
+        DeferredChange(Entity entity, boolean add) {
+            this.entity = entity;
+            this.add = add;
+        }
+    }
+
+    private void recycle(Entity entity) {
+        if (entity.pool != null) {
+            entity.pool.free(entity);
+        }
+    }
+
+    private void detachFromUpdateList(Entity entity) {
+        int index = entity.updateIndex;
+        int last = entities.size() - 1;
+        Entity moved = entities.remove(last);
+        if (index != last) {
+            entities.set(index, moved);
+            moved.updateIndex = index;
+        }
+    }
 }
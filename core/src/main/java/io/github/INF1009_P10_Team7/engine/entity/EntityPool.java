@@ -0,0 +1,198 @@
+package io.github.INF1009_P10_Team7.engine.entity;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
+import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
+
+/**
+ * EntityPool, recycles {@link GameEntity} instances and their
+ * {@link IPoolable} components.
+ *
+ * <p>Each {@link EntityManager} owns one pool. Entities obtained from it
+ * are marked as pooled; when such an entity is removed from the manager
+ * (at the flush after {@link IEntitySystem#removeEntity}) or the manager
+ * is cleared, its components are detached, every component type with a
+ * registered factory is reset and kept, and the entity itself is reset and
+ * kept. Entities created with {@code new} are never recycled, so existing
+ * code is unaffected until it opts in.</p>
+ *
+ * <p>Components are pooled per {@link ComponentType}. {@link TransformComponent}
+ * and {@link PhysicComponent} are registered by default; game code can
+ * register its own poolable components with {@link #register}.</p>
+ *
+ * <p>Ownership rule: once a pooled entity has been removed, neither it nor
+ * any of its components may be used again by the caller, because the pool
+ * will hand them out for the next spawn. The pool is not thread-safe and is
+ * only used from the thread that makes structural changes.</p>
+ */
+public final class EntityPool {
+
+    /** Default number of free instances kept per pool. */
+    public static final int DEFAULT_MAX_FREE = 1024;
+
+    private final int maxFree;
+
+    private GameEntity[] freeEntities = new GameEntity[16];
+    private int freeEntityCount;
+
+    // Per component type id; null where the type has no registered factory
+    private ComponentFreeList[] componentPools = new ComponentFreeList[8];
+
+    public EntityPool() {
+        this(DEFAULT_MAX_FREE);
+    }
+
+    /**
+     * @param maxFree largest number of free instances kept per pool; extra
+     *                instances are left to the garbage collector
+     */
+    public EntityPool(int maxFree) {
+        if (maxFree < 0) {
+            throw new IllegalArgumentException("maxFree must be >= 0");
+        }
+        this.maxFree = maxFree;
+        register(ComponentType.of(TransformComponent.class), TransformComponent::new);
+        register(ComponentType.of(PhysicComponent.class), PhysicComponent::new);
+    }
+
+    /**
+     * Registers a factory for a poolable component type. Components of
+     * this type detached from pooled entities are then reset and reused.
+     *
+     * @param type the component type
+     * @param factory creates a fresh instance when the free list is empty
+     * @param <T> the component class
+     */
+    public <T extends IComponent & IPoolable> void register(ComponentType<T> type, Supplier<T> factory) {
+        int id = type.getId();
+        if (id >= componentPools.length) {
+            componentPools = Arrays.copyOf(componentPools, Math.max(id + 1, componentPools.length * 2));
+        }
+        if (componentPools[id] == null) {
+            componentPools[id] = new ComponentFreeList(factory);
+        }
+    }
+
+    /**
+     * Returns a recycled or new entity with the given name. The entity is
+     * marked as pooled and will be recycled when it leaves the manager.
+     *
+     * @param name the entity name
+     * @return an entity with no components, active, not registered
+     */
+    public GameEntity obtain(String name) {
+        GameEntity entity;
+        if (freeEntityCount > 0) {
+            entity = freeEntities[--freeEntityCount];
+            freeEntities[freeEntityCount] = null;
+            entity.setName(name);
+        } else {
+            entity = new GameEntity(name);
+        }
+        entity.pool = this;
+        return entity;
+    }
+
+    /**
+     * Returns a recycled or new component of a registered type, in its
+     * reset state.
+     *
+     * @param type the component type; must have been registered
+     * @param <T> the component class
+     * @return a detached component
+     * @throws IllegalArgumentException if no factory is registered for {@code type}
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends IComponent & IPoolable> T obtain(ComponentType<T> type) {
+        ComponentFreeList pool = poolFor(type.getId());
+        if (pool == null) {
+            throw new IllegalArgumentException("No pool registered for " + type);
+        }
+        return (T) pool.obtain();
+    }
+
+    /** @return number of entities waiting to be reused */
+    public int getFreeEntityCount() {
+        return freeEntityCount;
+    }
+
+    /** @return number of components of {@code type} waiting to be reused */
+    public int getFreeCount(ComponentType<?> type) {
+        ComponentFreeList pool = poolFor(type.getId());
+        return pool == null ? 0 : pool.count;
+    }
+
+    /** Drops every free instance; registrations are kept. */
+    public void clear() {
+        Arrays.fill(freeEntities, 0, freeEntityCount, null);
+        freeEntityCount = 0;
+        for (ComponentFreeList pool : componentPools) {
+            if (pool != null) pool.clear();
+        }
+    }
+
+    // ---- Called by EntityManager and Entity -------------------------------
+
+    /** Strips and resets a pooled entity that has left its manager, then keeps it. */
+    void free(Entity entity) {
+        entity.pool = null;
+        entity.releaseComponents(this);
+        if (!(entity instanceof GameEntity)) return;
+
+        GameEntity gameEntity = (GameEntity) entity;
+        gameEntity.reset();
+        if (freeEntityCount < maxFree) {
+            if (freeEntityCount == freeEntities.length) {
+                freeEntities = Arrays.copyOf(freeEntities, freeEntities.length * 2);
+            }
+            freeEntities[freeEntityCount++] = gameEntity;
+        }
+    }
+
+    /** Resets and keeps a detached component if its type is registered. */
+    void freeComponent(int typeId, IComponent component) {
+        ComponentFreeList pool = poolFor(typeId);
+        if (pool != null && component instanceof IPoolable) {
+            pool.free(component, maxFree);
+        }
+    }
+
+    private ComponentFreeList poolFor(int typeId) {
+        return typeId < componentPools.length ? componentPools[typeId] : null;
+    }
+
+    private static final class ComponentFreeList {
+        private final Supplier<? extends IComponent> factory;
+        private IComponent[] items = new IComponent[16];
+        private int count;
+
+        ComponentFreeList(Supplier<? extends IComponent> factory) {
+            this.factory = factory;
+        }
+
+        IComponent obtain() {
+            if (count == 0) {
+                return factory.get();
+            }
+            IComponent component = items[--count];
+            items[count] = null;
+            return component;
+        }
+
+        void free(IComponent component, int maxFree) {
+            ((IPoolable) component).reset();
+            if (count >= maxFree) return;
+            if (count == items.length) {
+                items = Arrays.copyOf(items, items.length * 2);
+            }
+            items[count++] = component;
+        }
+
+        void clear() {
+            Arrays.fill(items, 0, count, null);
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.INF1009_P10_Team7.engine.entity;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * EntityQuery, a cached view of every registered entity that has a given
+ * set of component types.
+ *
+ * <p>A query does not keep its own entity list. It remembers which
+ * {@link Archetype}s match its required types, and the archetypes already
+ * gain and lose rows as entities are added, removed or change components.
+ * Because the {@link ArchetypeStore} only ever appends archetypes, the
+ * query only has to look at the ones created since its last refresh, so
+ * holding a query and iterating it every frame does not allocate:</p>
+ *
+ * <pre>
+ * for (int a = 0; a &lt; query.getArchetypeCount(); a++) {
+ *     Archetype archetype = query.getArchetype(a);
+ *     for (int row = 0; row &lt; archetype.size(); row++) {
+ *         DroneComponent drone = archetype.get(row, DRONE);
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>Obtain queries through {@link IEntityQuery#query(ComponentType[])};
+ * equal type sets share one instance. Iteration order is not stable
+ * across structural changes (archetype rows are swap-removed), so callers
+ * that need a particular entity should identify it by component data
+ * rather than by position.</p>
+ */
+public final class EntityQuery {
+
+    private final ArchetypeStore store;
+    private final BitSet required;
+
+    private Archetype[] matched = new Archetype[4];
+    private int matchedCount;
+    // Number of store archetypes already checked against the mask
+    private int scanned;
+
+    EntityQuery(ArchetypeStore store, BitSet required) {
+        this.store = store;
+        this.required = (BitSet) required.clone();
+    }
+
+    /** @return number of archetypes that currently match this query */
+    public int getArchetypeCount() {
+        refresh();
+        return matchedCount;
+    }
+
+    /**
+     * @param i index in {@code [0, getArchetypeCount())}
+     * @return the {@code i}-th matching archetype
+     */
+    public Archetype getArchetype(int i) {
+        return matched[i];
+    }
+
+    /** @return total number of entities across every matching archetype */
+    public int size() {
+        refresh();
+        int total = 0;
+        for (int a = 0; a < matchedCount; a++) {
+            total += matched[a].size();
+        }
+        return total;
+    }
+
+    /** @return {@code true} if no registered entity matches */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the entity at a flat position across all matching archetypes.
+     * Costs one step per matching archetype; nested archetype/row loops are
+     * cheaper when visiting every entity.
+     *
+     * @param index position in {@code [0, size())}
+     * @return the entity
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public Entity get(int index) {
+        refresh();
+        int remaining = index;
+        for (int a = 0; a < matchedCount; a++) {
+            int n = matched[a].size();
+            if (remaining < n) {
+                return matched[a].getEntity(remaining);
+            }
+            remaining -= n;
+        }
+        throw new IndexOutOfBoundsException("index " + index);
+    }
+
+    /** @return {@code true} if every entity in {@code archetype} matches this query */
+    public boolean matches(Archetype archetype) {
+        return archetype.containsAll(required);
+    }
+
+    /** @return a copy of the component type ids this query requires */
+    public BitSet getRequired() {
+        return (BitSet) required.clone();
+    }
+
+    private void refresh() {
+        int count = store.getArchetypeCount();
+        while (scanned < count) {
+            Archetype archetype = store.getArchetype(scanned++);
+            if (archetype.containsAll(required)) {
+                if (matchedCount == matched.length) {
+                    matched = Arrays.copyOf(matched, matchedCount * 2);
+                }
+                matched[matchedCount++] = archetype;
+            }
+        }
+    }
+}
@@ -7,10 +7,24 @@ import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
 // Represents a game entity with a name.
-public class GameEntity extends Entity implements ICollidable {
+// Poolable: EntityPool resets and reuses instances it handed out.
+public class GameEntity extends Entity implements ICollidable, IPoolable {
+
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+    private static final ComponentType<PhysicComponent> PHYSIC = ComponentType.of(PhysicComponent.class);
 
     private String name;
+    private String objectId; // Built lazily, reset when the name or handle changes
+    private int objectIdHandle = EntityHandle.NONE;
     private float collisionRadius = 20f; // Default collision radius
+    private int collisionLayer = ICollidable.DEFAULT_LAYER;
+    private int collisionMask = ICollidable.ALL_LAYERS;
+    private boolean staticCollider = false;
+
+    // Returned when a component is missing; owned by this entity so no other
+    // entity, or thread working on one, ever sees a write to them
+    private final Vector2 fallbackPosition = new Vector2();
+    private final Vector2 fallbackVelocity = new Vector2();
 
     // Creates a new GameEntity with the specified name.
     public GameEntity(String name) {
@@ -26,6 +40,7 @@ public class GameEntity extends Entity implements ICollidable {
     // Sets the name of this entity.
     public void setName(String name) {
         this.name = name;
+        this.objectId = null;
     }
 
     // Sets the collision radius for this entity.
@@ -33,14 +48,29 @@ public class GameEntity extends Entity implements ICollidable {
         this.collisionRadius = radius;
     }
 
+    // Sets which collision layer bit(s) this entity belongs to.
+    public void setCollisionLayer(int layer) {
+        this.collisionLayer = layer;
+    }
+
+    // Sets which collision layers this entity is tested against.
+    public void setCollisionMask(int mask) {
+        this.collisionMask = mask;
+    }
+
+    // Marks this entity as never moving, so it is not tested against other static entities.
+    public void setStaticCollider(boolean staticCollider) {
+        this.staticCollider = staticCollider;
+    }
+
     // For ICollidable:
     @Override
     public Vector2 getPosition() {
-        TransformComponent transform = getComponent(TransformComponent.class);
+        TransformComponent transform = getComponent(TRANSFORM);
         if (transform != null) {
             return transform.getPosition();
         }
-        return new Vector2(0, 0);
+        return fallbackPosition; // No allocation
     }
 
     @Override
@@ -50,7 +80,14 @@ public class GameEntity extends Entity implements ICollidable {
 
     @Override
     public String getObjectId() {
-        return name + "_" + getId().toString();
+        // Cached per handle so per-frame collision lookups don't concatenate strings.
+        // Before registration the handle part reads "none".
+        int id = getId();
+        if (objectId == null || objectIdHandle != id) {
+            objectId = name + "_" + EntityHandle.toString(id);
+            objectIdHandle = id;
+        }
+        return objectId;
     }
 
     @Override
@@ -61,16 +98,37 @@ public class GameEntity extends Entity implements ICollidable {
     // For ICollidable resolution methods:
     @Override
     public boolean isMovable() {
-        return hasComponent(PhysicComponent.class);
+        return hasComponent(PHYSIC);
     }
 
     @Override
     public Vector2 getVelocity() {
-        PhysicComponent physics = getComponent(PhysicComponent.class);
+        PhysicComponent physics = getComponent(PHYSIC);
         if (physics != null) {
             return physics.getVelocity();
         }
-        return new Vector2(0, 0);
+        return fallbackVelocity; // No allocation
+    }
+
+    // A dormant entity skipped by ActivityRegion keeps its old velocity but did not move
+    @Override
+    public boolean wasStepped() {
+        return !(activityDormant && activityStep == 0f);
+    }
+
+    @Override
+    public int getCollisionLayer() {
+        return collisionLayer;
+    }
+
+    @Override
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+
+    @Override
+    public boolean isStaticCollider() {
+        return staticCollider;
     }
 
     @Override
@@ -78,8 +136,24 @@ public class GameEntity extends Entity implements ICollidable {
         setActive(false);
     }
 
+    // Restores constructor defaults so EntityPool can hand this instance out again.
+    // Components are already detached by the pool at this point.
+    @Override
+    public void reset() {
+        name = null;
+        objectId = null;
+        objectIdHandle = EntityHandle.NONE;
+        collisionRadius = 20f;
+        collisionLayer = ICollidable.DEFAULT_LAYER;
+        collisionMask = ICollidable.ALL_LAYERS;
+        staticCollider = false;
+        fallbackPosition.set(0f, 0f);
+        fallbackVelocity.set(0f, 0f);
+        setActive(true);
+    }
+
     @Override
     public String toString() {
-        return "GameEntity{name='" + name + "', id=" + getId() + ", active=" + isActive() + "}";
+        return "GameEntity{name='" + name + "', id=" + EntityHandle.toString(getId()) + ", active=" + isActive() + "}";
     }
 }
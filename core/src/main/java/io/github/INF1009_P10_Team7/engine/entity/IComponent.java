@@ -38,4 +38,19 @@ public interface IComponent {
      * @param deltaTime seconds elapsed since the last frame
      */
     void update(float deltaTime);
+
+    /**
+     * Declares whether {@link #update} may run on a worker thread while
+     * other entities update concurrently. Return {@code true} only if
+     * {@code update} reads and writes nothing but this component, its
+     * owner's other components and objects owned by this entity alone, and
+     * never adds or removes components. Entities whose components are all
+     * thread-safe are eligible for {@link EntityManager}'s parallel update.
+     *
+     * @return {@code true} if {@code update} is safe to run concurrently;
+     *         {@code false} by default
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
 }
@@ -13,13 +13,30 @@ import java.util.Map;
 public interface IEntityQuery {
 
     /**
-     * Returns an iterable snapshot of every entity currently registered
-     * with the manager. Includes both active and inactive entities.
+     * Returns a read-only live view of every entity currently registered
+     * with the manager, in update order. Includes both active and inactive
+     * entities; entities whose add has not been flushed yet are not listed.
      *
      * @return all registered entities
      */
     Iterable<Entity> getAllEntities();
 
+    /**
+     * Resolves a generational entity handle (see {@link EntityHandle}).
+     * Handles of removed entities never resolve again, even after their
+     * slot has been reused.
+     *
+     * @param handle a value previously returned by {@link Entity#getId()}
+     * @return the entity, or {@code null} if the handle is stale or invalid
+     */
+    Entity getEntity(int handle);
+
+    /**
+     * @param handle an entity handle
+     * @return {@code true} if {@code handle} still refers to a registered entity
+     */
+    boolean isAlive(int handle);
+
     /**
      * Returns the map of named entities for quick name-based lookup.
      * Only {@link GameEntity} instances with a non-null, non-empty name
@@ -36,4 +53,29 @@ public interface IEntityQuery {
      * @return the matching {@link GameEntity}, or {@code null} if not found
      */
     GameEntity getByName(String name);
+
+    /**
+     * Returns the archetype store that groups every registered entity by
+     * its exact set of component types. Systems that touch thousands of
+     * entities per frame can walk the matching {@link Archetype}s column by
+     * column instead of calling {@link Entity#getComponent} per entity.
+     *
+     * @return the live archetype store
+     */
+    ArchetypeStore getArchetypeStore();
+
+    /**
+     * Returns a cached query over every registered entity that has all of
+     * the given component types. The same instance is returned for the same
+     * set of types, so systems should fetch it once and keep the handle;
+     * iterating it afterwards does not allocate.
+     *
+     * <p>Entities appear in queries as soon as they are passed to
+     * {@link IEntitySystem#addEntity}, and leave when their removal is
+     * flushed at the next frame boundary.</p>
+     *
+     * @param types the required component types (at least one)
+     * @return the shared query for that type set
+     */
+    EntityQuery query(ComponentType<?>... types);
 }
@@ -35,6 +35,23 @@ public interface IEntitySystem {
      */
     void updateAll(float delta);
 
+    /**
+     * Returns the pool that recycles entities and components for this
+     * system. Entities obtained from it are recycled automatically once
+     * they are removed or the system is cleared.
+     *
+     * @return the entity pool
+     */
+    EntityPool getPool();
+
+    /**
+     * Returns the activity region that lets far-away entities update at a
+     * reduced rate. Culling is off until a radius is set on it.
+     *
+     * @return the activity region
+     */
+    ActivityRegion getActivityRegion();
+
     /** Removes all entities immediately and clears the pending queues. */
     void clear();
 
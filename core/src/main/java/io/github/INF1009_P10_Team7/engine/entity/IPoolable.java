@@ -0,0 +1,26 @@
+package io.github.INF1009_P10_Team7.engine.entity;
+
+/**
+ * IPoolable, contract for entities and components that {@link EntityPool}
+ * may recycle instead of letting them be garbage collected.
+ *
+ * <p>Lifecycle of a pooled object: it is handed out by the pool, attached
+ * (components receive {@link IComponent#onAdded}), used, detached
+ * (components receive {@link IComponent#onRemoved}) and finally
+ * {@link #reset()} before it goes back on the free list. The next
+ * {@code obtain} returns the same instance, so nothing from its previous
+ * life may leak into the next one.</p>
+ *
+ * <p>Design note (ISP): pooling is opt-in. Components that hold
+ * construction-time data they cannot reset (e.g. final fields) simply do
+ * not implement this interface and keep being created with {@code new}.</p>
+ */
+public interface IPoolable {
+
+    /**
+     * Restores the object to the state a freshly constructed instance
+     * would have. Called by the pool after the object has been detached
+     * and before it is stored for reuse.
+     */
+    void reset();
+}
@@ -33,6 +33,12 @@ public class MovementComponent implements IComponent {
         // and avoid double-applying movement (component + manager).
     }
 
+    // Movement runs centrally in MovementManager; update() is empty.
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     // Allows changing movement behavior at runtime
     public void setMovementBehaviour(MovementBehaviour movementBehaviour) {
         this.movementBehaviour = movementBehaviour;
@@ -1,6 +1,7 @@
 package io.github.INF1009_P10_Team7.engine.entity.components;
 
 import io.github.INF1009_P10_Team7.engine.entity.IComponent;
+import io.github.INF1009_P10_Team7.engine.entity.IPoolable;
 import io.github.INF1009_P10_Team7.engine.entity.Entity;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
@@ -8,7 +9,7 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 // Component that handles physics simulation for an entity.
 // Stores velocity and mass, and updates the entitys transform based on physics.
 
-public class PhysicComponent implements IComponent {
+public class PhysicComponent implements IComponent, IPoolable {
     private Vector2 velocity;
     private float mass;
     private Entity owner;
@@ -44,12 +45,26 @@ public class PhysicComponent implements IComponent {
         this.owner = null;
     }
 
+    // Zero velocity and unit mass, for reuse by EntityPool.
+    @Override
+    public void reset() {
+        velocity.set(0f, 0f);
+        mass = 1.0f;
+        owner = null;
+    }
+
     @Override
     public void update(float deltaTime) {
         // Data-only component.
         // Physics integration is handled by MovementManager.
     }
 
+    // Data-only, so a concurrent update() has nothing to race on.
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     // Gets the velocity.
     public Vector2 getVelocity() {
         return velocity;
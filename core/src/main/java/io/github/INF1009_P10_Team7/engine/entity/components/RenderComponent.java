@@ -35,6 +35,12 @@ public class RenderComponent implements IComponent {
         // Rendering is handled externally by the scene's render loop
     }
 
+    /** Drawing happens in the render pass, so {@link #update} is empty and safe anywhere. */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     /**
      * Renders this entity using the assigned behaviour and color.
      */
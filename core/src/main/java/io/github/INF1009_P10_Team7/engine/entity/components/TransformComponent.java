@@ -9,9 +9,14 @@ package io.github.INF1009_P10_Team7.engine.entity.components;
  *
  * <p>Position is stored as a mutable {@link io.github.INF1009_P10_Team7.engine.utils.Vector2}
  * so that systems can update it in-place without creating new objects each frame.</p>
+ *
+ * <p>With a fixed simulation step the engine snapshots every transform
+ * before each step, so renderers can draw a position blended between the
+ * last two steps instead of the raw, step-quantised one.</p>
  */
 
 import io.github.INF1009_P10_Team7.engine.entity.IComponent;
+import io.github.INF1009_P10_Team7.engine.entity.IPoolable;
 import io.github.INF1009_P10_Team7.engine.entity.Entity;
 import io.github.INF1009_P10_Team7.engine.utils.Vector2;
 
@@ -19,10 +24,12 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
  * Component that stores position and rotation data for an entity.
  * Represents the spatial transform of an entity in 2D space.
  */
-public class TransformComponent implements IComponent {
+public class TransformComponent implements IComponent, IPoolable {
     private Vector2 position;
     private float rotation;
     private Entity owner;
+    // Position at the start of the current fixed step, for render interpolation
+    private final Vector2 previousPosition = new Vector2();
 
     // Creates a TransformComponent at the origin with no rotation.
     public TransformComponent() {
@@ -34,17 +41,21 @@ public class TransformComponent implements IComponent {
     public TransformComponent(float x, float y) {
         this.position = new Vector2(x, y);
         this.rotation = 0f;
+        this.previousPosition.set(x, y);
     }
 
     // Creates a TransformComponent with the specified position and rotation.
     public TransformComponent(Vector2 position, float rotation) {
         this.position = new Vector2(position);
         this.rotation = rotation;
+        this.previousPosition.set(position);
     }
 
     @Override
     public void onAdded(Entity owner) {
         this.owner = owner;
+        // A new entity has no history, so it must not appear to slide in
+        snapshot();
     }
 
     @Override
@@ -52,12 +63,27 @@ public class TransformComponent implements IComponent {
         this.owner = null;
     }
 
+    // Back to the origin with no rotation, for reuse by EntityPool.
+    @Override
+    public void reset() {
+        position.set(0f, 0f);
+        previousPosition.set(0f, 0f);
+        rotation = 0f;
+        owner = null;
+    }
+
     @Override
     public void update(float deltaTime) {
         // TransformComponent typically doesn't update on its own
         // Position and rotation are modified by other components (e.g., PhysicComponent)
     }
 
+    // Nothing happens in update(); systems write the position directly.
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
     // Gets the position.
     public Vector2 getPosition() {
         return position;
@@ -73,6 +99,23 @@ public class TransformComponent implements IComponent {
         this.position.set(x, y);
     }
 
+    // Remembers the current position as the previous one. Called by the engine before
+    // each fixed step; call it after a teleport so the jump is not interpolated.
+    public void snapshot() {
+        previousPosition.set(position);
+    }
+
+    // Gets the position as it was at the start of the current fixed step.
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
+    // Writes the position blended from the previous snapshot (alpha 0) to the current one (alpha 1).
+    public Vector2 getInterpolatedPosition(float alpha, Vector2 out) {
+        return out.set(previousPosition.x + (position.x - previousPosition.x) * alpha,
+                       previousPosition.y + (position.y - previousPosition.y) * alpha);
+    }
+
     // Gets the rotation in degrees.
     public float getRotation() {
         return rotation;
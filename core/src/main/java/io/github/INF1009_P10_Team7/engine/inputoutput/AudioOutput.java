@@ -7,6 +7,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
 
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
+
 /**
  * <p>Handles all audio operations for the engine.</p>
  *
@@ -18,6 +20,10 @@ import com.badlogic.gdx.audio.Sound;
  * <li><b>Background music:</b> Streamed directly from the file (one track at a time).</li>
  * <li><b>Sound effects (SFX):</b> Short clips cached in memory for immediate, repeated playback.</li>
  * </ul>
+ *
+ * <p>A silent instance (see {@link #AudioOutput(boolean)}) keeps track of
+ * volumes but never loads or plays anything, so it works without an audio
+ * backend.</p>
  */
 public class AudioOutput {
 	
@@ -31,11 +37,24 @@ public class AudioOutput {
     // Sound effect cache
     private final Map<String, Sound> soundCache = new HashMap<>();
 
+    /** True when no audio backend is used at all. */
+    private final boolean silent;
+
     /**
      * <p>Constructs a new AudioOutput manager with no music loaded
      * and default volume settings.</p>
      */
     public AudioOutput() {
+        this(false);
+    }
+
+    /**
+     * <p>Constructs an AudioOutput that may run without an audio backend.</p>
+     *
+     * @param silent if {@code true}, music and sounds are accepted and ignored
+     */
+    public AudioOutput(boolean silent) {
+        this.silent = silent;
         this.currentMusic = null;
     }
 
@@ -48,6 +67,7 @@ public class AudioOutput {
      */
     public void setMusic(String audioPath) {
         stopMusic();
+        if (silent) return;
         currentMusic = Gdx.audio.newMusic(Gdx.files.internal(audioPath));
         currentMusic.setVolume(musicVolume);
         currentMusic.setLooping(true);
@@ -96,16 +116,17 @@ public class AudioOutput {
      */
     public void playSound(String audioPath) {
         if (sfxVolume <= 0f) {
-            Gdx.app.log("AudioOutput", audioPath + " skipped (volume is 0).");
+            EngineLog.info("AudioOutput", audioPath + " skipped (volume is 0).");
             return;
         }
+        if (silent) return;
         Sound sound = soundCache.get(audioPath);
         if (sound == null) {
             sound = Gdx.audio.newSound(Gdx.files.internal(audioPath));
             soundCache.put(audioPath, sound);
         }
         sound.play(sfxVolume);
-        Gdx.app.log("AudioOutput", audioPath + " Sound played.");
+        EngineLog.info("AudioOutput", audioPath + " Sound played.");
     }
 
     /**
@@ -128,7 +149,7 @@ public class AudioOutput {
         if (currentMusic != null) {
             currentMusic.setVolume(musicVolume);
         }
-        Gdx.app.log("AudioOutput", "Music volume set to: " + (int)(musicVolume * 100) + "%");
+        EngineLog.info("AudioOutput", "Music volume set to: " + (int)(musicVolume * 100) + "%");
     }
 
     /**
@@ -147,7 +168,7 @@ public class AudioOutput {
      */
     public void setSoundVolume(float volume) {
         sfxVolume = Math.max(0f, Math.min(1f, volume));
-        Gdx.app.log("AudioOutput", "SFX volume set to: " + (int)(sfxVolume * 100) + "%");
+        EngineLog.info("AudioOutput", "SFX volume set to: " + (int)(sfxVolume * 100) + "%");
     }
 
     /**
@@ -162,6 +183,6 @@ public class AudioOutput {
             s.dispose();
         }
         soundCache.clear();
-        Gdx.app.log("AudioOutput", "AudioOutput disposed");
+        EngineLog.info("AudioOutput", "AudioOutput disposed");
     }
 }
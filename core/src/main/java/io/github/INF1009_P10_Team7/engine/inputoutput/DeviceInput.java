@@ -103,4 +103,23 @@ public abstract class DeviceInput {
      * @return A float value representing the position or intensity of the axis.
      */
     public abstract float getAxis(int id);
+
+    /**
+     * Number of local button codes this device reports, starting at 0.
+     * <p>
+     * Input recording walks this range to capture the device state, so a
+     * device that returns 0 is simply not recorded.
+     * @return The button count.
+     */
+    public int getButtonCount() {
+        return 0;
+    }
+
+    /**
+     * Number of analog axes this device reports, starting at 0.
+     * @return The axis count.
+     */
+    public int getAxisCount() {
+        return 0;
+    }
 }
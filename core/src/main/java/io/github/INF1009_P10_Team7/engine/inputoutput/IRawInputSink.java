@@ -0,0 +1,30 @@
+package io.github.INF1009_P10_Team7.engine.inputoutput;
+
+/**
+ * Receives raw, event-style input: key downs, clicks and typed characters.
+ * <p>
+ * Polled devices cover held buttons; these events cover what polling cannot,
+ * such as text typed into a terminal or the next key for a rebind. In a
+ * window the LibGDX input processor feeds them; headless runs call them
+ * directly to script typing.
+ */
+public interface IRawInputSink {
+
+    /**
+     * @param keycode LibGDX key code
+     * @return {@code true} if the event was consumed
+     */
+    boolean keyDown(int keycode);
+
+    /**
+     * @param button mouse button index
+     * @return {@code true} if the event was consumed
+     */
+    boolean touchDown(int button);
+
+    /**
+     * @param character the typed character
+     * @return {@code true} if the event was consumed
+     */
+    boolean keyTyped(char character);
+}
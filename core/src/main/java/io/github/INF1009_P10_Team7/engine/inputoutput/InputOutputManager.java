@@ -8,6 +8,8 @@ import java.util.Map;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.InputAdapter;
 
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
+
 /**
  * The concrete implementation of the {@link IInputController} interface.
  * <p>
@@ -19,9 +21,10 @@ import com.badlogic.gdx.InputAdapter;
  * <li>Polling hardware state every frame.</li>
  * <li>Delegating audio requests to the {@link AudioOutput} system.</li>
  * <li>Routing raw OS-level text and control keys to active UI listeners.</li>
+ * <li>Recording input to an {@link InputRecording} and replaying it tick for tick.</li>
  * </ul>
  */
-public class InputOutputManager implements IInputController, IAudioController {
+public class InputOutputManager implements IInputController, IAudioController, IRawInputSink {
 	
 	private AudioOutput audioOutput;
 	
@@ -44,20 +47,25 @@ public class InputOutputManager implements IInputController, IAudioController {
 
     /** The pending callback for key rebinding (for the Settings Menu). */
     private InputCallback nextKeyCallback;
+
+    /** Active recorder, or {@code null} when not recording. */
+    private InputRecorder recorder;
+
+    /** Active replayer, or {@code null} when not replaying. */
+    private InputReplayer replayer;
+
+    /** The live devices, set aside while a replay's mirrors stand in for them. */
+    private List<DeviceInput> liveDevices;
+
+    /** {@code true} while the replayer itself is delivering recorded raw events. */
+    private boolean dispatchingReplay;
     
     /**
      * Initializes the InputOutputManager and its sub-components (Audio, Keyboard, Mouse).
      * Also establishes the global unified input processor for the engine.
      */
 	public InputOutputManager() {
-		this.audioOutput = new AudioOutput();
-		
-        this.keyBindings = new HashMap<>();
-        this.registeredDevices = new ArrayList<>();
-        
-        // Register default devices
-        registerDevice(new KeyboardDevice());
-        registerDevice(new MouseDevice());
+		this(new AudioOutput(), new KeyboardDevice(), new MouseDevice());
 
         // --- ONE UNIFIED GLOBAL INPUT ADAPTER ---
         // This acts as a traffic cop, routing raw OS events exactly where they need to go.
@@ -65,43 +73,187 @@ public class InputOutputManager implements IInputController, IAudioController {
             
             @Override
             public boolean keyDown(int keycode) {
-                // Check if it is for key rebind
-                if (nextKeyCallback != null) {
-                    nextKeyCallback.onInputReceived(0, keycode); // 0 = Keyboard
-                    nextKeyCallback = null; // Clear it so it only fires once
-                    return true;
-                }
-                
-                // Check if need constant polling for hardware inputs into the iomanager
-                if (currentTextListener != null) {
-                    currentTextListener.onControlKeyPressed(keycode);
-                }
-                return false;
+                return InputOutputManager.this.keyDown(keycode);
             }
 
             @Override
             public boolean touchDown(int screenX, int screenY, int pointer, int button) {
-                // check for mouse click
-                if (nextKeyCallback != null) {
-                    nextKeyCallback.onInputReceived(1, button); // 1 = Mouse
-                    nextKeyCallback = null; // Clear it so it only fires once
-                    return true;
-                }
-                return false;
+                return InputOutputManager.this.touchDown(button);
             }
 
             @Override
             public boolean keyTyped(char character) {
-                // heck if need constant polling for hardware inputs into the iomanager
-                if (currentTextListener != null) {
-                    currentTextListener.onCharTyped(character);
-                    return true; // Consume the typed character so nothing else processes it
-                }
-                return false;
+                return InputOutputManager.this.keyTyped(character);
             }
         });
 	}
+
+    /**
+     * Shared setup: audio output and the initial devices. Touches no LibGDX statics.
+     */
+    private InputOutputManager(AudioOutput audioOutput, DeviceInput... devices) {
+        this.audioOutput = audioOutput;
+
+        this.keyBindings = new HashMap<>();
+        this.registeredDevices = new ArrayList<>();
+
+        for (DeviceInput device : devices) {
+            registerDevice(device);
+        }
+    }
+
+    /**
+     * Creates a manager that needs no LibGDX backend: input comes from the
+     * given scripted devices (and raw events through {@link IRawInputSink}),
+     * and audio is silent.
+     *
+     * @param keyboard stand-in for the keyboard, usually {@link ScriptedInputDevice#keyboard()}
+     * @param mouse stand-in for the mouse, usually {@link ScriptedInputDevice#mouse()}
+     * @return a headless manager
+     */
+    public static InputOutputManager headless(ScriptedInputDevice keyboard, ScriptedInputDevice mouse) {
+        return new InputOutputManager(new AudioOutput(true), keyboard, mouse);
+    }
+
+    // --- Raw Event Routing ---
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A pending rebind takes the key first; otherwise it goes to the text listener.
+     */
+    @Override
+    public boolean keyDown(int keycode) {
+        if (ignoreLiveEvent()) return false;
+        if (recorder != null) recorder.recordEvent(InputRecording.EVENT_KEY_DOWN, keycode);
+
+        // Check if it is for key rebind
+        if (nextKeyCallback != null) {
+            nextKeyCallback.onInputReceived(0, keycode); // 0 = Keyboard
+            nextKeyCallback = null; // Clear it so it only fires once
+            return true;
+        }
+
+        // Check if need constant polling for hardware inputs into the iomanager
+        if (currentTextListener != null) {
+            currentTextListener.onControlKeyPressed(keycode);
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean touchDown(int button) {
+        if (ignoreLiveEvent()) return false;
+        if (recorder != null) recorder.recordEvent(InputRecording.EVENT_TOUCH_DOWN, button);
+
+        // check for mouse click
+        if (nextKeyCallback != null) {
+            nextKeyCallback.onInputReceived(1, button); // 1 = Mouse
+            nextKeyCallback = null; // Clear it so it only fires once
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean keyTyped(char character) {
+        if (ignoreLiveEvent()) return false;
+        if (recorder != null) recorder.recordEvent(InputRecording.EVENT_KEY_TYPED, character);
+
+        // heck if need constant polling for hardware inputs into the iomanager
+        if (currentTextListener != null) {
+            currentTextListener.onCharTyped(character);
+            return true; // Consume the typed character so nothing else processes it
+        }
+        return false;
+    }
 	
+    /** During a replay only the recorded events may reach the listeners. */
+    private boolean ignoreLiveEvent() {
+        return replayer != null && !dispatchingReplay;
+    }
+
+    // --- Recording and Replay ---
+
+    /**
+     * Starts capturing input. Every tick from now on is recorded until
+     * {@link #stopRecording()}; any recording in progress is discarded.
+     *
+     * @param seed master RNG seed of the run, stored with the recording
+     */
+    public void startRecording(long seed) {
+        recorder = new InputRecorder(seed, registeredDevices);
+    }
+
+    /**
+     * Stops capturing input.
+     *
+     * @return the recording, or {@code null} if none was in progress
+     */
+    public InputRecording stopRecording() {
+        if (recorder == null) return null;
+        InputRecording recording = recorder.finish();
+        recorder = null;
+        return recording;
+    }
+
+    public boolean isRecording() {
+        return recorder != null;
+    }
+
+    /**
+     * Replays a recording: its devices stand in for the live ones and live
+     * raw events are ignored until the last recorded tick has played, after
+     * which the live devices come back on their own.
+     *
+     * @param recording the input to play back
+     */
+    public void startReplay(InputRecording recording) {
+        stopReplay();
+        replayer = new InputReplayer(recording);
+        liveDevices = registeredDevices;
+        registeredDevices = new ArrayList<>(replayer.getDevices());
+        registeredDevices.sort((d1, d2) -> Integer.compare(d2.getBaseOffset(), d1.getBaseOffset()));
+    }
+
+    /** Ends a replay early and gives control back to the live devices. */
+    public void stopReplay() {
+        if (replayer == null) return;
+        replayer = null;
+        registeredDevices = liveDevices;
+        liveDevices = null;
+    }
+
+    public boolean isReplaying() {
+        return replayer != null && !replayer.isFinished();
+    }
+
+    /**
+     * Opens an input tick. Call once per simulation tick, before
+     * {@link #update()}.
+     *
+     * @param dt the tick's delta time
+     * @return the delta time to simulate: the recorded one during a replay,
+     *         otherwise {@code dt}
+     */
+    public float beginTick(float dt) {
+        if (replayer != null) {
+            if (replayer.isFinished()) {
+                stopReplay();
+            } else {
+                return replayer.beginTick();
+            }
+        }
+        if (recorder != null) recorder.beginTick(dt);
+        return dt;
+    }
+
 	/**
      * {@inheritDoc}
      */
@@ -149,11 +301,27 @@ public class InputOutputManager implements IInputController, IAudioController {
      * <b>Must be called once per frame</b> at the start of the game loop.
      * This triggers the {@code pollInput()} method on devices, which updates
      * their internal "Current" and "Previous" state arrays to allow for "Just Pressed" detection.
+     * <p>
+     * While recording, the polled state is then written to the recorder; during a
+     * replay the recorded tick is applied instead of polling the live devices.
      */
 	public void update() {
+		if (replayer != null && replayer.isFinished()) {
+            stopReplay();
+        }
+		if (replayer != null) {
+            dispatchingReplay = true;
+            try {
+                replayer.applyTick(this);
+            } finally {
+                dispatchingReplay = false;
+            }
+            return;
+        }
 		for (DeviceInput device : registeredDevices) {
             device.pollInput();
         }
+        if (recorder != null) recorder.endTick();
 	}
 	
 	/**
@@ -161,7 +329,7 @@ public class InputOutputManager implements IInputController, IAudioController {
      */
     public void dispose() {
         audioOutput.dispose();
-        Gdx.app.log("InputOutputManager", "InputOutputManager disposed");
+        EngineLog.info("InputOutputManager", "InputOutputManager disposed");
     }
     
     
@@ -186,9 +354,9 @@ public class InputOutputManager implements IInputController, IAudioController {
         if (targetDevice != null) {
             int globalCode = targetDevice.getBaseOffset() + localCode;
             keyBindings.put(actionName, globalCode);
-            Gdx.app.log("InputManager", "Bound " + actionName + " to global code: " + globalCode);
+            EngineLog.info("InputManager", "Bound " + actionName + " to global code: " + globalCode);
         } else {
-            Gdx.app.error("InputManager", "Failed to bind " + actionName + ". Device ID " + deviceID + " not found.");
+            EngineLog.error("InputManager", "Failed to bind " + actionName + ". Device ID " + deviceID + " not found.");
         }
     }
     
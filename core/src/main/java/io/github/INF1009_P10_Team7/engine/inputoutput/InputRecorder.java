@@ -0,0 +1,164 @@
+package io.github.INF1009_P10_Team7.engine.inputoutput;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * InputRecorder, builds an {@link InputRecording} while the game runs.
+ *
+ * <p>Owned by {@link InputOutputManager}: it reports each tick's delta time
+ * and raw events as they happen, then calls {@link #endTick()} after the
+ * devices are polled. The recorder compares the polled state with what it
+ * saw last tick and writes only the differences.</p>
+ */
+class InputRecorder {
+
+    private final long seed;
+    private final DeviceInput[] devices;
+    private final boolean[][] lastButtons;
+    private final float[][] lastAxes;
+    private final boolean[][] initialButtons;
+    private final float[][] initialAxes;
+
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    private final DataOutputStream out = new DataOutputStream(bytes);
+    // Per-tick scratch, reused so recording allocates nothing per tick
+    private final ByteArrayOutputStream tickBody = new ByteArrayOutputStream(64);
+    private final DataOutputStream body = new DataOutputStream(tickBody);
+    private final ByteArrayOutputStream eventBytes = new ByteArrayOutputStream(64);
+    private final DataOutputStream events = new DataOutputStream(eventBytes);
+    private int eventCount;
+
+    private float tickDt;
+    private float lastDt = Float.NaN;
+    private int tickCount;
+
+    InputRecorder(long seed, List<DeviceInput> deviceList) {
+        this.seed = seed;
+        this.devices = deviceList.toArray(new DeviceInput[0]);
+        int n = devices.length;
+        lastButtons = new boolean[n][];
+        lastAxes = new float[n][];
+        for (int d = 0; d < n; d++) {
+            DeviceInput device = devices[d];
+            boolean[] buttons = new boolean[device.getButtonCount()];
+            for (int i = 0; i < buttons.length; i++) buttons[i] = device.getButton(i);
+            float[] axes = new float[device.getAxisCount()];
+            for (int i = 0; i < axes.length; i++) axes[i] = device.getAxis(i);
+            lastButtons[d] = buttons;
+            lastAxes[d] = axes;
+        }
+        initialButtons = new boolean[n][];
+        initialAxes = new float[n][];
+        for (int d = 0; d < n; d++) {
+            initialButtons[d] = lastButtons[d].clone();
+            initialAxes[d] = lastAxes[d].clone();
+        }
+    }
+
+    /** Sets the delta time of the tick being recorded. */
+    void beginTick(float dt) {
+        tickDt = dt;
+    }
+
+    /** Queues a raw event; it is written with the next tick. */
+    void recordEvent(int type, int value) {
+        try {
+            events.writeByte(type);
+            InputRecording.writeVarInt(events, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        eventCount++;
+    }
+
+    /** Writes the tick: call once per tick, after the devices were polled. */
+    void endTick() {
+        try {
+            int flags = 0;
+            tickBody.reset();
+
+            if (Float.floatToIntBits(tickDt) != Float.floatToIntBits(lastDt)) {
+                flags |= InputRecording.TICK_DT;
+                body.writeFloat(tickDt);
+                lastDt = tickDt;
+            }
+
+            int toggles = 0;
+            for (int d = 0; d < devices.length; d++) {
+                boolean[] last = lastButtons[d];
+                for (int i = 0; i < last.length; i++) {
+                    if (devices[d].getButton(i) != last[i]) toggles++;
+                }
+            }
+            if (toggles > 0) {
+                flags |= InputRecording.TICK_TOGGLES;
+                InputRecording.writeVarInt(body, toggles);
+                for (int d = 0; d < devices.length; d++) {
+                    boolean[] last = lastButtons[d];
+                    for (int i = 0; i < last.length; i++) {
+                        boolean down = devices[d].getButton(i);
+                        if (down != last[i]) {
+                            body.writeByte(d);
+                            InputRecording.writeVarInt(body, i);
+                            last[i] = down;
+                        }
+                    }
+                }
+            }
+
+            int moved = 0;
+            for (int d = 0; d < devices.length; d++) {
+                float[] last = lastAxes[d];
+                for (int i = 0; i < last.length; i++) {
+                    if (devices[d].getAxis(i) != last[i]) moved++;
+                }
+            }
+            if (moved > 0) {
+                flags |= InputRecording.TICK_AXES;
+                body.writeByte(moved);
+                for (int d = 0; d < devices.length; d++) {
+                    float[] last = lastAxes[d];
+                    for (int i = 0; i < last.length; i++) {
+                        float value = devices[d].getAxis(i);
+                        if (value != last[i]) {
+                            body.writeByte(d);
+                            body.writeByte(i);
+                            body.writeFloat(value);
+                            last[i] = value;
+                        }
+                    }
+                }
+            }
+
+            if (eventCount > 0) {
+                flags |= InputRecording.TICK_EVENTS;
+                InputRecording.writeVarInt(body, eventCount);
+                eventBytes.writeTo(body);
+                eventBytes.reset();
+                eventCount = 0;
+            }
+
+            out.writeByte(flags);
+            tickBody.writeTo(out);
+            tickCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    InputRecording finish() {
+        int n = devices.length;
+        int[] ids = new int[n];
+        int[] offsets = new int[n];
+        for (int d = 0; d < n; d++) {
+            ids[d] = devices[d].getDeviceID();
+            offsets[d] = devices[d].getBaseOffset();
+        }
+        return new InputRecording(seed, ids, offsets, initialButtons, initialAxes,
+            bytes.toByteArray(), tickCount);
+    }
+}
@@ -0,0 +1,181 @@
+package io.github.INF1009_P10_Team7.engine.inputoutput;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * InputRecording, a captured run of engine input that can be replayed tick for tick.
+ *
+ * <p>The header holds the master RNG seed, the layout of each recorded
+ * device and the state it was in when recording started. The body is one
+ * record per simulation tick holding only what changed that tick: the delta
+ * time (when it differs from the previous tick), the buttons that toggled,
+ * the axes that moved and the raw key/click/typed events. A tick where
+ * nothing happens costs one byte, so a long mission stays small.</p>
+ *
+ * <p>Create one with {@link InputOutputManager#stopRecording()}, save it with
+ * {@link #write} and load it back with {@link #read}.</p>
+ */
+public final class InputRecording {
+
+    /** File signature, "CMIR". */
+    static final int MAGIC = 0x434D4952;
+    static final int VERSION = 1;
+
+    // Tick record flags
+    static final int TICK_DT = 1;
+    static final int TICK_TOGGLES = 1 << 1;
+    static final int TICK_AXES = 1 << 2;
+    static final int TICK_EVENTS = 1 << 3;
+
+    // Raw event types, in the order of IRawInputSink
+    static final int EVENT_KEY_DOWN = 0;
+    static final int EVENT_TOUCH_DOWN = 1;
+    static final int EVENT_KEY_TYPED = 2;
+
+    private final long seed;
+    private final int[] deviceIds;
+    private final int[] baseOffsets;
+    private final boolean[][] initialButtons;
+    private final float[][] initialAxes;
+    private final byte[] ticks;
+    private final int tickCount;
+
+    InputRecording(long seed, int[] deviceIds, int[] baseOffsets,
+                   boolean[][] initialButtons, float[][] initialAxes,
+                   byte[] ticks, int tickCount) {
+        this.seed = seed;
+        this.deviceIds = deviceIds;
+        this.baseOffsets = baseOffsets;
+        this.initialButtons = initialButtons;
+        this.initialAxes = initialAxes;
+        this.ticks = ticks;
+        this.tickCount = tickCount;
+    }
+
+    /** @return the master seed the recorded run used */
+    public long getSeed() { return seed; }
+
+    /** @return number of simulation ticks recorded */
+    public int getTickCount() { return tickCount; }
+
+    /** @return size of the tick stream in bytes, excluding the header */
+    public int getTickBytes() { return ticks.length; }
+
+    int getDeviceCount() { return deviceIds.length; }
+    int getDeviceId(int index) { return deviceIds[index]; }
+    int getBaseOffset(int index) { return baseOffsets[index]; }
+    boolean[] getInitialButtons(int index) { return initialButtons[index]; }
+    float[] getInitialAxes(int index) { return initialAxes[index]; }
+    byte[] getTicks() { return ticks; }
+
+    /**
+     * Writes the recording in its binary form. The stream is flushed, not closed.
+     *
+     * @param out destination
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(seed);
+        data.writeInt(tickCount);
+        data.writeByte(deviceIds.length);
+        for (int d = 0; d < deviceIds.length; d++) {
+            data.writeByte(deviceIds[d]);
+            data.writeInt(baseOffsets[d]);
+
+            boolean[] buttons = initialButtons[d];
+            writeVarInt(data, buttons.length);
+            int pressed = 0;
+            for (boolean b : buttons) if (b) pressed++;
+            writeVarInt(data, pressed);
+            for (int i = 0; i < buttons.length; i++) {
+                if (buttons[i]) writeVarInt(data, i);
+            }
+
+            float[] axes = initialAxes[d];
+            data.writeByte(axes.length);
+            for (float a : axes) data.writeFloat(a);
+        }
+        writeVarInt(data, ticks.length);
+        data.write(ticks);
+        data.flush();
+    }
+
+    /**
+     * Reads a recording written by {@link #write}. The stream is not closed.
+     *
+     * @param in source
+     * @return the recording
+     * @throws IOException if reading fails or the data is not a recording
+     */
+    public static InputRecording read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not an input recording");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported input recording version " + version);
+        }
+        long seed = data.readLong();
+        int tickCount = data.readInt();
+
+        int deviceCount = data.readUnsignedByte();
+        int[] deviceIds = new int[deviceCount];
+        int[] baseOffsets = new int[deviceCount];
+        boolean[][] initialButtons = new boolean[deviceCount][];
+        float[][] initialAxes = new float[deviceCount][];
+        for (int d = 0; d < deviceCount; d++) {
+            deviceIds[d] = data.readUnsignedByte();
+            baseOffsets[d] = data.readInt();
+
+            boolean[] buttons = new boolean[readVarInt(data)];
+            int pressed = readVarInt(data);
+            for (int i = 0; i < pressed; i++) {
+                int code = readVarInt(data);
+                if (code < buttons.length) buttons[code] = true;
+            }
+            initialButtons[d] = buttons;
+
+            float[] axes = new float[data.readUnsignedByte()];
+            for (int i = 0; i < axes.length; i++) axes[i] = data.readFloat();
+            initialAxes[d] = axes;
+        }
+
+        byte[] ticks = new byte[readVarInt(data)];
+        data.readFully(ticks);
+        return new InputRecording(seed, deviceIds, baseOffsets, initialButtons, initialAxes, ticks, tickCount);
+    }
+
+    // LEB128: 7 bits per byte, high bit set while more bytes follow
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int b;
+        do {
+            if (shift > 28) throw new IOException("Malformed varint");
+            b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
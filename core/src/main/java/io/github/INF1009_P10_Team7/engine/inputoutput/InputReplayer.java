@@ -0,0 +1,130 @@
+package io.github.INF1009_P10_Team7.engine.inputoutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * InputReplayer, plays an {@link InputRecording} back through stand-in devices.
+ *
+ * <p>Each recorded device gets a {@link ScriptedInputDevice} mirror with the
+ * same ID and base offset, primed with the state recorded at the start.
+ * {@link InputOutputManager} swaps the mirrors in for the live devices, so
+ * bindings and "just pressed" detection see exactly the recorded input.</p>
+ */
+class InputReplayer {
+
+    private final InputRecording recording;
+    private final DataInputStream in;
+    private final ScriptedInputDevice[] mirrors;
+    private final List<DeviceInput> mirrorList = new ArrayList<>();
+
+    private float dt;
+    private int flags;
+    private boolean tickOpen;
+    private int ticksPlayed;
+
+    InputReplayer(InputRecording recording) {
+        this.recording = recording;
+        this.in = new DataInputStream(new ByteArrayInputStream(recording.getTicks()));
+
+        int n = recording.getDeviceCount();
+        mirrors = new ScriptedInputDevice[n];
+        for (int d = 0; d < n; d++) {
+            boolean[] buttons = recording.getInitialButtons(d);
+            int id = recording.getDeviceId(d);
+            ScriptedInputDevice mirror = new ScriptedInputDevice(
+                id, id == 0 ? "Keyboard" : id == 1 ? "Mouse" : "Device" + id,
+                recording.getBaseOffset(d), buttons.length);
+            for (int i = 0; i < buttons.length; i++) mirror.setButton(i, buttons[i]);
+            float[] axes = recording.getInitialAxes(d);
+            for (int i = 0; i < axes.length; i++) mirror.setAxis(i, axes[i]);
+            // Held keys count as held, not freshly pressed, on the first replayed tick
+            mirror.pollInput();
+            mirror.pollInput();
+            mirrors[d] = mirror;
+            mirrorList.add(mirror);
+        }
+    }
+
+    /** @return the mirror devices, to register in place of the live ones */
+    List<DeviceInput> getDevices() {
+        return mirrorList;
+    }
+
+    /** @return {@code true} once every recorded tick was played */
+    boolean isFinished() {
+        return ticksPlayed >= recording.getTickCount() && !tickOpen;
+    }
+
+    /**
+     * Opens the next tick if it is not open yet.
+     *
+     * @return the recorded delta time of the tick
+     */
+    float beginTick() {
+        if (!tickOpen) {
+            try {
+                flags = in.readUnsignedByte();
+                if ((flags & InputRecording.TICK_DT) != 0) {
+                    dt = in.readFloat();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            tickOpen = true;
+        }
+        return dt;
+    }
+
+    /**
+     * Plays the rest of the tick: raw events go to {@code sink} first, as
+     * they did before the recorded poll, then the mirrors are polled.
+     *
+     * @param sink receiver for the recorded raw events
+     */
+    void applyTick(IRawInputSink sink) {
+        beginTick();
+        try {
+            if ((flags & InputRecording.TICK_TOGGLES) != 0) {
+                int toggles = InputRecording.readVarInt(in);
+                for (int t = 0; t < toggles; t++) {
+                    ScriptedInputDevice mirror = mirrors[in.readUnsignedByte()];
+                    int button = InputRecording.readVarInt(in);
+                    mirror.setButton(button, !mirror.isRequested(button));
+                }
+            }
+            if ((flags & InputRecording.TICK_AXES) != 0) {
+                int moved = in.readUnsignedByte();
+                for (int a = 0; a < moved; a++) {
+                    ScriptedInputDevice mirror = mirrors[in.readUnsignedByte()];
+                    int axis = in.readUnsignedByte();
+                    mirror.setAxis(axis, in.readFloat());
+                }
+            }
+            if ((flags & InputRecording.TICK_EVENTS) != 0) {
+                int count = InputRecording.readVarInt(in);
+                for (int e = 0; e < count; e++) {
+                    int type = in.readUnsignedByte();
+                    int value = InputRecording.readVarInt(in);
+                    switch (type) {
+                        case InputRecording.EVENT_KEY_DOWN:   sink.keyDown(value); break;
+                        case InputRecording.EVENT_TOUCH_DOWN: sink.touchDown(value); break;
+                        case InputRecording.EVENT_KEY_TYPED:  sink.keyTyped((char) value); break;
+                        default: throw new IOException("Unknown input event type " + type);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (ScriptedInputDevice mirror : mirrors) {
+            mirror.pollInput();
+        }
+        tickOpen = false;
+        ticksPlayed++;
+    }
+}
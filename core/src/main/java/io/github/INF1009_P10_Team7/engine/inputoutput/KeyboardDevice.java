@@ -110,4 +110,9 @@ public class KeyboardDevice extends DeviceInput {
 	    return 0; 
 	}
 
+	@Override
+	public int getButtonCount() {
+	    return currentKeys.length;
+	}
+
 }
@@ -127,4 +127,14 @@ public class MouseDevice extends DeviceInput {
         if (id == 1) return mouseY;
         return 0;
     }
+
+    @Override
+    public int getButtonCount() {
+        return currentButtons.length;
+    }
+
+    @Override
+    public int getAxisCount() {
+        return 2;
+    }
 }
\ No newline at end of file
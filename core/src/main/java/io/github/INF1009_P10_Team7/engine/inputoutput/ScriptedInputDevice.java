@@ -0,0 +1,133 @@
+package io.github.INF1009_P10_Team7.engine.inputoutput;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Input;
+
+/**
+ * ScriptedInputDevice, an input device driven by code instead of hardware.
+ *
+ * <p>Headless runs register one in place of {@link KeyboardDevice} or
+ * {@link MouseDevice}, with the same device ID and base offset, so the
+ * existing action bindings keep working. A script sets buttons with
+ * {@link #setButton}; the state is sampled at the next {@link #pollInput()},
+ * exactly like a hardware poll, so "just pressed" detection behaves the same
+ * as with a real keyboard.</p>
+ */
+public class ScriptedInputDevice extends DeviceInput {
+
+    /** Button state as set by the script, sampled on the next poll. */
+    private final boolean[] requested;
+    private final boolean[] currentButtons;
+    private final boolean[] previousButtons;
+    private final float[] axes = new float[2];
+
+    /**
+     * @param deviceID ID used in bindings (0 keyboard, 1 mouse)
+     * @param deviceName human-readable name
+     * @param baseOffset start of this device's global code range
+     * @param buttonCount number of buttons or keys
+     */
+    public ScriptedInputDevice(int deviceID, String deviceName, int baseOffset, int buttonCount) {
+        this.deviceID = deviceID;
+        this.deviceName = deviceName;
+        this.baseOffset = baseOffset;
+        this.requested = new boolean[buttonCount];
+        this.currentButtons = new boolean[buttonCount];
+        this.previousButtons = new boolean[buttonCount];
+    }
+
+    /** @return a stand-in for {@link KeyboardDevice} (ID 0, offset 0, 256 keys) */
+    public static ScriptedInputDevice keyboard() {
+        return new ScriptedInputDevice(0, "Keyboard", 0, 256);
+    }
+
+    /** @return a stand-in for {@link MouseDevice} (ID 1, offset 300, 5 buttons) */
+    public static ScriptedInputDevice mouse() {
+        return new ScriptedInputDevice(1, "Mouse", 300, 5);
+    }
+
+    /**
+     * Holds or releases a button from the next poll on.
+     *
+     * @param id local key or button code
+     * @param down {@code true} to hold it
+     */
+    public void setButton(int id, boolean down) {
+        if (id >= 0 && id < requested.length) {
+            requested[id] = down;
+        }
+    }
+
+    /** @return the state {@link #setButton} last requested for a button */
+    boolean isRequested(int id) {
+        return id >= 0 && id < requested.length && requested[id];
+    }
+
+    /** Releases every button from the next poll on. */
+    public void releaseAll() {
+        Arrays.fill(requested, false);
+    }
+
+    /**
+     * Sets an analog axis, e.g. the cursor position.
+     *
+     * @param id axis index (0 = X, 1 = Y)
+     * @param value the new value
+     */
+    public void setAxis(int id, float value) {
+        if (id >= 0 && id < axes.length) {
+            axes[id] = value;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Keyboard stand-ins use LibGDX key names, others a generic name.
+     */
+    @Override
+    public String getKeyName(int localCode) {
+        if (deviceID == 0) {
+            return Input.Keys.toString(localCode);
+        }
+        return deviceName.toUpperCase() + "-" + localCode;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Copies the current state to the previous one, then samples the
+     * scripted state.
+     */
+    @Override
+    public void pollInput() {
+        System.arraycopy(currentButtons, 0, previousButtons, 0, currentButtons.length);
+        System.arraycopy(requested, 0, currentButtons, 0, requested.length);
+    }
+
+    @Override
+    public boolean getButton(int id) {
+        return id >= 0 && id < currentButtons.length && currentButtons[id];
+    }
+
+    @Override
+    public boolean isButtonJustPressed(int id) {
+        return id >= 0 && id < currentButtons.length && currentButtons[id] && !previousButtons[id];
+    }
+
+    @Override
+    public float getAxis(int id) {
+        return id >= 0 && id < axes.length ? axes[id] : 0f;
+    }
+
+    @Override
+    public int getButtonCount() {
+        return currentButtons.length;
+    }
+
+    @Override
+    public int getAxisCount() {
+        return axes.length;
+    }
+}
@@ -1,6 +1,5 @@
 package io.github.INF1009_P10_Team7.engine.map.tiled;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapLayer;
@@ -12,6 +11,7 @@ import com.badlogic.gdx.maps.tiled.TmxMapLoader;
 import com.badlogic.gdx.maps.tiled.renderers.OrthogonalTiledMapRenderer;
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
 import io.github.INF1009_P10_Team7.engine.map.ILevelMapRuntime;
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
 
 /**
  * Engine-owned tiled level runtime implementation.
@@ -58,7 +58,6 @@ public class TiledLevelMapRuntime implements ILevelMapRuntime {
     @Override
     public void load() {
         tmxMap = new TmxMapLoader().load(mapFile);
-        tmxRenderer = new OrthogonalTiledMapRenderer(tmxMap);
         collisionMgr = new TiledWorldCollisionQuery(cols, rows, tileSize);
         collisionMgr.build(tmxMap, collisionLayer, wallLayer);
         terminalTiles = loadTerminalsFromTmx(terminalLayer);
@@ -69,7 +68,7 @@ public class TiledLevelMapRuntime implements ILevelMapRuntime {
         if (tmxMap == null) return new int[0][];
         MapLayer layer = tmxMap.getLayers().get(layerName);
         if (layer == null) {
-            Gdx.app.log("TiledLevelMapRuntime", "Terminal layer '" + layerName + "' not found in TMX");
+            EngineLog.info("TiledLevelMapRuntime", "Terminal layer '" + layerName + "' not found in TMX");
             return new int[0][];
         }
         java.util.List<int[]> list = new java.util.ArrayList<>();
@@ -87,7 +86,7 @@ public class TiledLevelMapRuntime implements ILevelMapRuntime {
         if (tmxMap == null) return;
         MapLayer layer = tmxMap.getLayers().get(layerName);
         if (layer == null) {
-            Gdx.app.log("TiledLevelMapRuntime", "Door layer '" + layerName + "' not found in TMX");
+            EngineLog.info("TiledLevelMapRuntime", "Door layer '" + layerName + "' not found in TMX");
             return;
         }
         for (MapObject obj : layer.getObjects()) {
@@ -141,7 +140,9 @@ public class TiledLevelMapRuntime implements ILevelMapRuntime {
 
     @Override
     public void render(OrthographicCamera camera) {
-        if (tmxRenderer == null) return;
+        if (tmxMap == null) return;
+        // Created on first draw, so loading works without a GL context (headless runs)
+        if (tmxRenderer == null) tmxRenderer = new OrthogonalTiledMapRenderer(tmxMap);
         tmxRenderer.setView(camera);
         tmxRenderer.render();
     }
@@ -1,24 +1,50 @@
 package io.github.INF1009_P10_Team7.engine.map.tiled;
 
-import com.badlogic.gdx.Gdx;
+import java.util.Arrays;
+
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.objects.RectangleMapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Array;
+import io.github.INF1009_P10_Team7.engine.collision.CircleMoveResult;
 import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
 
 /**
  * Engine-level tiled-map collision query implementation.
+ *
+ * <p>Collision rects are indexed by the tiles they cover when the map is
+ * built, so wall queries only test the rects in the tiles around the
+ * circle instead of every rect in the level.</p>
  */
 public class TiledWorldCollisionQuery implements IWorldCollisionQuery {
+    // A move is split into sub-steps of at most this fraction of the radius,
+    // so a fast circle cannot skip over a thin wall
+    private static final float MAX_STEP_FRACTION = 0.5f;
+    private static final int MAX_SUB_STEPS = 64;
+    // Push-out passes per sub-step; the second settles corners
+    private static final int PUSH_PASSES = 2;
+
     private final int cols;
     private final int rows;
     private final int tileSize;
     private final Array<Rectangle> walls = new Array<>();
     private boolean[][] wallGrid;
 
+    // Tile buckets of wall indices, tiles counted from the bottom-left:
+    // tile t holds tileWalls[tileStart[t] .. tileStart[t + 1])
+    private int[] tileStart = new int[1];
+    private int[] tileWalls = new int[0];
+
+    // Walls near the query in progress, reused between calls. A rect spanning
+    // several tiles is listed once per tile, so the stamp skips repeats.
+    private int[] nearby = new int[16];
+    private int nearbyCount;
+    private int[] wallStamp = new int[0];
+    private int stamp;
+
     public TiledWorldCollisionQuery(int cols, int rows, int tileSize) {
         this.cols = cols;
         this.rows = rows;
@@ -33,7 +59,7 @@ public class TiledWorldCollisionQuery implements IWorldCollisionQuery {
     private void buildObjectWalls(TiledMap map, String layerName) {
         walls.clear();
         if (map.getLayers().get(layerName) == null) {
-            Gdx.app.log("TiledWorldCollisionQuery", "Object layer not found: " + layerName);
+            EngineLog.info("TiledWorldCollisionQuery", "Object layer not found: " + layerName);
             return;
         }
         for (MapObject obj : map.getLayers().get(layerName).getObjects()) {
@@ -41,14 +67,45 @@ public class TiledWorldCollisionQuery implements IWorldCollisionQuery {
                 walls.add(((RectangleMapObject) obj).getRectangle());
             }
         }
-        Gdx.app.log("TiledWorldCollisionQuery", "Loaded " + walls.size + " collision rects from layer: " + layerName);
+        EngineLog.info("TiledWorldCollisionQuery", "Loaded " + walls.size + " collision rects from layer: " + layerName);
+        buildTileBuckets();
+    }
+
+    private void buildTileBuckets() {
+        int tiles = Math.max(1, cols) * Math.max(1, rows);
+        tileStart = new int[tiles + 1];
+        wallStamp = new int[walls.size];
+        stamp = 0;
+
+        // Count per tile, prefix-sum into starts, then fill
+        for (int i = 0; i < walls.size; i++) {
+            Rectangle wall = walls.get(i);
+            for (int row = tileRow(wall.y), maxRow = tileRow(wall.y + wall.height); row <= maxRow; row++) {
+                for (int col = tileCol(wall.x), maxCol = tileCol(wall.x + wall.width); col <= maxCol; col++) {
+                    tileStart[tileIndex(col, row) + 1]++;
+                }
+            }
+        }
+        for (int t = 0; t < tiles; t++) {
+            tileStart[t + 1] += tileStart[t];
+        }
+        tileWalls = new int[tileStart[tiles]];
+        int[] fill = Arrays.copyOf(tileStart, tiles);
+        for (int i = 0; i < walls.size; i++) {
+            Rectangle wall = walls.get(i);
+            for (int row = tileRow(wall.y), maxRow = tileRow(wall.y + wall.height); row <= maxRow; row++) {
+                for (int col = tileCol(wall.x), maxCol = tileCol(wall.x + wall.width); col <= maxCol; col++) {
+                    tileWalls[fill[tileIndex(col, row)]++] = i;
+                }
+            }
+        }
     }
 
     private void buildWallGrid(TiledMap map, String layerName) {
         wallGrid = new boolean[rows][cols];
         TiledMapTileLayer layer = (TiledMapTileLayer) map.getLayers().get(layerName);
         if (layer == null) {
-            Gdx.app.log("TiledWorldCollisionQuery", "Tile layer not found: " + layerName);
+            EngineLog.info("TiledWorldCollisionQuery", "Tile layer not found: " + layerName);
             return;
         }
         for (int row = 0; row < rows; row++) {
@@ -59,8 +116,11 @@ public class TiledWorldCollisionQuery implements IWorldCollisionQuery {
     }
 
     @Override
-    public float[] resolveCircleVsWalls(float px, float py, float r) {
-        for (Rectangle wall : walls) {
+    public void resolveCircleVsWalls(float px, float py, float r, float[] out) {
+        // Padded by a radius, the furthest one push can carry the circle
+        gatherNearbyWalls(px - 2 * r, py - 2 * r, px + 2 * r, py + 2 * r);
+        for (int k = 0; k < nearbyCount; k++) {
+            Rectangle wall = walls.get(nearby[k]);
             float nearX = Math.max(wall.x, Math.min(px, wall.x + wall.width));
             float nearY = Math.max(wall.y, Math.min(py, wall.y + wall.height));
             float dx = px - nearX;
@@ -74,7 +134,116 @@ public class TiledWorldCollisionQuery implements IWorldCollisionQuery {
                 py += r;
             }
         }
-        return new float[]{px, py};
+        out[0] = px;
+        out[1] = py;
+    }
+
+    @Override
+    public void moveCircle(float x, float y, float r, float dx, float dy, CircleMoveResult out) {
+        // Only walls in the tiles the swept circle covers, plus a radius
+        // for push-outs, can be hit
+        float pad = 2 * r;
+        gatherNearbyWalls(Math.min(x, x + dx) - pad, Math.min(y, y + dy) - pad,
+            Math.max(x, x + dx) + pad, Math.max(y, y + dy) + pad);
+
+        float len = (float) Math.sqrt(dx * dx + dy * dy);
+        int steps = 1;
+        if (len > 0f && r > 0f) {
+            steps = Math.min(MAX_SUB_STEPS, (int) Math.ceil(len / (r * MAX_STEP_FRACTION)));
+        }
+        float sx = dx / steps;
+        float sy = dy / steps;
+
+        float px = x;
+        float py = y;
+        boolean blocked = false;
+        float normalX = 0f;
+        float normalY = 0f;
+        for (int s = 0; s < steps; s++) {
+            px += sx;
+            py += sy;
+            // Pushing out along the contact normal removes the part of the
+            // step that goes into the wall and keeps the part along it
+            for (int pass = 0; pass < PUSH_PASSES; pass++) {
+                boolean pushed = false;
+                for (int k = 0; k < nearbyCount; k++) {
+                    Rectangle wall = walls.get(nearby[k]);
+                    float nearX = Math.max(wall.x, Math.min(px, wall.x + wall.width));
+                    float nearY = Math.max(wall.y, Math.min(py, wall.y + wall.height));
+                    float ox = px - nearX;
+                    float oy = py - nearY;
+                    float d2 = ox * ox + oy * oy;
+                    if (d2 >= r * r) continue;
+
+                    if (d2 > 0f) {
+                        float dist = (float) Math.sqrt(d2);
+                        normalX = ox / dist;
+                        normalY = oy / dist;
+                        px += normalX * (r - dist);
+                        py += normalY * (r - dist);
+                    } else {
+                        // Centre inside the wall: leave through the closest edge
+                        float left = px - wall.x;
+                        float right = wall.x + wall.width - px;
+                        float down = py - wall.y;
+                        float up = wall.y + wall.height - py;
+                        float least = Math.min(Math.min(left, right), Math.min(down, up));
+                        normalX = 0f;
+                        normalY = 0f;
+                        if (least == left) {
+                            normalX = -1f;
+                            px = wall.x - r;
+                        } else if (least == right) {
+                            normalX = 1f;
+                            px = wall.x + wall.width + r;
+                        } else if (least == down) {
+                            normalY = -1f;
+                            py = wall.y - r;
+                        } else {
+                            normalY = 1f;
+                            py = wall.y + wall.height + r;
+                        }
+                    }
+                    pushed = true;
+                }
+                if (!pushed) break;
+                blocked = true;
+            }
+        }
+        out.set(x, y, px, py, blocked, normalX, normalY);
+    }
+
+    /**
+     * Collects the walls listed in the tiles the box touches into
+     * {@code nearby}, each once and in level order, so pushes are applied
+     * in the same order as a scan over every wall.
+     */
+    private void gatherNearbyWalls(float minX, float minY, float maxX, float maxY) {
+        nearbyCount = 0;
+        if (walls.size == 0) return;
+        if (++stamp == 0) {
+            Arrays.fill(wallStamp, 0);
+            stamp = 1;
+        }
+        for (int row = tileRow(minY), maxRow = tileRow(maxY); row <= maxRow; row++) {
+            for (int col = tileCol(minX), maxCol = tileCol(maxX); col <= maxCol; col++) {
+                int tile = tileIndex(col, row);
+                for (int k = tileStart[tile], end = tileStart[tile + 1]; k < end; k++) {
+                    int i = tileWalls[k];
+                    if (wallStamp[i] == stamp) continue;
+                    wallStamp[i] = stamp;
+
+                    Rectangle wall = walls.get(i);
+                    if (wall.x > maxX || wall.x + wall.width < minX
+                        || wall.y > maxY || wall.y + wall.height < minY) continue;
+                    if (nearbyCount == nearby.length) {
+                        nearby = Arrays.copyOf(nearby, nearbyCount * 2);
+                    }
+                    nearby[nearbyCount++] = i;
+                }
+            }
+        }
+        Arrays.sort(nearby, 0, nearbyCount);
     }
 
     @Override
@@ -109,6 +278,20 @@ public class TiledWorldCollisionQuery implements IWorldCollisionQuery {
         return wallGrid;
     }
 
+    // Bucket coordinates count rows upward like world Y; anything outside
+    // the map is clamped into the border tiles
+    private int tileCol(float wx) {
+        return Math.max(0, Math.min(Math.max(1, cols) - 1, (int) Math.floor(wx / tileSize)));
+    }
+
+    private int tileRow(float wy) {
+        return Math.max(0, Math.min(Math.max(1, rows) - 1, (int) Math.floor(wy / tileSize)));
+    }
+
+    private int tileIndex(int col, int row) {
+        return row * Math.max(1, cols) + col;
+    }
+
     private int worldToCol(float wx) {
         return Math.max(0, Math.min(cols - 1, (int) (wx / tileSize)));
     }
@@ -10,7 +10,7 @@ import java.util.Random;
  * The entity will move in a random direction and change direction every 1 second.
  * </p>
  */
-public class AImovement implements MovementBehaviour {
+public class AImovement implements BatchMovementBehaviour {
     /** Movement speed of the AI */
     private float speed;
 
@@ -31,8 +31,21 @@ public class AImovement implements MovementBehaviour {
      * @param speed movement speed value
      */
     public AImovement(float speed) {
+        this(speed, new Random());
+    }
+
+    /**
+     * <p>
+     * Constructor taking the random source, e.g. a stream from
+     * {@code GameEngine.getRandom()} so the wandering is reproducible.
+     * </p>
+     *
+     * @param speed movement speed value
+     * @param random generator used to pick new directions
+     */
+    public AImovement(float speed, Random random) {
         this.speed = speed;
-        this.random = new Random();
+        this.random = random;
     }
 
     /**
@@ -47,8 +60,25 @@ public class AImovement implements MovementBehaviour {
      */
     @Override
     public void move(Entity entity, float deltaTime) {
-        TransformComponent tc = entity.getComponent(TransformComponent.class);
+        step(entity.getComponent(TransformComponent.class), deltaTime);
+    }
+
+    /**
+     * <p>
+     * Move every entity in the batch, each with its own timer and direction.
+     * </p>
+     *
+     * @param batch entities using AImovement this frame
+     */
+    @Override
+    public void moveAll(EntityBatch batch) {
+        for (int i = 0, n = batch.size(); i < n; i++) {
+            AImovement b = batch.getBehaviour(i);
+            b.step(batch.getTransform(i), batch.getStep(i));
+        }
+    }
 
+    private void step(TransformComponent tc, float deltaTime) {
         // increase timer
         timer += deltaTime;
 
@@ -0,0 +1,27 @@
+package io.github.INF1009_P10_Team7.engine.movement;
+
+/**
+ * BatchMovementBehaviour, a {@link MovementBehaviour} that can also move
+ * every entity using its class in one call.
+ *
+ * <p>{@link MovementManager} groups entities by the class of their
+ * behaviour. For a group whose class implements this interface it calls
+ * {@link #moveAll} once, on the first row's behaviour, instead of
+ * {@link #move} per entity, so the hot loop stays inside one class no matter
+ * how many behaviour types the scene mixes. Other behaviours are still
+ * called per entity.</p>
+ *
+ * <p>{@link #moveAll} must have the same effect as calling {@link #move} on
+ * each row's behaviour with that row's step; {@link #move} stays the
+ * reference implementation and is what callers outside the manager use.</p>
+ */
+public interface BatchMovementBehaviour extends MovementBehaviour {
+
+    /**
+     * Moves every entity in the batch. Each row carries its own behaviour
+     * instance (all of this class) and step time.
+     *
+     * @param batch the entities to move this frame
+     */
+    void moveAll(EntityBatch batch);
+}
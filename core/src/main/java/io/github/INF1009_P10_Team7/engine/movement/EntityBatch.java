@@ -0,0 +1,118 @@
+package io.github.INF1009_P10_Team7.engine.movement;
+
+import java.util.Arrays;
+
+import io.github.INF1009_P10_Team7.engine.entity.Entity;
+import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
+import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
+
+/**
+ * <p>
+ * EntityBatch is the group of entities handed to
+ * {@link BatchMovementBehaviour#moveAll} in one call: every entity whose
+ * behaviour is of the same class and that steps this frame.
+ * </p>
+ * <p>
+ * Row {@code i} holds the entity, its behaviour instance, the time it
+ * simulates (which differs between rows when dormant entities catch up)
+ * and its transform and physics components, looked up once by
+ * {@link MovementManager}. Either component may be {@code null}. A batch
+ * is reused every frame, so do not keep a reference to it.
+ * </p>
+ */
+public final class EntityBatch {
+    private Entity[] entities = new Entity[8];
+    private MovementBehaviour[] behaviours = new MovementBehaviour[8];
+    private TransformComponent[] transforms = new TransformComponent[8];
+    private PhysicComponent[] physics = new PhysicComponent[8];
+    private float[] steps = new float[8];
+    private int size;
+
+    EntityBatch() {
+    }
+
+    /**
+     * <p>Number of rows in this batch.</p>
+     * @return row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>Get the entity in a row.</p>
+     * @param row the row
+     * @return the entity
+     */
+    public Entity getEntity(int row) {
+        return entities[row];
+    }
+
+    /**
+     * <p>
+     * Get the behaviour instance of a row. All rows share one behaviour
+     * class, so the implementation can cast to its own type.
+     * </p>
+     *
+     * @param row the row
+     * @param <B> the behaviour class of this batch
+     * @return the behaviour
+     */
+    @SuppressWarnings("unchecked")
+    public <B extends MovementBehaviour> B getBehaviour(int row) {
+        return (B) behaviours[row];
+    }
+
+    /**
+     * <p>Get the seconds a row simulates this frame.</p>
+     * @param row the row
+     * @return the step time
+     */
+    public float getStep(int row) {
+        return steps[row];
+    }
+
+    /**
+     * <p>Get the transform of a row's entity.</p>
+     * @param row the row
+     * @return the transform, or null if the entity has none
+     */
+    public TransformComponent getTransform(int row) {
+        return transforms[row];
+    }
+
+    /**
+     * <p>Get the physics component of a row's entity.</p>
+     * @param row the row
+     * @return the physics component, or null if the entity has none
+     */
+    public PhysicComponent getPhysics(int row) {
+        return physics[row];
+    }
+
+    void add(Entity entity, MovementBehaviour behaviour, float step,
+             TransformComponent transform, PhysicComponent physic) {
+        if (size == entities.length) {
+            int capacity = size * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            behaviours = Arrays.copyOf(behaviours, capacity);
+            transforms = Arrays.copyOf(transforms, capacity);
+            physics = Arrays.copyOf(physics, capacity);
+            steps = Arrays.copyOf(steps, capacity);
+        }
+        int row = size++;
+        entities[row] = entity;
+        behaviours[row] = behaviour;
+        transforms[row] = transform;
+        physics[row] = physic;
+        steps[row] = step;
+    }
+
+    void clear() {
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(behaviours, 0, size, null);
+        Arrays.fill(transforms, 0, size, null);
+        Arrays.fill(physics, 0, size, null);
+        size = 0;
+    }
+}
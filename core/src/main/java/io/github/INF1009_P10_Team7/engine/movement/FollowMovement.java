@@ -9,13 +9,18 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
  * The entity will always move towards the target position.
  * </p>
  */
-public class FollowMovement implements MovementBehaviour {
+public class FollowMovement implements BatchMovementBehaviour {
     /** The entity that we want to follow */
     private Entity target;
 
     /** Movement speed when following the target */
     private float speed;
 
+    /** Optional crowd steering, so many followers do not stack on the target */
+    private ISteeringSystem steering;
+    private SteeringAgent agent;
+    private final Vector2 velocity = new Vector2();
+
     /**
      * <p>
      * Constructor to set the target and speed.
@@ -40,9 +45,35 @@ public class FollowMovement implements MovementBehaviour {
      */
     @Override
     public void move(Entity entity, float deltaTime) {
-        TransformComponent myTransform = entity.getComponent(TransformComponent.class);
-        TransformComponent targetTransform = target.getComponent(TransformComponent.class);
+        step(entity.getComponent(TransformComponent.class),
+            target.getComponent(TransformComponent.class), deltaTime);
+    }
 
+    /**
+     * <p>
+     * Move every entity in the batch towards its own target.
+     * Followers usually share a target (e.g. the player), so the target's
+     * transform is only looked up again when the target changes.
+     * </p>
+     *
+     * @param batch entities using FollowMovement this frame
+     */
+    @Override
+    public void moveAll(EntityBatch batch) {
+        Entity lastTarget = null;
+        TransformComponent targetTransform = null;
+        for (int i = 0, n = batch.size(); i < n; i++) {
+            FollowMovement b = batch.getBehaviour(i);
+            if (b.target != lastTarget) {
+                lastTarget = b.target;
+                targetTransform = lastTarget != null
+                    ? lastTarget.getComponent(TransformComponent.class) : null;
+            }
+            b.step(batch.getTransform(i), targetTransform, batch.getStep(i));
+        }
+    }
+
+    private void step(TransformComponent myTransform, TransformComponent targetTransform, float deltaTime) {
         if (myTransform != null && targetTransform != null) {
             Vector2 myPos = myTransform.getPosition();
             Vector2 targetPos = targetTransform.getPosition();
@@ -53,7 +84,11 @@ public class FollowMovement implements MovementBehaviour {
             float distance = (float) Math.sqrt(dx * dx + dy * dy);
 
             // move only if not already at the target
-            if (distance > 0) {
+            if (distance > 0 && steering != null) {
+                steering.steer(agent, (dx / distance) * speed, (dy / distance) * speed, null, velocity);
+                myPos.x += velocity.x * deltaTime;
+                myPos.y += velocity.y * deltaTime;
+            } else if (distance > 0) {
                 // Position = Position + (Direction / Distance) * Speed * Time
                 myPos.x += (dx / distance) * speed * deltaTime;
                 myPos.y += (dy / distance) * speed * deltaTime;
@@ -73,6 +108,20 @@ public class FollowMovement implements MovementBehaviour {
      */
     public void setTarget(Entity target) { this.target = target; }
 
+    /**
+     * <p>
+     * Steer through a steering system so this follower keeps apart from
+     * the other agents. The agent should track this entity's position.
+     * </p>
+     *
+     * @param steering the steering system, or null to head straight for the target
+     * @param agent this entity's agent in that system
+     */
+    public void setSteering(ISteeringSystem steering, SteeringAgent agent) {
+        this.steering = steering;
+        this.agent = agent;
+    }
+
     /**
      * <p>Get current movement speed.</p>
      * @return speed value
@@ -0,0 +1,50 @@
+package io.github.INF1009_P10_Team7.engine.movement;
+
+import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+
+/**
+ * ISteeringSystem, public contract for crowd steering.
+ *
+ * <p>Movement code computes where an agent wants to go (e.g. with
+ * {@link Steering#seek} or {@link Steering#arrive}) and passes that
+ * velocity through {@link #steer}, which adds separation from nearby agents
+ * and turns away from walls ahead. Many agents converging on one point then
+ * spread around it instead of stacking.</p>
+ *
+ * <p>Neighbours come from a grid rebuilt once per tick from every agent's
+ * position, so separation costs O(k) per agent for k neighbours and every
+ * agent sees the same snapshot regardless of update order.</p>
+ */
+public interface ISteeringSystem {
+
+    /**
+     * Registers an agent.
+     *
+     * @param position live position to track; read once per tick
+     * @param radius body radius; sets the default separation and look-ahead
+     * @return the agent, for tuning and for {@link #steer}
+     */
+    SteeringAgent addAgent(Vector2 position, float radius);
+
+    /** Unregisters an agent; steering it afterwards returns the desired velocity unchanged. */
+    void removeAgent(SteeringAgent agent);
+
+    /** Removes every agent. */
+    void clear();
+
+    /** @return the number of registered agents */
+    int getAgentCount();
+
+    /**
+     * Adjusts a desired velocity for crowding and walls. The result is never
+     * faster than the desired velocity.
+     *
+     * @param agent the agent being moved
+     * @param desiredX desired x velocity
+     * @param desiredY desired y velocity
+     * @param walls world to probe for obstacles, or {@code null} to skip avoidance
+     * @param out receives the steered velocity; may be the same vector used for input elsewhere
+     */
+    void steer(SteeringAgent agent, float desiredX, float desiredY, IWorldCollisionQuery walls, Vector2 out);
+}
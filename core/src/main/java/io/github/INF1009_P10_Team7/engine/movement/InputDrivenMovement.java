@@ -24,7 +24,7 @@ import io.github.INF1009_P10_Team7.engine.inputoutput.IInputController;
  * changes the control scheme without touching this class or the engine
  * (OCP, DIP).</p>
  */
-public class InputDrivenMovement implements MovementBehaviour {
+public class InputDrivenMovement implements BatchMovementBehaviour {
     /** Handles how movement is processed based on input */
     private final MovementHandler handler;
 
@@ -67,9 +67,26 @@ public class InputDrivenMovement implements MovementBehaviour {
             return;
         }
 
-        // get physics component of the entity
-        PhysicComponent physics = entity.getComponent(PhysicComponent.class);
-        
+        step(entity.getComponent(PhysicComponent.class));
+    }
+
+    /**
+     * <p>
+     * Apply each row's handler to its physics component.
+     * The manager only batches active entities.
+     * </p>
+     *
+     * @param batch entities using InputDrivenMovement this frame
+     */
+    @Override
+    public void moveAll(EntityBatch batch) {
+        for (int i = 0, n = batch.size(); i < n; i++) {
+            InputDrivenMovement b = batch.getBehaviour(i);
+            b.step(batch.getPhysics(i));
+        }
+    }
+
+    private void step(PhysicComponent physics) {
         if (physics != null) {
             // let the handler process input and update movement
             handler.handle(physics, inputController);
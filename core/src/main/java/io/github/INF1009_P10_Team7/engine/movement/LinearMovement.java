@@ -10,7 +10,7 @@ import io.github.INF1009_P10_Team7.engine.utils.Vector2;
  * The direction is normalized so the speed stays consistent.
  * </p>
  */
-public class LinearMovement implements MovementBehaviour {
+public class LinearMovement implements BatchMovementBehaviour {
     /** Direction vector for movement */
     private Vector2 direction;
 
@@ -42,7 +42,25 @@ public class LinearMovement implements MovementBehaviour {
      */
     @Override
     public void move(Entity entity, float deltaTime) {
-        TransformComponent tc = entity.getComponent(TransformComponent.class);
+        step(entity.getComponent(TransformComponent.class), deltaTime);
+    }
+
+    /**
+     * <p>
+     * Move every entity in the batch with its own direction and speed.
+     * </p>
+     *
+     * @param batch entities using LinearMovement this frame
+     */
+    @Override
+    public void moveAll(EntityBatch batch) {
+        for (int i = 0, n = batch.size(); i < n; i++) {
+            LinearMovement b = batch.getBehaviour(i);
+            b.step(batch.getTransform(i), batch.getStep(i));
+        }
+    }
+
+    private void step(TransformComponent tc, float deltaTime) {
         if (tc != null) {
             tc.getPosition().x += direction.x * speed * deltaTime;
             tc.getPosition().y += direction.y * speed * deltaTime;
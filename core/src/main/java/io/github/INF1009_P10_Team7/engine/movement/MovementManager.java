@@ -1,37 +1,81 @@
 package io.github.INF1009_P10_Team7.engine.movement;
 
+import java.util.Arrays;
+
+import io.github.INF1009_P10_Team7.engine.entity.ActivityRegion;
+import io.github.INF1009_P10_Team7.engine.entity.Archetype;
+import io.github.INF1009_P10_Team7.engine.entity.ComponentType;
 import io.github.INF1009_P10_Team7.engine.entity.Entity;
-import com.badlogic.gdx.Gdx;
+import io.github.INF1009_P10_Team7.engine.entity.EntityQuery;
+import io.github.INF1009_P10_Team7.engine.entity.IEntityQuery;
 import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
 import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
-import io.github.INF1009_P10_Team7.engine.utils.Vector2;
-
-import java.util.HashMap;
-import java.util.Map;
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
 
 /**
  * <p>
  * MovementManager manages all entities and their movement behaviours.
  * It updates physics movement first, then applies custom movement behaviour.
  * </p>
+ * <p>
+ * Physics velocity is integrated for every registered entity that has a
+ * transform and a physics component, archetype by archetype over the
+ * {@link Archetype}'s float columns, before any behaviour runs.
+ * </p>
+ * <p>
+ * Behaviours are kept in a dense {@link MovementStore} in the order they
+ * were added, so every frame moves them in the same order. They run grouped
+ * by class: a class that implements {@link BatchMovementBehaviour} is called
+ * once per frame with an {@link EntityBatch} of all its entities, other
+ * classes once per entity.
+ * </p>
  */
 public class MovementManager implements IMovementSystem {
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+    private static final ComponentType<PhysicComponent> PHYSIC = ComponentType.of(PhysicComponent.class);
+
     /** Stores each entity with its movement behaviour */
-    private final Map<Entity, MovementBehaviour> entityBehaviors = new HashMap<>();
+    private final MovementStore store = new MovementStore();
+
+    /** Every registered body: transform and physics */
+    private final EntityQuery bodies;
+    // Per-row step of the archetype being integrated
+    private float[] rowSteps = new float[16];
+
+    /** Optional dormancy filter; null moves every entity every frame. */
+    private ActivityRegion activity;
 
     /**
      * <p>
      * Constructor to initialize the movement manager.
      * </p>
+     *
+     * @param entities where the bodies to integrate are found
      */
-    public MovementManager() {
-        Gdx.app.log("MovementManager", "MovementManager initialized");
+    public MovementManager(IEntityQuery entities) {
+        this.bodies = entities.query(TRANSFORM, PHYSIC);
+        EngineLog.info("MovementManager", "MovementManager initialized");
+    }
+
+    /**
+     * <p>
+     * Sets the activity region that decides how much time each entity
+     * simulates per frame. Dormant entities are skipped and later moved
+     * with the time they banked.
+     * </p>
+     *
+     * @param activity the region, or {@code null} to move everything every frame
+     */
+    public void setActivityRegion(ActivityRegion activity) {
+        this.activity = activity;
     }
 
     /**
      * <p>
      * Add an entity with its movement behaviour.
-     * If behaviour is null, only physics movement will be applied.
+     * Physics movement does not need this: it applies to every registered
+     * entity with a transform and physics component. A null behaviour
+     * only records the entity.
      * </p>
      *
      * @param entity the entity to add
@@ -39,13 +83,13 @@ public class MovementManager implements IMovementSystem {
      */
     @Override
     public void addEntity(Entity entity, MovementBehaviour behavior) {
-        entityBehaviors.put(entity, behavior);
+        store.put(entity, behavior);
 
         String name = (behavior == null)
             ? "PhysicsOnly"
             : behavior.getClass().getSimpleName();
 
-        Gdx.app.log("MovementManager", "Added entity with " + name);
+        EngineLog.info("MovementManager", "Added entity with " + name);
     }
 
     /**
@@ -57,45 +101,76 @@ public class MovementManager implements IMovementSystem {
      */
     @Override
     public void removeEntity(Entity entity) {
-        entityBehaviors.remove(entity);
-        Gdx.app.log("MovementManager", "Removed entity from movement management");
+        store.remove(entity);
+        EngineLog.info("MovementManager", "Removed entity from movement management");
     }
 
     /**
      * <p>
      * Update all entities every frame.
-     * First applies physics velocity, then applies movement behaviour.
+     * First applies physics velocity to every body, then applies the
+     * movement behaviours one class at a time, in the order each class was
+     * first added. Behaviours therefore see other entities at their
+     * integrated positions.
      * </p>
      *
      * @param deltaTime time passed since last frame
      */
     @Override
     public void updateAll(float deltaTime) {
-        for (Map.Entry<Entity, MovementBehaviour> entry : entityBehaviors.entrySet()) {
-            Entity entity = entry.getKey();
-            MovementBehaviour behavior = entry.getValue();
-
-            if (!entity.isActive()) continue;
-
-            // A) Physics Integration
-            PhysicComponent pc = entity.getComponent(PhysicComponent.class);
-            TransformComponent tc = entity.getComponent(TransformComponent.class);
-
-            if (pc != null && tc != null) {
-                Vector2 pos = tc.getPosition();
-                Vector2 vel = pc.getVelocity();
+        // A) Physics Integration over each archetype's float columns
+        for (int a = 0; a < bodies.getArchetypeCount(); a++) {
+            Archetype archetype = bodies.getArchetype(a);
+            final int rows = archetype.size();
+            if (rows == 0) continue;
+            if (rowSteps.length < rows) {
+                rowSteps = Arrays.copyOf(rowSteps, Math.max(rows, rowSteps.length * 2));
+            }
+            final float[] dt = rowSteps;
+            for (int row = 0; row < rows; row++) {
+                dt[row] = stepOf(archetype.getEntity(row), deltaTime);
+            }
 
-                pos.x += vel.x * deltaTime;
-                pos.y += vel.y * deltaTime;
+            archetype.gatherKinematics();
+            final float[] x = archetype.getPositionX(), y = archetype.getPositionY();
+            final float[] vx = archetype.getVelocityX(), vy = archetype.getVelocityY();
+            for (int row = 0; row < rows; row++) {
+                x[row] += vx[row] * dt[row];
+                y[row] += vy[row] * dt[row];
             }
+            archetype.scatterPositions();
+        }
+
+        final int n = store.size();
+        for (int i = 0; i < n; i++) {
+            store.setStep(i, stepOf(store.entityAt(i), deltaTime));
+        }
 
-            // B) Behaviour Movement
-            if (behavior != null) {
-                behavior.move(entity, deltaTime);
+        // B) Behaviour Movement, one group per behaviour class
+        store.fillBatches();
+        for (int g = 0; g < store.groupCount(); g++) {
+            EntityBatch batch = store.batchAt(g);
+            int count = batch.size();
+            if (count == 0) continue;
+
+            MovementBehaviour first = batch.getBehaviour(0);
+            if (first instanceof BatchMovementBehaviour) {
+                ((BatchMovementBehaviour) first).moveAll(batch);
+            } else {
+                for (int i = 0; i < count; i++) {
+                    MovementBehaviour behavior = batch.getBehaviour(i);
+                    behavior.move(batch.getEntity(i), batch.getStep(i));
+                }
             }
+            batch.clear();
         }
     }
 
+    private float stepOf(Entity entity, float deltaTime) {
+        if (!entity.isActive()) return 0f;
+        return activity != null ? activity.stepDelta(entity, deltaTime) : deltaTime;
+    }
+
     /**
      * <p>
      * Remove all entities and behaviours from the manager.
@@ -103,8 +178,8 @@ public class MovementManager implements IMovementSystem {
      */
     @Override
     public void clear() {
-        entityBehaviors.clear();
-        Gdx.app.log("MovementManager", "MovementManager cleared");
+        store.clear();
+        EngineLog.info("MovementManager", "MovementManager cleared");
     }
 
     /**
@@ -116,7 +191,7 @@ public class MovementManager implements IMovementSystem {
      */
     @Override
     public int getEntityCount() {
-        return entityBehaviors.size();
+        return store.size();
     }
 
     /**
@@ -129,7 +204,7 @@ public class MovementManager implements IMovementSystem {
      */
     @Override
     public boolean hasEntity(Entity entity) {
-        return entityBehaviors.containsKey(entity);
+        return store.contains(entity);
     }
 
     /**
@@ -142,7 +217,7 @@ public class MovementManager implements IMovementSystem {
      */
     @Override
     public MovementBehaviour getBehavior(Entity entity) {
-        return entityBehaviors.get(entity);
+        return store.getBehaviour(entity);
     }
 
     /**
@@ -155,7 +230,7 @@ public class MovementManager implements IMovementSystem {
      */
     @Override
     public void setBehavior(Entity entity, MovementBehaviour behavior) {
-        entityBehaviors.put(entity, behavior);
-        Gdx.app.log("MovementManager", "Updated behavior for entity to " + behavior.getClass().getSimpleName());
+        store.put(entity, behavior);
+        EngineLog.info("MovementManager", "Updated behavior for entity to " + behavior.getClass().getSimpleName());
     }
 }
@@ -0,0 +1,163 @@
+package io.github.INF1009_P10_Team7.engine.movement;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.github.INF1009_P10_Team7.engine.entity.ComponentType;
+import io.github.INF1009_P10_Team7.engine.entity.Entity;
+import io.github.INF1009_P10_Team7.engine.entity.components.PhysicComponent;
+import io.github.INF1009_P10_Team7.engine.entity.components.TransformComponent;
+
+/**
+ * <p>
+ * Dense storage for {@link MovementManager}: the managed entities and their
+ * behaviours sit in parallel arrays in insertion order, compacted with
+ * swap-remove, with a map only for finding an entity's slot.
+ * </p>
+ * <p>
+ * Every behaviour class gets a group id when first seen, and each tick the
+ * stepping slots are sorted into one {@link EntityBatch} per group, so the
+ * manager can run each behaviour class in one go.
+ * </p>
+ */
+final class MovementStore {
+    private static final ComponentType<PhysicComponent> PHYSIC = ComponentType.of(PhysicComponent.class);
+    private static final ComponentType<TransformComponent> TRANSFORM = ComponentType.of(TransformComponent.class);
+
+    /** Slot of each managed entity */
+    private final Map<Entity, Integer> slotOf = new HashMap<>();
+
+    // Slot columns, valid in [0, size)
+    private Entity[] entities = new Entity[16];
+    private MovementBehaviour[] behaviours = new MovementBehaviour[16];
+    /** Time each slot simulates this tick; 0 means skipped */
+    private float[] steps = new float[16];
+    /** Group of each slot's behaviour class, or -1 without a behaviour */
+    private int[] groupOf = new int[16];
+    private int size;
+
+    // Behaviour groups, in the order their class was first seen
+    private final Map<Class<?>, Integer> groupIds = new HashMap<>();
+    private EntityBatch[] batches = new EntityBatch[4];
+    private int groupCount;
+
+    /**
+     * <p>
+     * Adds an entity, or replaces its behaviour if it is already stored.
+     * </p>
+     */
+    void put(Entity entity, MovementBehaviour behaviour) {
+        Integer slot = slotOf.get(entity);
+        if (slot != null) {
+            behaviours[slot] = behaviour;
+            groupOf[slot] = groupFor(behaviour);
+            return;
+        }
+        if (size == entities.length) {
+            int capacity = size * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            behaviours = Arrays.copyOf(behaviours, capacity);
+            steps = Arrays.copyOf(steps, capacity);
+            groupOf = Arrays.copyOf(groupOf, capacity);
+        }
+        entities[size] = entity;
+        behaviours[size] = behaviour;
+        groupOf[size] = groupFor(behaviour);
+        slotOf.put(entity, size);
+        size++;
+    }
+
+    /**
+     * <p>
+     * Removes an entity by moving the last slot into its place.
+     * </p>
+     *
+     * @return true if the entity was stored
+     */
+    boolean remove(Entity entity) {
+        Integer slot = slotOf.remove(entity);
+        if (slot == null) return false;
+
+        int last = --size;
+        if (slot != last) {
+            entities[slot] = entities[last];
+            behaviours[slot] = behaviours[last];
+            groupOf[slot] = groupOf[last];
+            slotOf.put(entities[slot], slot);
+        }
+        entities[last] = null;
+        behaviours[last] = null;
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(entities, 0, size, null);
+        Arrays.fill(behaviours, 0, size, null);
+        for (int g = 0; g < groupCount; g++) {
+            batches[g].clear();
+        }
+        slotOf.clear();
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(Entity entity) {
+        return slotOf.containsKey(entity);
+    }
+
+    MovementBehaviour getBehaviour(Entity entity) {
+        Integer slot = slotOf.get(entity);
+        return slot != null ? behaviours[slot] : null;
+    }
+
+    Entity entityAt(int slot) {
+        return entities[slot];
+    }
+
+    /** Records the time a slot simulates this tick; 0 skips it. */
+    void setStep(int slot, float step) {
+        steps[slot] = step;
+    }
+
+    /**
+     * <p>
+     * Sorts the slots that have a behaviour and step this tick into their
+     * group's batch, in slot order. Call after {@link #setStep} for every slot.
+     * </p>
+     */
+    void fillBatches() {
+        for (int i = 0; i < size; i++) {
+            int g = groupOf[i];
+            if (g < 0 || steps[i] <= 0f) continue;
+            Entity entity = entities[i];
+            batches[g].add(entity, behaviours[i], steps[i],
+                entity.getComponent(TRANSFORM), entity.getComponent(PHYSIC));
+        }
+    }
+
+    int groupCount() {
+        return groupCount;
+    }
+
+    EntityBatch batchAt(int group) {
+        return batches[group];
+    }
+
+    private int groupFor(MovementBehaviour behaviour) {
+        if (behaviour == null) return -1;
+        Integer id = groupIds.get(behaviour.getClass());
+        if (id == null) {
+            if (groupCount == batches.length) {
+                batches = Arrays.copyOf(batches, groupCount * 2);
+            }
+            id = groupCount;
+            batches[groupCount++] = new EntityBatch();
+            groupIds.put(behaviour.getClass(), id);
+        }
+        return id;
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.INF1009_P10_Team7.engine.movement;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * NeighbourGrid answers "which points are within r of here" for a set of
+ * points that is rebuilt every tick, e.g. steering agents.
+ * </p>
+ * <p>
+ * Points are counting-sorted into hashed grid cells, so a rebuild is two
+ * linear passes and a query only looks at the cells the search circle
+ * touches. With the cell size close to the search radius a query costs
+ * O(k) for k nearby points instead of O(n). The grid has no bounds and
+ * reuses its arrays, so after warm-up it does not allocate.
+ * </p>
+ */
+public final class NeighbourGrid {
+    private final float cellSize;
+    private final float invCellSize;
+
+    // Counting-sort layout: bucket b holds items[bucketStart[b] .. bucketStart[b + 1])
+    private int[] bucketStart = new int[17];
+    private int[] items = new int[16];
+    private int[] bucketOf = new int[16];
+    private int mask = 15;
+
+    // Buckets already visited by the current query, so hash collisions
+    // between cells cannot report a point twice
+    private int[] bucketStamp = new int[16];
+    private int stamp;
+
+    private float[] xs = new float[0];
+    private float[] ys = new float[0];
+    private int count;
+
+    /**
+     * <p>Creates a grid; the cell size should be about the usual query radius.</p>
+     *
+     * @param cellSize width and height of a cell in world units
+     */
+    public NeighbourGrid(float cellSize) {
+        if (cellSize <= 0f) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+    }
+
+    /** @return the width and height of a cell in world units */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /** @return number of points in the last rebuild */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * <p>
+     * Indexes the first {@code count} points. The arrays are kept by
+     * reference and must not change until the next rebuild.
+     * </p>
+     *
+     * @param xs x coordinates
+     * @param ys y coordinates
+     * @param count number of points
+     */
+    public void rebuild(float[] xs, float[] ys, int count) {
+        this.xs = xs;
+        this.ys = ys;
+        this.count = count;
+
+        int buckets = Integer.highestOneBit(Math.max(16, count * 2) - 1) << 1;
+        if (buckets > mask + 1) {
+            mask = buckets - 1;
+            bucketStart = new int[buckets + 1];
+            bucketStamp = new int[buckets];
+            stamp = 0;
+        } else {
+            // The table only grows, so a shrinking swarm keeps its buckets
+            buckets = mask + 1;
+            Arrays.fill(bucketStart, 0);
+        }
+        if (items.length < count) {
+            items = new int[count];
+            bucketOf = new int[count];
+        }
+
+        for (int i = 0; i < count; i++) {
+            int b = bucket(cell(xs[i]), cell(ys[i]));
+            bucketOf[i] = b;
+            bucketStart[b + 1]++;
+        }
+        for (int b = 0; b < buckets; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+        // Fill back to front from each bucket's end, so points keep ascending
+        // order; afterwards slot b + 1 holds bucket b's start
+        for (int i = count - 1; i >= 0; i--) {
+            items[--bucketStart[bucketOf[i] + 1]] = i;
+        }
+        System.arraycopy(bucketStart, 1, bucketStart, 0, buckets);
+        bucketStart[buckets] = count;
+    }
+
+    /**
+     * <p>
+     * Finds the points within {@code radius} of {@code (x, y)}.
+     * </p>
+     *
+     * @param x query centre x
+     * @param y query centre y
+     * @param radius search radius
+     * @param out receives point indices; stops when full
+     * @return number of indices written
+     */
+    public int query(float x, float y, float radius, int[] out) {
+        if (count == 0 || out.length == 0) return 0;
+        if (++stamp == 0) {
+            Arrays.fill(bucketStamp, 0);
+            stamp = 1;
+        }
+
+        float r2 = radius * radius;
+        int minX = cell(x - radius), maxX = cell(x + radius);
+        int minY = cell(y - radius), maxY = cell(y + radius);
+        int found = 0;
+        for (int cy = minY; cy <= maxY; cy++) {
+            for (int cx = minX; cx <= maxX; cx++) {
+                int b = bucket(cx, cy);
+                if (bucketStamp[b] == stamp) continue;
+                bucketStamp[b] = stamp;
+
+                for (int k = bucketStart[b], end = bucketStart[b + 1]; k < end; k++) {
+                    int i = items[k];
+                    float dx = xs[i] - x;
+                    float dy = ys[i] - y;
+                    if (dx * dx + dy * dy <= r2) {
+                        out[found++] = i;
+                        if (found == out.length) return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private int cell(float v) {
+        return (int) Math.floor(v * invCellSize);
+    }
+
+    private int bucket(int cx, int cy) {
+        return ((cx * 73856093) ^ (cy * 19349663)) & mask;
+    }
+}
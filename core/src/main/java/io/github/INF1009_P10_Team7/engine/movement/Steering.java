@@ -0,0 +1,69 @@
+package io.github.INF1009_P10_Team7.engine.movement;
+
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+
+/**
+ * <p>
+ * Steering holds the target-seeking rules of the steering subsystem as
+ * plain functions. They compute a desired velocity; an
+ * {@link ISteeringSystem} then adds separation from nearby agents and
+ * obstacle avoidance on top.
+ * </p>
+ */
+public final class Steering {
+
+    private Steering() {
+    }
+
+    /**
+     * <p>
+     * Full speed straight at the target.
+     * </p>
+     *
+     * @param x current x
+     * @param y current y
+     * @param targetX target x
+     * @param targetY target y
+     * @param speed speed in world units per second
+     * @param out receives the velocity; zero when already at the target
+     * @return out
+     */
+    public static Vector2 seek(float x, float y, float targetX, float targetY, float speed, Vector2 out) {
+        float dx = targetX - x;
+        float dy = targetY - y;
+        float dist = (float) Math.sqrt(dx * dx + dy * dy);
+        if (dist < 1e-4f) {
+            return out.set(0f, 0f);
+        }
+        return out.set(dx / dist * speed, dy / dist * speed);
+    }
+
+    /**
+     * <p>
+     * Like {@link #seek}, but slows down linearly inside
+     * {@code slowRadius} so the agent comes to rest on the target instead
+     * of overshooting, and leaves room for separation to spread a group
+     * out around it.
+     * </p>
+     *
+     * @param x current x
+     * @param y current y
+     * @param targetX target x
+     * @param targetY target y
+     * @param speed top speed in world units per second
+     * @param slowRadius distance at which slowing starts
+     * @param out receives the velocity
+     * @return out
+     */
+    public static Vector2 arrive(float x, float y, float targetX, float targetY,
+                                 float speed, float slowRadius, Vector2 out) {
+        float dx = targetX - x;
+        float dy = targetY - y;
+        float dist = (float) Math.sqrt(dx * dx + dy * dy);
+        if (dist < 1e-4f) {
+            return out.set(0f, 0f);
+        }
+        float scaled = dist < slowRadius ? speed * (dist / slowRadius) : speed;
+        return out.set(dx / dist * scaled, dy / dist * scaled);
+    }
+}
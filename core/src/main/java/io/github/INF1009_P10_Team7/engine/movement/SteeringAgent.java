@@ -0,0 +1,65 @@
+package io.github.INF1009_P10_Team7.engine.movement;
+
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+
+/**
+ * <p>
+ * SteeringAgent is one member of an {@link ISteeringSystem}: a live
+ * position, a body radius and how strongly it keeps away from its
+ * neighbours and from walls. Create agents with
+ * {@link ISteeringSystem#addAgent}.
+ * </p>
+ */
+public final class SteeringAgent {
+    /** Live position, read when the neighbour grid is rebuilt */
+    private final Vector2 position;
+    private final float radius;
+
+    /** Neighbours closer than this push the agent away */
+    private float separationRadius;
+
+    /** Strength of the push, relative to the desired speed */
+    private float separationWeight = 1f;
+
+    /** How far ahead walls are probed */
+    private float lookAhead;
+
+    /** Slot in the owning system, or -1 once removed */
+    int index = -1;
+    /** Row in the owning system's last position snapshot, or -1 if not in it */
+    int snapshotIndex = -1;
+
+    SteeringAgent(Vector2 position, float radius) {
+        this.position = position;
+        this.radius = radius;
+        this.separationRadius = radius * 2.5f;
+        this.lookAhead = radius * 3f;
+    }
+
+    /** @return the live position this agent tracks */
+    public Vector2 getPosition() { return position; }
+
+    /** @return body radius */
+    public float getRadius() { return radius; }
+
+    /** @return distance within which neighbours push this agent away */
+    public float getSeparationRadius() { return separationRadius; }
+
+    /** @param separationRadius distance within which neighbours push this agent away */
+    public void setSeparationRadius(float separationRadius) { this.separationRadius = separationRadius; }
+
+    /** @return strength of separation relative to the desired speed */
+    public float getSeparationWeight() { return separationWeight; }
+
+    /** @param separationWeight strength of separation; 0 turns it off */
+    public void setSeparationWeight(float separationWeight) { this.separationWeight = separationWeight; }
+
+    /** @return distance ahead that walls are probed */
+    public float getLookAhead() { return lookAhead; }
+
+    /** @param lookAhead distance ahead that walls are probed; 0 turns avoidance off */
+    public void setLookAhead(float lookAhead) { this.lookAhead = lookAhead; }
+
+    /** @return true while the agent belongs to a steering system */
+    public boolean isRegistered() { return index >= 0; }
+}
@@ -0,0 +1,201 @@
+package io.github.INF1009_P10_Team7.engine.movement;
+
+import java.util.Arrays;
+
+import io.github.INF1009_P10_Team7.engine.collision.IWorldCollisionQuery;
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
+import io.github.INF1009_P10_Team7.engine.utils.Vector2;
+
+/**
+ * <p>
+ * SteeringManager is the engine's {@link ISteeringSystem}. Once per tick,
+ * before movement, {@link #update()} copies every agent's position into
+ * flat arrays and rebuilds a {@link NeighbourGrid} over them with the
+ * largest separation radius as the cell size. {@link #steer} then reads
+ * neighbours from that snapshot.
+ * </p>
+ */
+public class SteeringManager implements ISteeringSystem {
+    /** Most neighbours one agent reacts to; bounds the per-agent cost */
+    public static final int MAX_NEIGHBOURS = 16;
+
+    // Probe angles tried, in order, when the way ahead is blocked
+    private static final float[] AVOID_ANGLES = {
+        (float) Math.toRadians(35), (float) Math.toRadians(-35),
+        (float) Math.toRadians(70), (float) Math.toRadians(-70)
+    };
+    // Golden angle, spreads agents sitting exactly on top of each other
+    private static final float GOLDEN_ANGLE = 2.3999632f;
+
+    private SteeringAgent[] agents = new SteeringAgent[16];
+    private int count;
+
+    // Position snapshot taken by update(). Rows stay put when agents are
+    // removed afterwards, so agents find their row through snapshotIndex
+    // and removed agents are recognised by their cleared index.
+    private SteeringAgent[] snapshotAgents = new SteeringAgent[16];
+    private float[] xs = new float[16];
+    private float[] ys = new float[16];
+    private int snapshotCount;
+    private NeighbourGrid grid;
+
+    private final int[] neighbours = new int[MAX_NEIGHBOURS];
+
+    /**
+     * <p>
+     * Constructor to initialize the steering manager.
+     * </p>
+     */
+    public SteeringManager() {
+        EngineLog.info("SteeringManager", "SteeringManager initialized");
+    }
+
+    @Override
+    public SteeringAgent addAgent(Vector2 position, float radius) {
+        if (count == agents.length) {
+            agents = Arrays.copyOf(agents, count * 2);
+        }
+        SteeringAgent agent = new SteeringAgent(position, radius);
+        agent.index = count;
+        agents[count++] = agent;
+        return agent;
+    }
+
+    @Override
+    public void removeAgent(SteeringAgent agent) {
+        int slot = agent.index;
+        if (slot < 0 || slot >= count || agents[slot] != agent) return;
+
+        int last = --count;
+        if (slot != last) {
+            agents[slot] = agents[last];
+            agents[slot].index = slot;
+        }
+        agents[last] = null;
+        agent.index = -1;
+        agent.snapshotIndex = -1;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            agents[i].index = -1;
+            agents[i].snapshotIndex = -1;
+            agents[i] = null;
+        }
+        Arrays.fill(snapshotAgents, 0, snapshotCount, null);
+        count = 0;
+        snapshotCount = 0;
+        if (grid != null) grid.rebuild(xs, ys, 0);
+    }
+
+    @Override
+    public int getAgentCount() {
+        return count;
+    }
+
+    /**
+     * <p>
+     * Snapshots agent positions and rebuilds the neighbour grid.
+     * Called once per tick by the engine, before movement.
+     * </p>
+     */
+    public void update() {
+        if (xs.length < count) {
+            xs = new float[agents.length];
+            ys = new float[agents.length];
+            snapshotAgents = new SteeringAgent[agents.length];
+        }
+        Arrays.fill(snapshotAgents, count, Math.max(count, snapshotCount), null);
+        float cell = 0f;
+        for (int i = 0; i < count; i++) {
+            SteeringAgent agent = agents[i];
+            agent.snapshotIndex = i;
+            snapshotAgents[i] = agent;
+            xs[i] = agent.getPosition().x;
+            ys[i] = agent.getPosition().y;
+            cell = Math.max(cell, agent.getSeparationRadius());
+        }
+        snapshotCount = count;
+        if (count == 0) return;
+
+        if (cell <= 0f) cell = 1f;
+        if (grid == null || grid.getCellSize() != cell) {
+            grid = new NeighbourGrid(cell);
+        }
+        grid.rebuild(xs, ys, count);
+    }
+
+    @Override
+    public void steer(SteeringAgent agent, float desiredX, float desiredY,
+                      IWorldCollisionQuery walls, Vector2 out) {
+        float speed = (float) Math.sqrt(desiredX * desiredX + desiredY * desiredY);
+        if (speed < 1e-4f || agent.index < 0) {
+            out.set(desiredX, desiredY);
+            return;
+        }
+
+        float px = agent.getPosition().x;
+        float py = agent.getPosition().y;
+        float vx = desiredX;
+        float vy = desiredY;
+
+        // Separation: push away from neighbours, harder the closer they are
+        float sepRadius = agent.getSeparationRadius();
+        if (grid != null && snapshotCount > 0 && sepRadius > 0f && agent.getSeparationWeight() > 0f) {
+            int n = grid.query(px, py, sepRadius, neighbours);
+            float sx = 0f, sy = 0f;
+            for (int k = 0; k < n; k++) {
+                int j = neighbours[k];
+                // Skip itself and anyone removed since the snapshot
+                if (j == agent.snapshotIndex || snapshotAgents[j].index < 0) continue;
+                float dx = px - xs[j];
+                float dy = py - ys[j];
+                float d2 = dx * dx + dy * dy;
+                if (d2 < 1e-6f) {
+                    // Exactly stacked: each agent leaves in its own direction
+                    float angle = agent.index * GOLDEN_ANGLE;
+                    sx += (float) Math.cos(angle);
+                    sy += (float) Math.sin(angle);
+                    continue;
+                }
+                float d = (float) Math.sqrt(d2);
+                float w = 1f - d / sepRadius;
+                sx += dx / d * w;
+                sy += dy / d * w;
+            }
+            float push = agent.getSeparationWeight() * speed;
+            vx += sx * push;
+            vy += sy * push;
+        }
+
+        // Obstacle avoidance: if the way ahead is blocked, turn to a clear heading
+        float len = (float) Math.sqrt(vx * vx + vy * vy);
+        float lookAhead = agent.getLookAhead();
+        if (walls != null && len > 1e-4f && lookAhead > 0f) {
+            float dirX = vx / len;
+            float dirY = vy / len;
+            if (!walls.hasLineOfSight(px, py, px + dirX * lookAhead, py + dirY * lookAhead)) {
+                for (float angle : AVOID_ANGLES) {
+                    float cos = (float) Math.cos(angle);
+                    float sin = (float) Math.sin(angle);
+                    float rx = dirX * cos - dirY * sin;
+                    float ry = dirX * sin + dirY * cos;
+                    if (walls.hasLineOfSight(px, py, px + rx * lookAhead, py + ry * lookAhead)) {
+                        vx = rx * len;
+                        vy = ry * len;
+                        break;
+                    }
+                }
+            }
+        }
+
+        // Never faster than asked for
+        len = (float) Math.sqrt(vx * vx + vy * vy);
+        if (len > speed) {
+            vx *= speed / len;
+            vy *= speed / len;
+        }
+        out.set(vx, vy);
+    }
+}
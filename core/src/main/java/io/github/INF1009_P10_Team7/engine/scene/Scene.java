@@ -17,6 +17,7 @@ public abstract class Scene {
     protected final SceneNavigator nav;
 
     private boolean loaded = false;
+    private float renderAlpha = 1f;
 
     /**
      * <p>Creates a new Scene with the given dependencies.
@@ -78,9 +79,34 @@ public abstract class Scene {
 
     /** <p>Called once per frame to draw the scene.</p> */
     public final void render() {
+        render(1f);
+    }
+
+    /**
+     * <p>Called once per frame to draw the scene between two simulation
+     * steps. The fraction is available to {@link #onRender()} through
+     * {@link #getRenderAlpha()}.</p>
+     *
+     * @param alpha how far the frame is from the previous step (0) to the
+     *              latest step (1)
+     */
+    public final void render(float alpha) {
+        renderAlpha = alpha;
         onRender();
     }
 
+    /**
+     * <p>Fraction between the previous and the latest simulation step for
+     * the frame being drawn. Pass it to
+     * {@code TransformComponent.getInterpolatedPosition} for smooth motion
+     * with a fixed step; it is always 1 with a variable step.</p>
+     *
+     * @return a value in [0, 1]
+     */
+    protected float getRenderAlpha() {
+        return renderAlpha;
+    }
+
     /**
      * <p>Called when the window is resized. Does nothing by default.</p>
      *
@@ -117,8 +117,17 @@ public class SceneManager implements SceneNavigator {
 
     /** <p>Renders the current scene.</p> */
     public void render() {
+        render(1f);
+    }
+
+    /**
+     * <p>Renders the current scene at a point between two simulation steps.</p>
+     *
+     * @param alpha interpolation fraction from the previous step (0) to the latest (1)
+     */
+    public void render(float alpha) {
         Scene current = getCurrentScene();
-        if (current != null) current.render();
+        if (current != null) current.render(alpha);
     }
 
     /**
@@ -0,0 +1,56 @@
+package io.github.INF1009_P10_Team7.engine.utils;
+
+import com.badlogic.gdx.Gdx;
+
+/**
+ * EngineLog, the single logging entry point for engine managers.
+ *
+ * <p>Messages go to {@code Gdx.app} when a LibGDX application is running,
+ * and to standard out/err otherwise, so managers can be created and ticked
+ * without a backend (headless runs, tools). The level is global: batch
+ * simulations usually lower it to {@link Level#ERROR} so thousands of
+ * missions do not flood the console.</p>
+ */
+public final class EngineLog {
+
+    /** Most to least quiet; a message is printed when its level is at or below the current one. */
+    public enum Level { NONE, ERROR, INFO }
+
+    private static volatile Level level = Level.INFO;
+
+    private EngineLog() {}
+
+    public static void setLevel(Level newLevel) {
+        level = newLevel != null ? newLevel : Level.INFO;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * @return {@code true} if info messages are printed; check it before
+     *         building an expensive message on a hot path
+     */
+    public static boolean isInfoEnabled() {
+        return level.compareTo(Level.INFO) >= 0;
+    }
+
+    public static void info(String tag, String message) {
+        if (!isInfoEnabled()) return;
+        if (Gdx.app != null) {
+            Gdx.app.log(tag, message);
+        } else {
+            System.out.println("[" + tag + "] " + message);
+        }
+    }
+
+    public static void error(String tag, String message) {
+        if (level.compareTo(Level.ERROR) < 0) return;
+        if (Gdx.app != null) {
+            Gdx.app.error(tag, message);
+        } else {
+            System.err.println("[" + tag + "] " + message);
+        }
+    }
+}
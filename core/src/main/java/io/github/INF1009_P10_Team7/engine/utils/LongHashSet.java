@@ -0,0 +1,127 @@
+package io.github.INF1009_P10_Team7.engine.utils;
+
+import java.util.Arrays;
+
+/**
+ * LongHashSet, an open-addressing hash set of primitive {@code long} keys.
+ *
+ * <p>Used where a {@code HashSet<Long>} or {@code HashSet<String>} would
+ * box or build a key object on every insert (e.g. per-frame collision pair
+ * tracking). Keys live in a single {@code long[]} with linear probing, and
+ * {@link #clear()} keeps the table so a set can be refilled every frame
+ * without allocating.</p>
+ *
+ * <p>Removal is not supported; sets of this kind are rebuilt from scratch
+ * each frame instead.</p>
+ */
+public final class LongHashSet {
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    /** The sentinel value 0 is tracked separately so it can still be stored. */
+    private boolean containsZero;
+
+    /** Creates an empty set with a small initial capacity. */
+    public LongHashSet() {
+        this(32);
+    }
+
+    /**
+     * Creates an empty set sized for the expected number of keys.
+     *
+     * @param expectedSize number of keys expected before the first resize
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = 16;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds a key to the set.
+     *
+     * @param key the key to add
+     * @return {@code true} if the key was not already present
+     */
+    public boolean add(long key) {
+        if (key == EMPTY) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        // Keep the table at most half full
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        size++;
+        return true;
+    }
+
+    /**
+     * Checks whether a key is in the set.
+     *
+     * @param key the key to look up
+     * @return {@code true} if the key is present
+     */
+    public boolean contains(long key) {
+        if (key == EMPTY) return containsZero;
+
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY) {
+            if (keys[slot] == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /** @return the number of keys in the set */
+    public int size() {
+        return size;
+    }
+
+    /** @return {@code true} if the set has no keys */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes every key while keeping the allocated table. */
+    public void clear() {
+        if (size == 0) return;
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+        containsZero = false;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        keys = new long[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (long key : oldKeys) {
+            if (key == EMPTY) continue;
+            int slot = hash(key) & mask;
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+        }
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32);
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.INF1009_P10_Team7.headless;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+
+import io.github.INF1009_P10_Team7.cyber.headless.HeadlessMission;
+import io.github.INF1009_P10_Team7.engine.utils.EngineLog;
+
+/**
+ * HeadlessLauncher — batch entry point that plays missions without a window.
+ *
+ * <p>Starts LibGDX's headless backend (files and a mock GL for loading the
+ * level maps), then runs {@link HeadlessMission}s on a thread pool with a
+ * simple wandering bot and prints one line per mission plus a summary.</p>
+ *
+ * <p>Usage: {@code headless:run --args="[missions] [level] [threads] [maxSeconds]"}</p>
+ */
+public class HeadlessLauncher {
+
+    private static final float STEP = 1f / 60f;
+
+    public static void main(String[] args) {
+        final int missions   = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        final int level      = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        final int threads    = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        final int maxSeconds = args.length > 3 ? Integer.parseInt(args[3]) : 600;
+
+        HeadlessApplicationConfiguration configuration = new HeadlessApplicationConfiguration();
+        configuration.updatesPerSecond = -1; // render() is never called; all work happens in create()
+
+        new HeadlessApplication(new ApplicationAdapter() {
+            @Override
+            public void create() {
+                runMissions(missions, level, threads, maxSeconds);
+                Gdx.app.exit();
+            }
+        }, configuration);
+    }
+
+    private static void runMissions(int missions, int level, int threads, int maxSeconds) {
+        EngineLog.setLevel(EngineLog.Level.ERROR);
+        int maxTicks = (int) (maxSeconds / STEP);
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        List<Future<HeadlessMission.Result>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < missions; i++) {
+            final long seed = i;
+            futures.add(pool.submit(() -> {
+                HeadlessMission mission = new HeadlessMission(level, STEP, seed);
+                try {
+                    return mission.run(maxTicks, wanderingBot(seed));
+                } finally {
+                    mission.dispose();
+                }
+            }));
+        }
+
+        int victories = 0;
+        int failures = 0;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                HeadlessMission.Result result = futures.get(i).get();
+                if (result.victory) victories++;
+                System.out.println("mission " + i + " (seed " + i + "): " + result);
+            } catch (Exception e) {
+                failures++;
+                System.err.println("mission " + i + " failed: " + e);
+            }
+        }
+        pool.shutdown();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d missions, %d victories, %d errors in %.1f s%n",
+            missions, victories, failures, seconds);
+    }
+
+    /** Holds one random movement direction at a time, changing it every 0.5 to 2 seconds. */
+    private static HeadlessMission.IInputScript wanderingBot(long seed) {
+        final Random random = new Random(seed);
+        final int[] keys = { Input.Keys.W, Input.Keys.A, Input.Keys.S, Input.Keys.D };
+        final int[] nextChange = { 0 };
+        return (tick, keyboard, rawInput, scene) -> {
+            if (tick < nextChange[0]) return;
+            for (int key : keys) keyboard.setButton(key, false);
+            keyboard.setButton(keys[random.nextInt(keys.length)], true);
+            nextChange[0] = tick + 30 + random.nextInt(90);
+        };
+    }
+}